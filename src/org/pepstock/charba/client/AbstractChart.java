@@ -97,6 +97,10 @@ public abstract class AbstractChart<D extends Dataset> extends SimplePanel imple
 	private final DatasetItemFactory datasetItemFactory = new DatasetItemFactory();
 	// cursor defined when chart is created
 	private final Cursor initialCursor;
+	// chart node cached between layout passes
+	private ChartNode node = null;
+	// generation of the layout, incremented after every layout update
+	private int layoutGeneration = 0;
 
 	/**
 	 * Initializes simple panel and canvas which are used by CHART.JS.<br>
@@ -284,13 +288,48 @@ public abstract class AbstractChart<D extends Dataset> extends SimplePanel imple
 	}
 
 	/**
-	 * Returns the chart node with runtime data.
+	 * Returns the chart node with runtime data.<br>
+	 * The node is cached and reused until the layout of the chart is updated or the chart is resized.
 	 * 
 	 * @return the chart node.
 	 */
 	@Override
 	public final ChartNode getNode() {
-		return new ChartNode(Charts.getNative(id));
+		// gets the native chart instance
+		Chart instance = Charts.getNative(id);
+		// checks if the node is cached and wraps the same chart instance
+		if (node == null || !node.isWrapping(instance)) {
+			// creates new node
+			node = new ChartNode(instance);
+		}
+		return node;
+	}
+
+	/**
+	 * Returns the generation of the layout of the chart, incremented every time the layout of the chart has been updated.<br>
+	 * It can be used to check if the layout is changed, without accessing to the chart node.
+	 * 
+	 * @return the generation of the layout of the chart
+	 */
+	@Override
+	public final int getLayoutGeneration() {
+		return layoutGeneration;
+	}
+
+	/**
+	 * Increments the generation of the layout of the chart.<br>
+	 * Called after every layout update of the chart.
+	 */
+	final void incrementLayoutGeneration() {
+		layoutGeneration++;
+	}
+
+	/**
+	 * Invalidates the cached chart node, in order to create a new one at next {@link #getNode()} invocation.<br>
+	 * Called after every layout update and resize of the chart.
+	 */
+	final void invalidateNode() {
+		node = null;
 	}
 
 	/**
@@ -825,6 +864,11 @@ public abstract class AbstractChart<D extends Dataset> extends SimplePanel imple
 			// in order to be able to disable the canvas object handler plugin
 			// if required
 			configuration.setData(this, internalData);
+			// checks if the chart node handler is already added
+			if (!plugins.has(ChartNodeHandler.ID)) {
+				// adds the plugin to invalidate the cached chart node
+				plugins.add(ChartNodeHandler.get());
+			}
 			// sets plugins
 			configuration.setPlugins(this, plugins);
 			// fires that chart has been configured
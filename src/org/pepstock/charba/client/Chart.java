@@ -385,17 +385,45 @@ public final class Chart {
 	}
 
 	/**
-	 * Returns the CHARBA chart or <code>null</code> if CHARBA id is not present into CAHRT.JS chart options.
+	 * Sets the CHARBA chart instance which is attached to the CHART.JS chart in order to be able to get it without any lookup.
+	 * 
+	 * @param chart the CHARBA chart instance or <code>null</code> to detach it
+	 */
+	@JsProperty(name = "_charbaChart")
+	native void setAttachedChart(IsChart chart);
+
+	/**
+	 * Returns the CHARBA chart instance which is attached to the CHART.JS chart.
+	 * 
+	 * @return the CHARBA chart instance or <code>null</code> if not attached yet
+	 */
+	@JsProperty(name = "_charbaChart")
+	native IsChart getAttachedChart();
+
+	/**
+	 * Returns the CHARBA chart or <code>null</code> if CHARBA id is not present into CAHRT.JS chart options.<br>
+	 * After the initialization of the chart, the CHARBA chart is attached to the CHART.JS chart and it is returned by a single
+	 * property read.
 	 * 
 	 * @return the CHARBA chart or <code>null</code> if CHARBA id is not present into CAHRT.JS chart options
 	 */
 	@JsOverlay
 	public IsChart getChart() {
-		// gets charba id
+		// gets the attached chart
+		IsChart chart = getAttachedChart();
+		// checks if attached
+		if (chart != null) {
+			// checks the consistency of attached chart
+			// only when the assertions are enabled
+			assert Charts.isAttached(this, chart) : "The attached chart is not consistent with CHARBA id";
+			return chart;
+		}
+		// if here, the chart is not attached yet (before the initialization)
+		// then gets charba id
 		String charbaId = getCharbaId();
 		// checks if not null
 		if (charbaId != null) {
-			return Charts.get(Id.get(getOptions()));
+			return Charts.get(charbaId);
 		}
 		// if here, charba id is null
 		return null;
@@ -59,7 +59,7 @@ final class ChartHandlerManager extends HandlerManager {
 		// if the handler is a chart event handler one
 		if (handler instanceof ChartEventHandler) {
 			// sends the event
-			fireEvent(new AddHandlerEvent(type));
+			fireEvent(new AddHandlerEvent(type, handler));
 		}
 		// checks if is chart is a abstract chart instance
 		if (IsChart.isAbstractChart(chart)) {
@@ -86,7 +86,7 @@ final class ChartHandlerManager extends HandlerManager {
 		// if the handler is a chart event handler one
 		if (handler instanceof ChartEventHandler) {
 			// sends the event
-			fireEvent(new RemoveHandlerEvent(type));
+			fireEvent(new RemoveHandlerEvent(type, handler));
 		}
 	}
 }
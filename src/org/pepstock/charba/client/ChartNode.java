@@ -33,20 +33,20 @@ import org.pepstock.charba.client.utils.JSON;
  */
 public final class ChartNode {
 
-	// all sub elements
+	// all sub elements, created lazily
 	private final Chart chart;
 
-	private final OptionsNode options;
+	private OptionsNode options = null;
 
-	private final LegendNode legend;
+	private LegendNode legend = null;
 
-	private final ScalesNode scales;
+	private ScalesNode scales = null;
 
-	private final ChartAreaNode chartArea;
+	private ChartAreaNode chartArea = null;
 
-	private final TitleNode title;
+	private TitleNode title = null;
 
-	private final TooltipNode tooltip;
+	private TooltipNode tooltip = null;
 
 	private final boolean initialized;
 
@@ -59,13 +59,16 @@ public final class ChartNode {
 		this.chart = chart;
 		// sets if is initialized checking the CHART instance
 		initialized = chart != null;
-		// creates all sub elements
-		options = new OptionsNode(initialized ? chart.getOptions() : null);
-		legend = new LegendNode(initialized ? chart.getLegend() : null);
-		scales = new ScalesNode(initialized ? chart.getScales() : null);
-		chartArea = new ChartAreaNode(initialized ? chart.getChartArea() : null);
-		title = new TitleNode(initialized ? chart.getTitleBlock() : null);
-		tooltip = new TooltipNode(initialized ? chart.getTooltip() : null);
+	}
+
+	/**
+	 * Returns <code>true</code> if this node is wrapping the passed CHART instance.
+	 * 
+	 * @param chart CHART.JS CHART instance to check
+	 * @return <code>true</code> if this node is wrapping the passed CHART instance
+	 */
+	boolean isWrapping(Chart chart) {
+		return this.chart == chart;
 	}
 
 	/**
@@ -83,6 +86,10 @@ public final class ChartNode {
 	 * @return the options item.
 	 */
 	public OptionsNode getOptions() {
+		// checks if the sub element is already created
+		if (options == null) {
+			options = new OptionsNode(initialized ? chart.getOptions() : null);
+		}
 		return options;
 	}
 
@@ -92,6 +99,10 @@ public final class ChartNode {
 	 * @return the legend item.
 	 */
 	public LegendNode getLegend() {
+		// checks if the sub element is already created
+		if (legend == null) {
+			legend = new LegendNode(initialized ? chart.getLegend() : null);
+		}
 		return legend;
 	}
 
@@ -101,6 +112,10 @@ public final class ChartNode {
 	 * @return the scales item.
 	 */
 	public ScalesNode getScales() {
+		// checks if the sub element is already created
+		if (scales == null) {
+			scales = new ScalesNode(initialized ? chart.getScales() : null);
+		}
 		return scales;
 	}
 
@@ -110,6 +125,10 @@ public final class ChartNode {
 	 * @return the chart area item.
 	 */
 	public ChartAreaNode getChartArea() {
+		// checks if the sub element is already created
+		if (chartArea == null) {
+			chartArea = new ChartAreaNode(initialized ? chart.getChartArea() : null);
+		}
 		return chartArea;
 	}
 
@@ -119,6 +138,10 @@ public final class ChartNode {
 	 * @return the title item.
 	 */
 	public TitleNode getTitle() {
+		// checks if the sub element is already created
+		if (title == null) {
+			title = new TitleNode(initialized ? chart.getTitleBlock() : null);
+		}
 		return title;
 	}
 
@@ -128,6 +151,10 @@ public final class ChartNode {
 	 * @return the tooltip item.
 	 */
 	public TooltipNode getTooltip() {
+		// checks if the sub element is already created
+		if (tooltip == null) {
+			tooltip = new TooltipNode(initialized ? chart.getTooltip() : null);
+		}
 		return tooltip;
 	}
 
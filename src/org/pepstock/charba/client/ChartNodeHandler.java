@@ -0,0 +1,154 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.pepstock.charba.client.enums.PluginHook;
+import org.pepstock.charba.client.items.SizeItem;
+import org.pepstock.charba.client.plugins.AbstractPlugin;
+
+/**
+ * Internal plugin, added to all charts, which invalidates the chart node cached by the chart, every time the layout of the chart
+ * is updated or the chart has been resized, because CHART.JS could replace the native objects wrapped by the node.<br>
+ * The node is invalidated before the update and before and after the layout because the plugins registered globally are
+ * invoked before this one.<br>
+ * It increments also the generation of the layout of the chart, after every layout update.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class ChartNodeHandler extends AbstractPlugin {
+
+	// singleton instance
+	private static final ChartNodeHandler INSTANCE = new ChartNodeHandler();
+	// plugin ID
+	static final String ID = "charbachartnodehandler";
+	// set of hooks implemented by plugin
+	private static final Set<PluginHook> HOOKS = Collections.unmodifiableSet(
+			EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.BEFORE_LAYOUT, PluginHook.AFTER_LAYOUT, PluginHook.RESIZE, PluginHook.DESTROY));
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private ChartNodeHandler() {
+		// do nothing
+	}
+
+	/**
+	 * Returns the singleton instance of plugin.
+	 * 
+	 * @return the singleton instance of plugin
+	 */
+	static ChartNodeHandler get() {
+		return INSTANCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getId()
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return HOOKS;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onBeforeUpdate(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public boolean onBeforeUpdate(IsChart chart) {
+		invalidateNode(chart);
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onBeforeLayout(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public boolean onBeforeLayout(IsChart chart) {
+		invalidateNode(chart);
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onAfterLayout(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onAfterLayout(IsChart chart) {
+		invalidateNode(chart);
+		// checks if chart is consistent
+		if (chart instanceof AbstractChart) {
+			AbstractChart<?> internalChart = (AbstractChart<?>) chart;
+			// a new layout has been computed
+			internalChart.incrementLayoutGeneration();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onResize(org.pepstock.charba.client.IsChart,
+	 * org.pepstock.charba.client.items.SizeItem)
+	 */
+	@Override
+	public void onResize(IsChart chart, SizeItem size) {
+		invalidateNode(chart);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onDestroy(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onDestroy(IsChart chart) {
+		invalidateNode(chart);
+	}
+
+	/**
+	 * Invalidates the chart node cached by the chart.
+	 * 
+	 * @param chart chart instance
+	 */
+	private void invalidateNode(IsChart chart) {
+		// checks if chart is consistent and caches the node
+		if (chart instanceof AbstractChart) {
+			AbstractChart<?> internalChart = (AbstractChart<?>) chart;
+			// invalidates the node
+			internalChart.invalidateNode();
+		}
+	}
+}
@@ -105,9 +105,32 @@ public final class Charts {
 		if (chart != null && chart.getCharbaId() != null) {
 			// stores the chart
 			NATIVE_CHARTS_INSTANCES.put(chart.getCharbaId(), chart);
+			// attaches the chart instance to the native chart
+			// in order to resolve it without any lookup
+			chart.setAttachedChart(CHARTS_INSTANCES.get(chart.getCharbaId()));
 		}
 	}
 
+	/**
+	 * Checks if the chart instance, attached to the CHART.JS chart, is the same stored by CHARBA id.<br>
+	 * It is used only when the assertions are enabled, to check the consistency of the attached chart.
+	 * 
+	 * @param nativeChart CHART.JS chart instance
+	 * @param chart chart instance attached to CHART.JS chart
+	 * @return <code>true</code> if the attached chart instance is the same stored by CHARBA id
+	 */
+	static boolean isAttached(Chart nativeChart, IsChart chart) {
+		// checks if arguments are consistent
+		if (nativeChart != null && IsChart.isValid(chart)) {
+			// gets charba id
+			String charbaId = nativeChart.getCharbaId();
+			// checks if the same instance is stored by charba id
+			return charbaId != null && charbaId.equals(chart.getId()) && CHARTS_INSTANCES.get(charbaId) == chart;
+		}
+		// if here, arguments are not consistent
+		return false;
+	}
+
 	/**
 	 * Fires the notification to all listeners after chart init.
 	 * 
@@ -240,7 +263,12 @@ public final class Charts {
 		// checks if chart id is consistent
 		if (chartId != null) {
 			// removes also the native chart
-			NATIVE_CHARTS_INSTANCES.remove(chartId);
+			Chart nativeChart = NATIVE_CHARTS_INSTANCES.remove(chartId);
+			// checks if native chart is consistent
+			if (nativeChart != null) {
+				// detaches the chart instance
+				nativeChart.setAttachedChart(null);
+			}
 		}
 	}
 
@@ -17,9 +17,11 @@ package org.pepstock.charba.client;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.pepstock.charba.client.commons.ArrayObject;
 import org.pepstock.charba.client.commons.Key;
@@ -31,6 +33,7 @@ import org.pepstock.charba.client.controllers.Controllers;
 import org.pepstock.charba.client.defaults.chart.DefaultGlobalOptions;
 import org.pepstock.charba.client.defaults.globals.DefaultsBuilder;
 import org.pepstock.charba.client.enums.AxisType;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.events.ChartClickEvent;
 import org.pepstock.charba.client.events.ChartHoverEvent;
 import org.pepstock.charba.client.events.IsChartEvent;
@@ -70,6 +73,8 @@ public final class Defaults {
 	private final Map<String, ChartOptions> chartOptions = new HashMap<>();
 	// cache for scale options already implemented to improve performance
 	private final Map<String, GlobalScale> scaleOptions = new HashMap<>();
+	// cache of merged options by chart type
+	private final Map<String, MergedChartOptions> mergedChartOptions = new HashMap<>();
 	// controllers
 	private final Controllers controllers;
 
@@ -184,19 +189,48 @@ public final class Defaults {
 	 * <li>scale global options
 	 * <li>chart global options
 	 * </ul>
+	 * The merged options are cached by chart type and created again only when the global options, the scale global options,
+	 * the scale global options by axis type or the chart global options have been changed, checking their versions.
 	 * 
 	 * @param type chart type.
 	 * @return the chart options instance
 	 */
 	ChartOptions getChartOptions(Type type) {
+		// gets the chart global options
+		ChartOptions base = getOptions(type);
+		// gets the cached merged options
+		MergedChartOptions merged = mergedChartOptions.get(type.value());
+		// checks if the cached options are still valid
+		if (merged != null && merged.isValid(options, scale, getScalesVersion(), base)) {
+			return merged.getOptions();
+		}
 		// creates an envelop for options
 		OptionsEnvelop envelop = new OptionsEnvelop();
 		// load the envelop
 		Merger.get().load(type, envelop);
-		// returns a default option with all configuration
+		// creates a default option with all configuration
 		// it uses the default builder and the default scaled options
 		// because chart options is already a merge between global and chart global
-		return new ChartOptions(type, envelop.getNativeOptions(), DefaultsBuilder.get().getScaledOptions());
+		ChartOptions result = new ChartOptions(type, envelop.getNativeOptions(), DefaultsBuilder.get().getScaledOptions());
+		// stores into cache with the versions of the sources
+		mergedChartOptions.put(type.value(), new MergedChartOptions(result, options, scale, getScalesVersion(), base));
+		return result;
+	}
+
+	/**
+	 * Returns the sum of the versions of all scale global options by axis type.<br>
+	 * Because the versions are only incremented, the sum changes every time any scale global options by axis type has been
+	 * changed.
+	 * 
+	 * @return the sum of the versions of all scale global options by axis type
+	 */
+	private int getScalesVersion() {
+		int result = 0;
+		// scans all scale global options by axis type
+		for (GlobalScale storedScale : scaleOptions.values()) {
+			result += storedScale.getVersion();
+		}
+		return result;
 	}
 
 	/**
@@ -354,6 +388,63 @@ public final class Defaults {
 		}
 	}
 
+	/**
+	 * Cache item of the merged options of a chart type, with the versions of the sources used to merge them.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class MergedChartOptions {
+
+		// merged options
+		private final ChartOptions options;
+		// versions of the sources when the options have been merged
+		private final int globalVersion;
+		private final int scaleVersion;
+		private final int scalesVersion;
+		private final int chartVersion;
+
+		/**
+		 * Creates the cache item with the merged options and the sources used to merge them.
+		 * 
+		 * @param options merged options
+		 * @param global global options used to merge
+		 * @param scale scale global options used to merge
+		 * @param scalesVersion sum of the versions of the scale global options by axis type used to merge
+		 * @param chart chart global options used to merge
+		 */
+		MergedChartOptions(ChartOptions options, GlobalOptions global, GlobalScale scale, int scalesVersion, ChartOptions chart) {
+			this.options = options;
+			this.globalVersion = global.getVersion();
+			this.scaleVersion = scale.getVersion();
+			this.scalesVersion = scalesVersion;
+			this.chartVersion = chart.getVersion();
+		}
+
+		/**
+		 * Returns the merged options.
+		 * 
+		 * @return the merged options
+		 */
+		ChartOptions getOptions() {
+			return options;
+		}
+
+		/**
+		 * Returns <code>true</code> if the sources have not been changed since the options have been merged.
+		 * 
+		 * @param global global options
+		 * @param scale scale global options
+		 * @param scalesVersion sum of the versions of the scale global options by axis type
+		 * @param chart chart global options
+		 * @return <code>true</code> if the sources have not been changed since the options have been merged
+		 */
+		boolean isValid(GlobalOptions global, GlobalScale scale, int scalesVersion, ChartOptions chart) {
+			return globalVersion == global.getVersion() && scaleVersion == scale.getVersion() && this.scalesVersion == scalesVersion && chartVersion == chart.getVersion();
+		}
+
+	}
+
 	/**
 	 * Wrapper of {@link LegendItem} in order to get the native object.
 	 * 
@@ -480,6 +571,9 @@ public final class Defaults {
 	 */
 	private static class NativeChartHandler extends AbstractPlugin {
 
+		// set of hooks implemented by plugin
+		private static final Set<PluginHook> HOOKS = Collections.unmodifiableSet(EnumSet.of(PluginHook.AFTER_INIT));
+
 		/*
 		 * (non-Javadoc)
 		 * 
@@ -490,6 +584,16 @@ public final class Defaults {
 			return ID;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.pepstock.charba.client.Plugin#getHooks()
+		 */
+		@Override
+		public Set<PluginHook> getHooks() {
+			return HOOKS;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * 
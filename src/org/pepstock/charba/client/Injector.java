@@ -15,7 +15,10 @@
 */
 package org.pepstock.charba.client;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Set;
 
 import org.pepstock.charba.client.commons.Constants;
@@ -32,7 +35,11 @@ import com.google.gwt.resources.client.TextResource;
  * of GWT.<br>
  * It enables also to inject other script into web page, necessary when you want to use some Chart.JS plugins.<br>
  * It tracks the resources which have been injected using as key their name and class name to avoid that however will inject own
- * resources will use the same name of already injected resources.
+ * resources will use the same name of already injected resources. For text resources, the class name is replaced by the hash
+ * code of the text, because the same script can be provided by different resource types, like an inline text resource and an
+ * external one loaded in async mode, and it must be injected only once.<br>
+ * The key of every resource is computed only once and stored by resource instance, and the check if a resource is already
+ * injected is performed before creating any DOM element, therefore calling it many times is cheap.
  * 
  * @author Andrea "Stock" Stocchero
  * 
@@ -43,6 +50,8 @@ public final class Injector {
 	private static final String CHARBA_PREFIX_SCRIPT_ELEMENT_ID = "_charba_";
 	// contains all script object injected
 	private static final Set<String> ELEMENTS_INJECTED = new HashSet<>();
+	// registry of the keys of resources, by resource instance
+	private static final Map<ResourcePrototype, String> RESOURCES_KEYS = new IdentityHashMap<>();
 
 	/**
 	 * To avoid any instantiation
@@ -57,8 +66,8 @@ public final class Injector {
 	 * @param resource script resource
 	 */
 	public static void ensureInjected(ResourcePrototype resource) {
-		// checks if resource is consistent
-		if (resource != null) {
+		// checks if resource is consistent and not already injected
+		if (resource != null && !isInjected(resource)) {
 			// creates a script element
 			ScriptElement scriptElement = Document.get().createScriptElement();
 			// injects it into SCRIPT element
@@ -72,8 +81,8 @@ public final class Injector {
 	 * @param resource CSS style resource
 	 */
 	public static void ensureCssInjected(ResourcePrototype resource) {
-		// checks if resource is consistent
-		if (resource != null) {
+		// checks if resource is consistent and not already injected
+		if (resource != null && !isInjected(resource)) {
 			// creates a style element
 			StyleElement styleElement = Document.get().createStyleElement();
 			// injects it into STYLE element
@@ -81,15 +90,39 @@ public final class Injector {
 		}
 	}
 
+	/**
+	 * Returns <code>true</code> if the resource has been already injected.
+	 * 
+	 * @param resource resource to check
+	 * @return <code>true</code> if the resource has been already injected
+	 */
+	public static boolean isInjected(ResourcePrototype resource) {
+		// checks if resource is consistent
+		if (resource != null) {
+			return ELEMENTS_INJECTED.contains(getKey(resource));
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the unmodifiable set of the keys of all injected resources.<br>
+	 * The key is: [resource class name]_[resource name] or [resource name]_[text hash code] for text resources.
+	 * 
+	 * @return the unmodifiable set of the keys of all injected resources
+	 */
+	public static Set<String> getInjectedResources() {
+		return Collections.unmodifiableSet(ELEMENTS_INJECTED);
+	}
+
 	/**
 	 * Injects a script resource if not injected yet.
 	 * 
 	 * @param resource script resource
 	 */
 	private static void ensureInjected(ResourcePrototype resource, Element container) {
-		// creates a unique key for the resource
+		// gets the unique key for the resource
 		// to use to understand if is already injected
-		String resourceKey = createKey(resource);
+		String resourceKey = getKey(resource);
 		// checks if already injected
 		if (!ELEMENTS_INJECTED.contains(resourceKey)) {
 			if (resource instanceof TextResource) {
@@ -105,14 +138,41 @@ public final class Injector {
 		}
 	}
 
+	/**
+	 * Returns the unique key of the resource, by the registry of keys. If the resource is not in the registry, the key is
+	 * created and stored.
+	 * 
+	 * @param resource resource instance to get the key
+	 * @return a unique key for every single resource type
+	 */
+	private static String getKey(ResourcePrototype resource) {
+		// gets the key from registry
+		String resourceKey = RESOURCES_KEYS.get(resource);
+		// checks if key is already computed
+		if (resourceKey == null) {
+			// creates and stores the key
+			resourceKey = createKey(resource);
+			RESOURCES_KEYS.put(resource, resourceKey);
+		}
+		return resourceKey;
+	}
+
 	/**
 	 * Creates a unique key for every single resource type to be injected.<br>
-	 * The key is: [resource class name]_[resource name].
+	 * The key is: [resource class name]_[resource name] or [resource name]_[text hash code] for text resources, in order to
+	 * have the same key for the same text provided by different resource types.
 	 * 
 	 * @param resource resource instance to to create the key
 	 * @return a unique key for every single resource type
 	 */
 	private static final String createKey(ResourcePrototype resource) {
+		// checks if it is a text resource
+		if (resource instanceof TextResource) {
+			TextResource textResource = (TextResource) resource;
+			// uses the text as identity of the resource
+			// because the class depends on how the text has been loaded
+			return resource.getName() + Constants.UNDERSCORE + textResource.getText().hashCode();
+		}
 		return resource.getClass().getName() + Constants.UNDERSCORE + resource.getName();
 	}
 }
\ No newline at end of file
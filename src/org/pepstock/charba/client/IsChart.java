@@ -43,6 +43,11 @@ import com.google.gwt.event.shared.HasHandlers;
  */
 public interface IsChart extends HasHandlers {
 
+	/**
+	 * Value returned as generation of the layout by the charts which are not tracking the layout updates.
+	 */
+	int UNKNOWN_LAYOUT_GENERATION = -1;
+
 	/**
 	 * Returns <code>true</code> if chart passed as argument is not <code>null</code> and its id is not <code>null</code> as
 	 * well, and if mandatory methods of interface will return consistent instances.
@@ -192,6 +197,18 @@ public interface IsChart extends HasHandlers {
 	 */
 	ChartNode getNode();
 
+	/**
+	 * Returns the generation of the layout of the chart, incremented every time the layout of the chart has been updated.<br>
+	 * It can be used to check if the layout is changed, without accessing to the chart node.<br>
+	 * By default, it returns {@link IsChart#UNKNOWN_LAYOUT_GENERATION}, which means the chart is not tracking the layout updates.
+	 * 
+	 * @return the generation of the layout of the chart or {@link IsChart#UNKNOWN_LAYOUT_GENERATION} if the chart is not
+	 *         tracking the layout updates
+	 */
+	default int getLayoutGeneration() {
+		return UNKNOWN_LAYOUT_GENERATION;
+	}
+
 	/**
 	 * Returns the data object with all passed datasets.
 	 * 
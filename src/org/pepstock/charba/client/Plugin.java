@@ -15,6 +15,10 @@
 */
 package org.pepstock.charba.client;
 
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.events.ChartNativeEvent;
 import org.pepstock.charba.client.items.DatasetPluginItem;
 import org.pepstock.charba.client.items.SizeItem;
@@ -43,6 +47,18 @@ public interface Plugin {
 	 */
 	String getId();
 
+	/**
+	 * Returns the set of hooks which the plugin implements and which must be invoked by CHART.JS.<br>
+	 * The hooks not returned are not subscribed and then CHART.JS does not invoke them, avoiding the cost of the invocation
+	 * and of the creation of the arguments.<br>
+	 * By default, all hooks are subscribed.
+	 * 
+	 * @return the set of hooks which must be invoked by CHART.JS. If <code>null</code>, all hooks are subscribed.
+	 */
+	default Set<PluginHook> getHooks() {
+		return EnumSet.allOf(PluginHook.class);
+	}
+
 	/**
 	 * Called before initializing configuration of 'chart'.
 	 * 
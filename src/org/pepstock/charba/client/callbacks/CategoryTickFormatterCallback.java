@@ -0,0 +1,43 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.callbacks;
+
+import java.util.List;
+
+import org.pepstock.charba.client.configuration.Axis;
+import org.pepstock.charba.client.configuration.CartesianCategoryAxis;
+
+/**
+ * Interface to implement if wants to change all tick marks at once, for cartesian category axes.<br>
+ * Unlike {@link CategoryTickCallback}, it is invoked only once every time the ticks of the axis are updated, receiving all
+ * tick values and returning all labels.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see CartesianCategoryAxis
+ */
+public interface CategoryTickFormatterCallback {
+
+	/**
+	 * Changes all tick marks at once.
+	 * 
+	 * @param axis axis instance where this callback as been defined
+	 * @param values list of all tick values
+	 * @return the list of ticks to apply, by the same index of the values. If a tick is <code>null</code> the associated grid
+	 *         line will be hidden.
+	 */
+	List<String> onFormat(Axis axis, List<String> values);
+
+}
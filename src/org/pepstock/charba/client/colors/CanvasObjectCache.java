@@ -0,0 +1,261 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.colors;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.pepstock.charba.client.AbstractChartsLifecycleListener;
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.IsChart;
+
+/**
+ * Bounded cache of canvas objects (gradients, patterns, images), scoped by chart.<br>
+ * Every scope maintains at most a maximum amount of objects, evicting the least recently used ones. When the cache is bound to
+ * the charts life cycle, the scope of a chart is removed as soon as the chart is destroyed.<br>
+ * The objects which are not related to a specific chart are stored into a shared scope, using <code>null</code> as chart id.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ * @param <K> type of the key of the objects
+ * @param <V> type of the cached objects
+ */
+public final class CanvasObjectCache<K, V> {
+
+	/**
+	 * Default maximum amount of objects maintained for every scope, <b>{@value DEFAULT_MAX_SIZE}</b>.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 512;
+	/**
+	 * Maximum amount of objects to use when the scopes must not be bounded, <b>{@value UNBOUNDED_SIZE}</b>.
+	 */
+	public static final int UNBOUNDED_SIZE = Integer.MAX_VALUE;
+	// key of the shared scope
+	private static final String SHARED_SCOPE = "_charbaShared";
+	// maximum amount of objects for every scope
+	private final int maxSize;
+	// scopes of the cache
+	// K = chart id, V = objects of the chart
+	private final Map<String, Map<K, V>> scopes = new HashMap<>();
+	// statistics
+	private int hits = 0;
+	private int misses = 0;
+	private int evictions = 0;
+
+	/**
+	 * Creates a cache with the maximum amount of objects for every scope, not bound to the charts life cycle.
+	 * 
+	 * @param maxSize maximum amount of objects for every scope
+	 */
+	public CanvasObjectCache(int maxSize) {
+		this(maxSize, false);
+	}
+
+	/**
+	 * Creates a cache with the maximum amount of objects for every scope.
+	 * 
+	 * @param maxSize maximum amount of objects for every scope
+	 * @param boundToCharts if <code>true</code>, the scope of a chart is removed when the chart is destroyed
+	 */
+	public CanvasObjectCache(int maxSize, boolean boundToCharts) {
+		// checks if the size is consistent
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Maximum size argument is not greater than 0");
+		}
+		this.maxSize = maxSize;
+		// checks if must be bound to the charts life cycle
+		if (boundToCharts) {
+			// adds the listener to remove the scope when the chart is destroyed
+			Charts.addLifecycleListener(new AbstractChartsLifecycleListener() {
+
+				/*
+				 * (non-Javadoc)
+				 * 
+				 * @see org.pepstock.charba.client.AbstractChartsLifecycleListener#onAfterDestroy(org.pepstock.charba.client.IsChart)
+				 */
+				@Override
+				public void onAfterDestroy(IsChart chart) {
+					// checks if chart is consistent
+					if (IsChart.isValid(chart)) {
+						clear(chart.getId());
+					}
+				}
+
+			});
+		}
+	}
+
+	/**
+	 * Returns the object stored by the key for the chart or <code>null</code> if not cached.
+	 * 
+	 * @param chartId chart id or <code>null</code> for the shared scope
+	 * @param key key of the object
+	 * @return the object stored by the key or <code>null</code> if not cached
+	 */
+	public V get(String chartId, K key) {
+		// gets the scope
+		Map<K, V> scope = scopes.get(getScopeKey(chartId));
+		// gets the object, updating the access order
+		V result = scope != null ? scope.get(key) : null;
+		// updates statistics
+		if (result != null) {
+			hits++;
+		} else {
+			misses++;
+		}
+		return result;
+	}
+
+	/**
+	 * Stores the object by the key for the chart, evicting the least recently used object if the scope is full.
+	 * 
+	 * @param chartId chart id or <code>null</code> for the shared scope
+	 * @param key key of the object
+	 * @param value object to store. If <code>null</code>, the key is removed
+	 */
+	public void put(String chartId, K key, V value) {
+		// gets the scope key
+		String scopeKey = getScopeKey(chartId);
+		// checks if the value is consistent
+		if (value == null) {
+			// gets the scope to remove the key
+			Map<K, V> scope = scopes.get(scopeKey);
+			if (scope != null) {
+				scope.remove(key);
+			}
+			return;
+		}
+		// gets the scope
+		Map<K, V> scope = scopes.get(scopeKey);
+		if (scope == null) {
+			// creates the scope as LRU
+			scope = new LinkedHashMap<K, V>(16, 0.75F, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				/*
+				 * (non-Javadoc)
+				 * 
+				 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+				 */
+				@Override
+				protected boolean removeEldestEntry(Entry<K, V> eldest) {
+					// checks if the size is exceeded
+					if (size() > maxSize) {
+						// updates statistics
+						evictions++;
+						return true;
+					}
+					return false;
+				}
+
+			};
+			scopes.put(scopeKey, scope);
+		}
+		scope.put(key, value);
+	}
+
+	/**
+	 * Removes all objects of the chart.
+	 * 
+	 * @param chartId chart id or <code>null</code> for the shared scope
+	 */
+	public void clear(String chartId) {
+		scopes.remove(getScopeKey(chartId));
+	}
+
+	/**
+	 * Removes all objects of all scopes.
+	 */
+	public void clear() {
+		scopes.clear();
+	}
+
+	/**
+	 * Returns the amount of objects stored for the chart.
+	 * 
+	 * @param chartId chart id or <code>null</code> for the shared scope
+	 * @return the amount of objects stored for the chart
+	 */
+	public int size(String chartId) {
+		Map<K, V> scope = scopes.get(getScopeKey(chartId));
+		return scope != null ? scope.size() : 0;
+	}
+
+	/**
+	 * Returns <code>true</code> if there is not any object stored.
+	 * 
+	 * @return <code>true</code> if there is not any object stored
+	 */
+	public boolean isEmpty() {
+		// scans all scopes
+		for (Map<K, V> scope : scopes.values()) {
+			if (!scope.isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the maximum amount of objects for every scope.
+	 * 
+	 * @return the maximum amount of objects for every scope
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Returns the amount of requests which found the object into cache.
+	 * 
+	 * @return the amount of requests which found the object into cache
+	 */
+	public int getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns the amount of requests which did not find the object into cache.
+	 * 
+	 * @return the amount of requests which did not find the object into cache
+	 */
+	public int getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the amount of objects removed because the scope was full.
+	 * 
+	 * @return the amount of objects removed because the scope was full
+	 */
+	public int getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * Returns the key of the scope by chart id.
+	 * 
+	 * @param chartId chart id or <code>null</code> for the shared scope
+	 * @return the key of the scope
+	 */
+	private String getScopeKey(String chartId) {
+		return chartId != null ? chartId : SHARED_SCOPE;
+	}
+
+}
@@ -15,9 +15,6 @@
 */
 package org.pepstock.charba.client.colors;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.pepstock.charba.client.Charts;
 import org.pepstock.charba.client.IsChart;
 
@@ -40,13 +37,13 @@ import com.google.gwt.canvas.dom.client.Context2d;
  */
 public abstract class CanvasObjectFactory {
 
-	// cache for canvas gradients already created
-	// K = chart id, K = gradient id, V = canvas gradient
-	private static final Map<String, Map<Integer, CanvasGradient>> GRADIENTS = new HashMap<>();
+	// cache for canvas gradients already created, removed when the chart is destroyed
+	// scope = chart id, K = gradient id, V = canvas gradient
+	private static final CanvasObjectCache<Integer, CanvasGradient> GRADIENTS = new CanvasObjectCache<>(CanvasObjectCache.DEFAULT_MAX_SIZE, true);
 
-	// cache for canvas patterns already created
-	// K = chart id, K = pattern id, V = canvas pattern
-	private static final Map<String, Map<Integer, CanvasPattern>> PATTERNS = new HashMap<>();
+	// cache for canvas patterns already created, removed when the chart is destroyed
+	// scope = chart id, K = pattern id, V = canvas pattern
+	private static final CanvasObjectCache<Integer, CanvasPattern> PATTERNS = new CanvasObjectCache<>(CanvasObjectCache.DEFAULT_MAX_SIZE, true);
 
 	/**
 	 * To avoid any instantiation
@@ -66,26 +63,17 @@ public abstract class CanvasObjectFactory {
 	public final CanvasPattern createPattern(IsChart chart, Pattern pattern) {
 		// checks if arguments are consistent
 		checkArgumentsConsistency(chart, pattern);
-		// map instance
-		final Map<Integer, CanvasPattern> patternsMap;
 		// checks if the pattern is already created
-		if (PATTERNS.containsKey(chart.getId())) {
-			patternsMap = PATTERNS.get(chart.getId());
-			if (patternsMap.containsKey(pattern.getId())) {
-				// returns the existing canvas pattern
-				return patternsMap.get(pattern.getId());
-			}
-		} else {
-			// new chart!
-			// creates the cache for the chart
-			patternsMap = new HashMap<>();
-			PATTERNS.put(chart.getId(), patternsMap);
+		CanvasPattern existing = PATTERNS.get(chart.getId(), pattern.getId());
+		if (existing != null) {
+			// returns the existing canvas pattern
+			return existing;
 		}
 		// checks if canvas pattern already loaded
 		if (pattern.getCanvasPattern() != null) {
 			CanvasPattern result = pattern.getCanvasPattern();
 			// stores canvas pattern into cache
-			patternsMap.put(pattern.getId(), result);
+			PATTERNS.put(chart.getId(), pattern.getId(), result);
 			return result;
 		}
 		// gets canvas and context 2d
@@ -94,7 +82,7 @@ public abstract class CanvasObjectFactory {
 		// creates the pattern
 		CanvasPattern result = context.createPattern(pattern.getImage(), pattern.getRepetition());
 		// stores canvas pattern into cache
-		patternsMap.put(pattern.getId(), result);
+		PATTERNS.put(chart.getId(), pattern.getId(), result);
 		// returns result
 		return result;
 	}
@@ -107,7 +95,7 @@ public abstract class CanvasObjectFactory {
 	public final void resetGradients(IsChart chart) {
 		// checks if chart is consistent
 		if (IsChart.isValid(chart)) {
-			GRADIENTS.remove(chart.getId());
+			GRADIENTS.clear(chart.getId());
 		}
 	}
 
@@ -119,8 +107,8 @@ public abstract class CanvasObjectFactory {
 	public final void clear(IsChart chart) {
 		// checks if chart is consistent
 		if (IsChart.isValid(chart)) {
-			PATTERNS.remove(chart.getId());
-			GRADIENTS.remove(chart.getId());
+			PATTERNS.clear(chart.getId());
+			GRADIENTS.clear(chart.getId());
 		}
 	}
 
@@ -138,19 +126,10 @@ public abstract class CanvasObjectFactory {
 		// checks if arguments are consistent
 		checkArgumentsConsistency(chart, gradient);
 		// checks if the gradient is already created
-		final Map<Integer, CanvasGradient> gradientsMap;
-		// checks if the gradient is already created
-		if (GRADIENTS.containsKey(chart.getId())) {
-			gradientsMap = GRADIENTS.get(chart.getId());
-			if (gradientsMap.containsKey(gradient.getId())) {
-				// returns the existing canvas gradient
-				return gradientsMap.get(gradient.getId());
-			}
-		} else {
-			// new chart!
-			// creates the cache for the chart
-			gradientsMap = new HashMap<>();
-			GRADIENTS.put(chart.getId(), gradientsMap);
+		CanvasGradient existing = GRADIENTS.get(chart.getId(), gradient.getId());
+		if (existing != null) {
+			// returns the existing canvas gradient
+			return existing;
 		}
 		// checks if chart is initialized
 		if (chart.isInitialized() || Charts.hasNative(chart.getId())) {
@@ -172,7 +151,7 @@ public abstract class CanvasObjectFactory {
 					result.addColorStop(color.getOffset(), color.getColorAsString());
 				}
 				// stores canvas gradient into cache
-				gradientsMap.put(gradient.getId(), result);
+				GRADIENTS.put(chart.getId(), gradient.getId(), result);
 			}
 			// returns result
 			return result;
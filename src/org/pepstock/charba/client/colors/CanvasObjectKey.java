@@ -0,0 +1,89 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.colors;
+
+import org.pepstock.charba.client.commons.Key;
+
+/**
+ * Composite key to store canvas objects into a {@link CanvasObjectCache}, by a property and the dataset and data indexes,
+ * without creating any string.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class CanvasObjectKey {
+
+	// property of the key
+	private final String property;
+	// dataset index
+	private final int datasetIndex;
+	// data index
+	private final int index;
+	// hash code calculated once
+	private final int hashCode;
+
+	/**
+	 * Creates the key by a property and the dataset and data indexes.<br>
+	 * Where the indexes are not defined (negative values), 0 is used.
+	 * 
+	 * @param property property of the key
+	 * @param datasetIndex dataset index
+	 * @param index data index
+	 */
+	public CanvasObjectKey(Key property, int datasetIndex, int index) {
+		// checks if property is consistent
+		Key.checkIfValid(property);
+		this.property = property.value();
+		// uses the max with 0
+		// because where the dataset is not defined, the value is integer min value
+		this.datasetIndex = Math.max(datasetIndex, 0);
+		this.index = Math.max(index, 0);
+		// calculates the hash code
+		int result = 31 + this.property.hashCode();
+		result = 31 * result + this.datasetIndex;
+		this.hashCode = 31 * result + this.index;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		// checks if the same instance
+		if (this == obj) {
+			return true;
+		}
+		// checks if the same type
+		if (obj instanceof CanvasObjectKey) {
+			CanvasObjectKey other = (CanvasObjectKey) obj;
+			return hashCode == other.hashCode && datasetIndex == other.datasetIndex && index == other.index && property.equals(other.property);
+		}
+		return false;
+	}
+
+}
@@ -38,6 +38,10 @@ public final class Color implements IsColor {
 	private final int blue;
 	// alpha
 	private double alpha = DEFAULT_ALPHA;
+	// cached string representations, being the color immutable
+	private String rgba = null;
+	private String rgb = null;
+	private String hex = null;
 
 	/**
 	 * Creates the color with RGB values.
@@ -111,6 +115,48 @@ public final class Color implements IsColor {
 		return alpha;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.colors.IsColor#toRGBA()
+	 */
+	@Override
+	public String toRGBA() {
+		// checks if already created
+		if (rgba == null) {
+			rgba = ColorUtil.toRGB(this, true);
+		}
+		return rgba;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.colors.IsColor#toRGB()
+	 */
+	@Override
+	public String toRGB() {
+		// checks if already created
+		if (rgb == null) {
+			rgb = ColorUtil.toRGB(this, false);
+		}
+		return rgb;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.colors.IsColor#toHex()
+	 */
+	@Override
+	public String toHex() {
+		// checks if already created
+		if (hex == null) {
+			hex = ColorUtil.toHex(this);
+		}
+		return hex;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -15,8 +15,12 @@
 */
 package org.pepstock.charba.client.colors;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import com.google.gwt.regexp.shared.MatchResult;
 import com.google.gwt.regexp.shared.RegExp;
@@ -48,6 +52,99 @@ public final class ColorBuilder {
 	private static final RegExp REGEXP_HSL = RegExp.compile(REGEXP_HSL_PATTERN);
 	// REGEXP for HSLA
 	private static final RegExp REGEXP_HSLA = RegExp.compile(REGEXP_HSLA_PATTERN);
+	// max amount of parsed colors to maintain in cache
+	private static final int MAX_CACHED_COLORS = 256;
+	// cache of parsed colors, as LRU
+	// K = string to parse, V = color instance
+	private static final Map<String, IsColor> PARSED_COLORS = new LinkedHashMap<String, IsColor>(16, 0.75F, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Entry<String, IsColor> eldest) {
+			return size() > MAX_CACHED_COLORS;
+		}
+
+	};
+
+	/**
+	 * Lookup maps of enumerated colors, created at first usage because the enumerations are using this builder to create
+	 * their colors.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class EnumeratedColors {
+
+		// HTML colors by lower case name
+		private static final Map<String, HtmlColor> BY_NAME = new HashMap<>();
+		// HTML and GWT material colors by RGB value
+		private static final Map<Integer, IsColor> BY_RGB = new HashMap<>();
+
+		static {
+			// scans all HTML colors
+			for (HtmlColor color : HtmlColor.values()) {
+				BY_NAME.put(color.name().toLowerCase(), color);
+				// HTML colors have got the precedence
+				putIfAbsent(color);
+			}
+			// scans all GWT material colors
+			for (GwtMaterialColor color : GwtMaterialColor.values()) {
+				putIfAbsent(color);
+			}
+		}
+
+		/**
+		 * To avoid any instantiation
+		 */
+		private EnumeratedColors() {
+			// nothing
+		}
+
+		/**
+		 * Stores the color by its RGB value if not already stored.
+		 * 
+		 * @param color color to store
+		 */
+		private static void putIfAbsent(IsColor color) {
+			// gets the RGB key
+			Integer key = key(color.getRed(), color.getGreen(), color.getBlue());
+			// checks if already stored
+			if (!BY_RGB.containsKey(key)) {
+				BY_RGB.put(key, color);
+			}
+		}
+
+		/**
+		 * Returns the key of the color by red, green and blue channels.
+		 * 
+		 * @param r red channel
+		 * @param g green channel
+		 * @param b blue channel
+		 * @return the key of the color
+		 */
+		private static Integer key(int r, int g, int b) {
+			return (r << 16) | (g << 8) | b;
+		}
+
+		/**
+		 * Returns the enumerated color by red, green and blue channels or <code>null</code> if not exists.
+		 * 
+		 * @param r red channel
+		 * @param g green channel
+		 * @param b blue channel
+		 * @return the enumerated color or <code>null</code> if not exists
+		 */
+		private static IsColor get(int r, int g, int b) {
+			return BY_RGB.get(key(r, g, b));
+		}
+
+	}
 
 	/**
 	 * To avoid any instantiation
@@ -86,18 +183,11 @@ public final class ColorBuilder {
 	 */
 	public static IsColor build(int r, int g, int b) {
 		// checks if already exists the required color
-		// into enum HTML color
-		for (HtmlColor color : HtmlColor.values()) {
-			// if equals returns the enum item
-			if (color.getRed() == r && color.getGreen() == g && color.getBlue() == b) {
-				return color;
-			}
-		}
-		for (GwtMaterialColor color : GwtMaterialColor.values()) {
-			// if equals returns the enum item
-			if (color.getRed() == r && color.getGreen() == g && color.getBlue() == b) {
-				return color;
-			}
+		// into enum HTML or GWT material colors
+		IsColor color = EnumeratedColors.get(r, g, b);
+		// if exists returns the enum item
+		if (color != null) {
+			return color;
 		}
 		// if here, the required color doesn't exist
 		// creates new color
@@ -114,33 +204,51 @@ public final class ColorBuilder {
 	public static IsColor parse(String value) {
 		// checks if the value is consistent
 		if (value != null) {
-			// removes blanks to be able to check
-			// if starting with a specific label
-			String newValue = value.trim();
-			// checks which type of color is passed
-			if (newValue.startsWith(ColorUtil.HEX_STARTING_CHAR)) {
-				// is a HEX
-				return buildByHexValue(newValue);
-			} else if (value.startsWith(ColorUtil.RGBA_STARTING_CHARS)) {
-				// is a RGBA. It must be checked before RGB
-				return buildByRGBAValue(newValue);
-			} else if (value.startsWith(ColorUtil.RGB_STARTING_CHARS)) {
-				// is a RGB
-				return buildByRGBValue(newValue);
-			} else if (value.startsWith(ColorUtil.HSLA_STARTING_CHARS)) {
-				// is a HSLA. It must be checked before HSL
-				return buildByHSLAValue(newValue);
-			} else if (value.startsWith(ColorUtil.HSL_STARTING_CHARS)) {
-				// is a HSL
-				return buildByHSLValue(newValue);
-			} else {
-				// search by color name
-				for (HtmlColor color : HtmlColor.values()) {
-					if (color.name().equalsIgnoreCase(newValue)) {
-						return color;
-					}
-				}
+			// checks if the value has been already parsed
+			IsColor color = PARSED_COLORS.get(value);
+			if (color == null) {
+				// parses and stores the color
+				color = parseValue(value);
+				PARSED_COLORS.put(value, color);
 			}
+			return color;
+		}
+		// if here, the string argument is not valid
+		throw new IllegalArgumentException("Color argument is invalid");
+	}
+
+	/**
+	 * Returns a color parsing the string value passed as argument.<br>
+	 * It's able to parse HEX, RGB, RGBA and named color representation.
+	 * 
+	 * @param value value to parse, not <code>null</code>
+	 * @return color instance
+	 */
+	private static IsColor parseValue(String value) {
+		// removes blanks to be able to check
+		// if starting with a specific label
+		String newValue = value.trim();
+		// checks which type of color is passed
+		if (newValue.startsWith(ColorUtil.HEX_STARTING_CHAR)) {
+			// is a HEX
+			return buildByHexValue(newValue);
+		} else if (value.startsWith(ColorUtil.RGBA_STARTING_CHARS)) {
+			// is a RGBA. It must be checked before RGB
+			return buildByRGBAValue(newValue);
+		} else if (value.startsWith(ColorUtil.RGB_STARTING_CHARS)) {
+			// is a RGB
+			return buildByRGBValue(newValue);
+		} else if (value.startsWith(ColorUtil.HSLA_STARTING_CHARS)) {
+			// is a HSLA. It must be checked before HSL
+			return buildByHSLAValue(newValue);
+		} else if (value.startsWith(ColorUtil.HSL_STARTING_CHARS)) {
+			// is a HSL
+			return buildByHSLValue(newValue);
+		}
+		// search by color name
+		HtmlColor color = EnumeratedColors.BY_NAME.get(newValue.toLowerCase());
+		if (color != null) {
+			return color;
 		}
 		// if here, the string argument is not valid
 		throw new IllegalArgumentException("Color argument is invalid");
@@ -157,17 +265,11 @@ public final class ColorBuilder {
 	 */
 	private static IsColor build(int r, int g, int b, double alpha) {
 		// checks if already exists the required color
-		// into enum HTML color with alpha
-		for (HtmlColor color : HtmlColor.values()) {
-			if (color.getRed() == r && color.getGreen() == g && color.getBlue() == b) {
-				return color.alpha(alpha);
-			}
-		}
-		for (GwtMaterialColor color : GwtMaterialColor.values()) {
-			// if equals returns the enum item
-			if (color.getRed() == r && color.getGreen() == g && color.getBlue() == b) {
-				return color.alpha(alpha);
-			}
+		// into enum HTML or GWT material colors with alpha
+		IsColor color = EnumeratedColors.get(r, g, b);
+		// if exists returns the enum item with alpha
+		if (color != null) {
+			return color.alpha(alpha);
 		}
 		// creates a new color
 		return new Color(r, g, b, alpha);
@@ -203,7 +305,7 @@ public final class ColorBuilder {
 			String blueValue = newHexvalue.substring(2) + newHexvalue.substring(2);
 			int blue = Integer.parseInt(blueValue, 16);
 			// builds color
-			return build(red, green, blue);
+			return searchOnEnum ? build(red, green, blue) : new Color(red, green, blue, Color.DEFAULT_ALPHA);
 		} else if (newHexvalue.length() == 6) {
 			// checks if the HEX value
 			// reads colors
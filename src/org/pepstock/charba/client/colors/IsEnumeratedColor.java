@@ -77,4 +77,43 @@ interface IsEnumeratedColor extends IsColor {
 		IsColor.checkIfValid(getColor());
 		return getColor().getAlpha();
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.colors.IsColor#toRGBA()
+	 */
+	@Override
+	default String toRGBA() {
+		// check if color instance is consistent
+		IsColor.checkIfValid(getColor());
+		// uses the string cached by the color instance
+		return getColor().toRGBA();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.colors.IsColor#toRGB()
+	 */
+	@Override
+	default String toRGB() {
+		// check if color instance is consistent
+		IsColor.checkIfValid(getColor());
+		// uses the string cached by the color instance
+		return getColor().toRGB();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.colors.IsColor#toHex()
+	 */
+	@Override
+	default String toHex() {
+		// check if color instance is consistent
+		IsColor.checkIfValid(getColor());
+		// uses the string cached by the color instance
+		return getColor().toHex();
+	}
 }
@@ -15,10 +15,9 @@
 */
 package org.pepstock.charba.client.colors.tiles;
 
-import java.util.HashMap;
 import java.util.Locale;
-import java.util.Map;
 
+import org.pepstock.charba.client.colors.CanvasObjectCache;
 import org.pepstock.charba.client.colors.IsColor;
 import org.pepstock.charba.client.colors.Pattern;
 import org.pepstock.charba.client.commons.Constants;
@@ -45,11 +44,12 @@ public final class TilesFactory {
 	// static instance for singleton
 	private static final TilesFactory INSTANCE = new TilesFactory();
 	// cache of canvas patterns to avoid to create the same canvas pattern if already used
-	private static final Map<String, CanvasPattern> CANVAS_PATTERNS = new HashMap<>();
+	// shared by all charts, bounded
+	private static final CanvasObjectCache<String, CanvasPattern> CANVAS_PATTERNS = new CanvasObjectCache<>(CanvasObjectCache.DEFAULT_MAX_SIZE);
 	// message to show when the browser can't support canvas
 	private static final String CANVAS_NOT_SUPPORTED_MESSAGE = "Ops... Canvas element is not supported...";
-	// cache of canvas patterns to avoid to create the same canvas pattern if already used
-	private static final Map<String, String> HTML_LEGEND_ITEMS = new HashMap<>();
+	// cache of point style pictures of HTML legend items, scoped by chart and removed when the chart is destroyed
+	private static final CanvasObjectCache<String, String> HTML_LEGEND_ITEMS = new CanvasObjectCache<>(CanvasObjectCache.DEFAULT_MAX_SIZE, true);
 	// string format to trim blanks
 	private static final String REGEXP_TRIM_SPACES_PATTERN = "\\s+";
 	// regexp instance to trim blanks
@@ -410,14 +410,15 @@ public final class TilesFactory {
 		keyBuilder.append(backgroundColor).append(shapeColor).append(size);
 		String key = REGEXP_TRIM_SPACES.replace(keyBuilder.toString(), Constants.EMPTY_STRING).toLowerCase(Locale.getDefault());
 		// checks if the canvas pattern is already created with those parameters
-		if (CANVAS_PATTERNS.containsKey(key)) {
+		CanvasPattern existing = CANVAS_PATTERNS.get(null, key);
+		if (existing != null) {
 			// if yes returns the cached one
-			return CANVAS_PATTERNS.get(key);
+			return existing;
 		}
 		// creates a canvas pattern
 		CanvasPattern pattern = shapeParam.getDrawer().createTile(INSTANCE.canvas, backgroundColorParam, shapeColorParam, sizeParam);
 		// stores it into cache
-		CANVAS_PATTERNS.put(key, pattern);
+		CANVAS_PATTERNS.put(null, key, pattern);
 		return pattern;
 	}
 
@@ -439,9 +440,12 @@ public final class TilesFactory {
 		if (htmlLegendItem != null && htmlLegendItem.getLegendItem() != null && !htmlLegendItem.getLegendItem().isPointStyleAsImage()) {
 			// gets unique key
 			String key = htmlLegendItem.toUniqueKey();
+			// gets the chart id as scope of cache
+			String chartId = htmlLegendItem.getChart().getId();
 			// checks if item is cached
-			if (key != null && HTML_LEGEND_ITEMS.containsKey(key)) {
-				return HTML_LEGEND_ITEMS.get(key);
+			String existing = key != null ? HTML_LEGEND_ITEMS.get(chartId, key) : null;
+			if (existing != null) {
+				return existing;
 			}
 			// gets point style
 			PointStyle pointStyle = htmlLegendItem.getLegendItem().getPointStyle();
@@ -454,7 +458,7 @@ public final class TilesFactory {
 				// invokes the drawing of the point style
 				String result = pointStyleShape.drawTile(INSTANCE.canvas, htmlLegendItem);
 				// stores it into cache
-				HTML_LEGEND_ITEMS.put(key, result);
+				HTML_LEGEND_ITEMS.put(chartId, key, result);
 				return result;
 			}
 		}
@@ -471,9 +475,8 @@ public final class TilesFactory {
 	public static void clearHtmlLegendItems(HtmlLegendItem htmlLegendItem) {
 		// checks if html legend item is consistent
 		if (htmlLegendItem != null) {
-			// scans items by key
-			// remove by key
-			HTML_LEGEND_ITEMS.keySet().removeIf(key -> key.startsWith(htmlLegendItem.getChart().getId()));
+			// removes the scope of the chart
+			HTML_LEGEND_ITEMS.clear(htmlLegendItem.getChart().getId());
 		}
 	}
 
@@ -35,6 +35,8 @@ abstract class AbstractArrayList<E, A extends Array> implements List<E> {
 	static final String UNABLE_COPY_ARRAY_MESSAGE = "Unable to copy into an array";
 	// constants to use for index of and last index of when not found
 	static final int NOT_FOUND = -1;
+	// object which owns the array, to notify changes
+	private NativeObjectContainer owner = null;
 
 	/**
 	 * Returns the array native object instance.
@@ -216,4 +218,33 @@ abstract class AbstractArrayList<E, A extends Array> implements List<E> {
 	protected final boolean checkRange(int index) {
 		return index >= 0 && index < getArray().length();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Sets the object which owns the array wrapped by this list, in order to notify it when the list is changed.
+	 * 
+	 * @param owner the object which owns the array wrapped by this list
+	 */
+	void setOwner(NativeObjectContainer owner) {
+		this.owner = owner;
+	}
+
+	/**
+	 * Returns the object which owns the array wrapped by this list.
+	 * 
+	 * @return the object which owns the array wrapped by this list or <code>null</code> if not set
+	 */
+	final NativeObjectContainer getOwner() {
+		return owner;
+	}
+
+	/**
+	 * Notifies the owner of the array, if set, that the list has been changed.
+	 */
+	final void changed() {
+		// checks if there is an owner
+		if (owner != null) {
+			// notifies the owner
+			owner.boundChanged();
+		}
+	}
+}
@@ -270,7 +270,53 @@ public final class ArrayDouble extends Array {
 	 */
 	@JsOverlay
 	public double get(int index) {
-		return slice(index, index + 1).pop();
+		return JsHelper.get().elementAt(this, index);
+	}
+
+	/**
+	 * Returns a new array of <code>double</code> with all elements of this array, copied by a single native invocation.
+	 * 
+	 * @return a new array of <code>double</code> with all elements of this array
+	 */
+	@JsOverlay
+	public double[] toDoubleArray() {
+		// creates the result with the same length
+		double[] result = new double[length()];
+		// copies all elements
+		JsHelper.get().copy(this, result);
+		return result;
+	}
+
+	/**
+	 * Replaces all elements of this array with the passed values, copied by a single native invocation.<br>
+	 * If the argument is <code>null</code>, the array will be empty after this call returns.
+	 * 
+	 * @param values values to be stored into this array
+	 */
+	@JsOverlay
+	void setAll(double... values) {
+		// checks if argument is consistent
+		if (values != null) {
+			// copies all elements
+			JsHelper.get().copy(values, this);
+		} else {
+			// if here, argument is not consistent
+			// then removes all elements
+			clear();
+		}
+	}
+
+	/**
+	 * Appends the passed values to the end of this array and then removes the oldest elements, by a single native invocation,
+	 * in order to have a length not greater than the window size.
+	 * 
+	 * @param windowSize the maximum length of this array. If 0 or negative, no element is removed.
+	 * @param values values to be appended to this array
+	 * @return the amount of removed elements
+	 */
+	@JsOverlay
+	int slide(int windowSize, double... values) {
+		return JsHelper.get().slide(this, values, windowSize);
 	}
 
 	/**
@@ -308,6 +354,6 @@ public final class ArrayDouble extends Array {
 	 */
 	@JsOverlay
 	void set(int index, double item) {
-		fill(item, index, index + 1);
+		JsHelper.get().setElementAt(this, index, item);
 	}
 }
\ No newline at end of file
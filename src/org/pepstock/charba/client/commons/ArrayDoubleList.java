@@ -81,6 +81,51 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 		}
 	}
 
+	/**
+	 * Replaces all elements of this list with the passed values, copied into the native array by a single invocation.<br>
+	 * If the argument is <code>null</code>, the list will be empty after this call returns.
+	 * 
+	 * @param values an array of elements to be stored
+	 */
+	public void setAll(double... values) {
+		// replaces the elements of array
+		array.setAll(values);
+		// notifies the change
+		changed();
+	}
+
+	/**
+	 * Appends the passed values to the end of this list and then removes the oldest elements, in order to have a size not
+	 * greater than the window size.<br>
+	 * Both operations are performed by a single native invocation.
+	 * 
+	 * @param windowSize the maximum size of this list. If 0 or negative, no element is removed.
+	 * @param values values to be appended to this list
+	 * @return the amount of removed elements
+	 */
+	public int push(int windowSize, double... values) {
+		// checks if arguments are consistent
+		if (values != null && values.length > 0) {
+			// appends and removes the exceeding elements
+			int removed = array.slide(windowSize, values);
+			// notifies the change
+			changed();
+			return removed;
+		}
+		// if here, nothing to append
+		return 0;
+	}
+
+	/**
+	 * Returns a new array of <code>double</code> with all elements of this list, copied from the native array by a single
+	 * invocation.
+	 * 
+	 * @return a new array of <code>double</code> with all elements of this list
+	 */
+	public double[] toDoubleArray() {
+		return array.toDoubleArray();
+	}
+
 	/**
 	 * Appends the specified element to the end of this list
 	 */
@@ -90,6 +135,8 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 		if (element != null) {
 			// adds element to array
 			array.push(element);
+			// notifies the change
+			changed();
 			return true;
 		}
 		// if here, not added
@@ -157,6 +204,8 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 	@Override
 	public void clear() {
 		array.clear();
+		// notifies the change
+		changed();
 	}
 
 	/**
@@ -183,6 +232,8 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 			Double old = array.get(index);
 			// replaces with new element
 			array.set(index, element);
+			// notifies the change
+			changed();
 			// returns old
 			return old;
 		}
@@ -200,6 +251,8 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 		if (element != null) {
 			// inserts into array
 			array.insertAt(index, element);
+			// notifies the change
+			changed();
 		}
 	}
 
@@ -212,6 +265,8 @@ public final class ArrayDoubleList extends AbstractArrayList<Double, ArrayDouble
 	public Double remove(int index) {
 		// checks range
 		if (checkRange(index)) {
+			// notifies the change
+			changed();
 			return array.remove(index);
 		}
 		return Double.NaN;
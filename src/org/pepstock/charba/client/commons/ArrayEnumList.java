@@ -97,6 +97,8 @@ public final class ArrayEnumList<E extends Key> extends AbstractArrayContainerLi
 		if (Key.isValid(element)) {
 			// adds element
 			array.push(element.value());
+			// notifies the change
+			changed();
 			return true;
 		}
 		// if here, element is not consistent
@@ -110,6 +112,8 @@ public final class ArrayEnumList<E extends Key> extends AbstractArrayContainerLi
 	@Override
 	public void clear() {
 		array.clear();
+		// notifies the change
+		changed();
 	}
 
 	/**
@@ -138,6 +142,8 @@ public final class ArrayEnumList<E extends Key> extends AbstractArrayContainerLi
 			E oldValue = getByName(old);
 			// replaces with new element
 			array.set(index, element.value());
+			// notifies the change
+			changed();
 			// returns old
 			return oldValue;
 		}
@@ -154,6 +160,8 @@ public final class ArrayEnumList<E extends Key> extends AbstractArrayContainerLi
 		// checks if element is consistent
 		if (Key.isValid(element)) {
 			array.insertAt(index, element.value());
+			// notifies the change
+			changed();
 		}
 	}
 
@@ -167,6 +175,8 @@ public final class ArrayEnumList<E extends Key> extends AbstractArrayContainerLi
 		// checks range
 		if (checkRange(index)) {
 			String value = array.remove(index);
+			// notifies the change
+			changed();
 			return getByName(value);
 		}
 		return null;
@@ -95,6 +95,8 @@ public final class ArrayImageList extends AbstractArrayList<ImageElement, ArrayI
 		if (element != null) {
 			// adds element
 			array.push(element);
+			// notifies the change
+			changed();
 			return true;
 		}
 		// if here, element is not consistent
@@ -163,6 +165,8 @@ public final class ArrayImageList extends AbstractArrayList<ImageElement, ArrayI
 	@Override
 	public void clear() {
 		array.clear();
+		// notifies the change
+		changed();
 	}
 
 	/**
@@ -189,6 +193,8 @@ public final class ArrayImageList extends AbstractArrayList<ImageElement, ArrayI
 			ImageElement old = array.get(index);
 			// replaces with new element
 			array.set(index, element);
+			// notifies the change
+			changed();
 			// returns old
 			return old;
 		}
@@ -205,6 +211,8 @@ public final class ArrayImageList extends AbstractArrayList<ImageElement, ArrayI
 		// checks if element is consistent
 		if (element != null) {
 			array.insertAt(index, element);
+			// notifies the change
+			changed();
 		}
 	}
 
@@ -217,6 +225,8 @@ public final class ArrayImageList extends AbstractArrayList<ImageElement, ArrayI
 	public ImageElement remove(int index) {
 		// checks range
 		if (checkRange(index)) {
+			// notifies the change
+			changed();
 			return array.remove(index);
 		}
 		return UndefinedValues.IMAGE_ELEMENT;
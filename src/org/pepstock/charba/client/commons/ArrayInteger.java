@@ -270,7 +270,7 @@ public final class ArrayInteger extends Array {
 	 */
 	@JsOverlay
 	public int get(int index) {
-		return slice(index, index + 1).pop();
+		return JsHelper.get().elementAt(this, index);
 	}
 
 	/**
@@ -308,6 +308,6 @@ public final class ArrayInteger extends Array {
 	 */
 	@JsOverlay
 	void set(int index, int item) {
-		fill(item, index, index + 1);
+		JsHelper.get().setElementAt(this, index, item);
 	}
 }
\ No newline at end of file
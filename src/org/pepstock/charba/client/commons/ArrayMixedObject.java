@@ -160,7 +160,7 @@ public final class ArrayMixedObject extends Array {
 	 */
 	@JsOverlay
 	public Object get(int index) {
-		return slice(index, index + 1).pop();
+		return JsHelper.get().elementAt(this, index);
 	}
 
 	/**
@@ -179,6 +179,19 @@ public final class ArrayMixedObject extends Array {
 	 */
 	public native void push(Object item);
 
+	/**
+	 * Appends the passed elements to the end of this array and then removes the oldest elements, by a single native
+	 * invocation, in order to have a length not greater than the window size.
+	 * 
+	 * @param windowSize the maximum length of this array. If 0 or negative, no element is removed.
+	 * @param items elements to be appended to this array
+	 * @return the amount of removed elements
+	 */
+	@JsOverlay
+	public int slide(int windowSize, Object... items) {
+		return JsHelper.get().slide(this, items, windowSize);
+	}
+
 	/**
 	 * Removes the last element from an array and returns that element. This method changes the length of the array.
 	 * 
@@ -197,6 +210,6 @@ public final class ArrayMixedObject extends Array {
 	 */
 	@JsOverlay
 	void set(int index, Object item) {
-		fill(item, index, index + 1);
+		JsHelper.get().setElementAt(this, index, item);
 	}
 }
\ No newline at end of file
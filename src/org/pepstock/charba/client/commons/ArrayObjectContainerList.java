@@ -82,6 +82,48 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 		return array;
 	}
 
+	/**
+	 * Sets the object which owns the array wrapped by this list, binding to it also all elements of the list, in order to
+	 * notify it when the list or an element of the list is changed.
+	 * 
+	 * @param owner the object which owns the array wrapped by this list
+	 */
+	@Override
+	void setOwner(NativeObjectContainer owner) {
+		super.setOwner(owner);
+		// scans all elements
+		for (E element : delegate) {
+			// binds the element
+			bind(element);
+		}
+	}
+
+	/**
+	 * Binds the element to the owner of the list, if set.
+	 * 
+	 * @param element element to bind
+	 */
+	private void bind(E element) {
+		// checks if the list has got an owner
+		if (getOwner() != null) {
+			// binds the element
+			element.setOwner(getOwner());
+		}
+	}
+
+	/**
+	 * Unbinds the element from the owner of the list, if bound to it.
+	 * 
+	 * @param element element to unbind
+	 */
+	private void unbind(E element) {
+		// checks if the element is bound to the owner of the list
+		if (element != null && getOwner() != null && element.getOwner() == getOwner()) {
+			// unbinds the element
+			element.setOwner(null);
+		}
+	}
+
 	/**
 	 * Loads an array of elements into the list
 	 * 
@@ -143,6 +185,10 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 			if (added) {
 				// adds to JS array
 				array.push(element.getNativeObject());
+				// binds the element
+				bind(element);
+				// notifies the change
+				changed();
 			}
 			return added;
 		}
@@ -169,8 +215,15 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 	 */
 	@Override
 	public void clear() {
+		// scans all elements
+		for (E element : delegate) {
+			// unbinds the element
+			unbind(element);
+		}
 		delegate.clear();
 		array.clear();
+		// notifies the change
+		changed();
 	}
 
 	/**
@@ -197,6 +250,11 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 			E old = delegate.set(index, element);
 			// sets on JS array
 			array.set(index, element.getNativeObject());
+			// unbinds the old element and binds the new one
+			unbind(old);
+			bind(element);
+			// notifies the change
+			changed();
 			// returns old value
 			return old;
 		}
@@ -215,6 +273,10 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 			// adds element
 			delegate.add(index, element);
 			array.insertAt(index, element.getNativeObject());
+			// binds the element
+			bind(element);
+			// notifies the change
+			changed();
 		}
 	}
 
@@ -231,6 +293,10 @@ public final class ArrayObjectContainerList<E extends NativeObjectContainer> ext
 			E old = delegate.remove(index);
 			// removes from JS array
 			array.remove(index);
+			// unbinds the element
+			unbind(old);
+			// notifies the change
+			changed();
 			// returns old value
 			return old;
 		}
@@ -91,6 +91,8 @@ public final class ArrayObjectList extends AbstractArrayList<NativeObject, Array
 		if (element != null) {
 			// adds to JS array
 			array.push(element);
+			// notifies the change
+			changed();
 			return true;
 		}
 		// if here, element is not consistent
@@ -157,6 +159,8 @@ public final class ArrayObjectList extends AbstractArrayList<NativeObject, Array
 	@Override
 	public void clear() {
 		array.clear();
+		// notifies the change
+		changed();
 	}
 
 	/**
@@ -183,6 +187,8 @@ public final class ArrayObjectList extends AbstractArrayList<NativeObject, Array
 			NativeObject old = array.get(index);
 			// replaces with new element
 			array.set(index, element);
+			// notifies the change
+			changed();
 			// returns old
 			return old;
 		}
@@ -200,6 +206,8 @@ public final class ArrayObjectList extends AbstractArrayList<NativeObject, Array
 		if (element != null) {
 			// adds element
 			array.insertAt(index, element);
+			// notifies the change
+			changed();
 		}
 	}
 
@@ -212,6 +220,8 @@ public final class ArrayObjectList extends AbstractArrayList<NativeObject, Array
 	public NativeObject remove(int index) {
 		// checks range
 		if (checkRange(index)) {
+			// notifies the change
+			changed();
 			return array.remove(index);
 		}
 		return null;
@@ -372,7 +372,7 @@ public final class ArrayString extends Array {
 	 */
 	@JsOverlay
 	public String get(int index) {
-		return slice(index, index + 1).pop();
+		return JsHelper.get().elementAt(this, index);
 	}
 
 	/**
@@ -410,6 +410,6 @@ public final class ArrayString extends Array {
 	 */
 	@JsOverlay
 	void set(int index, String item) {
-		fill(item, index, index + 1);
+		JsHelper.get().setElementAt(this, index, item);
 	}
 }
\ No newline at end of file
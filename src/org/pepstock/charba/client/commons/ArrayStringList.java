@@ -91,6 +91,8 @@ public final class ArrayStringList extends AbstractArrayList<String, ArrayString
 		if (element != null) {
 			// adds element to array
 			array.push(element);
+			// notifies the change
+			changed();
 			return true;
 		}
 		// if here, not added
@@ -157,6 +159,8 @@ public final class ArrayStringList extends AbstractArrayList<String, ArrayString
 	@Override
 	public void clear() {
 		array.clear();
+		// notifies the change
+		changed();
 	}
 
 	/**
@@ -183,6 +187,8 @@ public final class ArrayStringList extends AbstractArrayList<String, ArrayString
 			String old = array.get(index);
 			// replaces with new element
 			array.set(index, element);
+			// notifies the change
+			changed();
 			// returns old
 			return old;
 		}
@@ -200,6 +206,8 @@ public final class ArrayStringList extends AbstractArrayList<String, ArrayString
 		if (element != null) {
 			// inserts into array
 			array.insertAt(index, element);
+			// notifies the change
+			changed();
 		}
 	}
 
@@ -212,6 +220,8 @@ public final class ArrayStringList extends AbstractArrayList<String, ArrayString
 	public String remove(int index) {
 		// checks range
 		if (checkRange(index)) {
+			// notifies the change
+			changed();
 			return array.remove(index);
 		}
 		return null;
@@ -0,0 +1,191 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.commons;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import com.google.gwt.typedarrays.shared.Float64Array;
+import com.google.gwt.typedarrays.shared.TypedArrays;
+
+/**
+ * Fixed-size list of doubles which uses a java script typed array (<code>Float64Array</code>) as back-end to store the
+ * values.<br>
+ * The elements can be read and replaced but not added or removed, because the size of a typed array can not be changed.<br>
+ * The methods {@link #getDouble(int)}, {@link #setDouble(int, double)} and {@link #toDoubleArray()} access to the values
+ * without any boxing.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class Float64ArrayList extends AbstractList<Double> implements RandomAccess {
+
+	// delegated typed array to store values
+	private final Float64Array array;
+	// object which owns the array, to notify changes
+	private NativeObjectContainer owner = null;
+
+	/**
+	 * Creates the list using a typed array instance as back-end of the list.
+	 * 
+	 * @param array java script typed array instance. If <code>null</code>, new empty typed array has been created
+	 */
+	public Float64ArrayList(Float64Array array) {
+		// if null, creates a new typed array
+		if (array == null) {
+			this.array = TypedArrays.createFloat64Array(0);
+		} else {
+			// uses an existing typed array
+			this.array = array;
+		}
+	}
+
+	/**
+	 * Returns the typed array instance, used as back-end of the list.
+	 * 
+	 * @return the typed array instance
+	 */
+	public Float64Array getArray() {
+		return array;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.AbstractCollection#size()
+	 */
+	@Override
+	public int size() {
+		return array.length();
+	}
+
+	/**
+	 * Returns the element at the specified position in this list. If index out of range, returns NaN
+	 */
+	@Override
+	public Double get(int index) {
+		return getDouble(index);
+	}
+
+	/**
+	 * Replaces the element at the specified position in this list with the specified element. If index out of range or the
+	 * element is <code>null</code>, returns NaN
+	 */
+	@Override
+	public Double set(int index, Double element) {
+		// checks if element is consistent and in range
+		if (element != null && checkRange(index)) {
+			// gets current element at that index
+			double old = array.get(index);
+			// replaces with new element
+			setDouble(index, element);
+			// returns old
+			return old;
+		}
+		return Double.NaN;
+	}
+
+	/**
+	 * Returns the element at the specified position in this list, without any boxing. If index out of range, returns NaN.
+	 * 
+	 * @param index index of the element to return
+	 * @return the element at the specified position in this list
+	 */
+	public double getDouble(int index) {
+		// checks range
+		if (checkRange(index)) {
+			return array.get(index);
+		}
+		return Double.NaN;
+	}
+
+	/**
+	 * Replaces the element at the specified position in this list with the specified element, without any boxing.<br>
+	 * If index out of range, the list is not changed.
+	 * 
+	 * @param index index of the element to replace
+	 * @param value element to be stored at the specified position
+	 */
+	public void setDouble(int index, double value) {
+		// checks range
+		if (checkRange(index)) {
+			// replaces the value
+			array.set(index, value);
+			// notifies the change
+			changed();
+		}
+	}
+
+	/**
+	 * Replaces the elements of this list, starting from the first one, with the passed values, copied by a single native
+	 * invocation.<br>
+	 * The amount of values must be less than or equal to the size of the list.
+	 * 
+	 * @param values values to be stored into the list
+	 */
+	public void setAll(double... values) {
+		// checks if argument is consistent
+		if (values != null && values.length > 0) {
+			// copies the values
+			array.set(values);
+			// notifies the change
+			changed();
+		}
+	}
+
+	/**
+	 * Returns a new array of <code>double</code> with all elements of this list, copied by a single native invocation.
+	 * 
+	 * @return a new array of <code>double</code> with all elements of this list
+	 */
+	public double[] toDoubleArray() {
+		// creates the result with the same length
+		double[] result = new double[array.length()];
+		// copies all elements
+		JsHelper.get().copy(array, result);
+		return result;
+	}
+
+	/**
+	 * Sets the object which owns the typed array wrapped by this list, in order to notify it when the list is changed.
+	 * 
+	 * @param owner the object which owns the typed array wrapped by this list
+	 */
+	void setOwner(NativeObjectContainer owner) {
+		this.owner = owner;
+	}
+
+	/**
+	 * Notifies the owner of the typed array, if set, that the list has been changed.
+	 */
+	private void changed() {
+		// checks if there is an owner
+		if (owner != null) {
+			// notifies the owner
+			owner.boundChanged();
+		}
+	}
+
+	/**
+	 * Checks if the index is in the right range.
+	 * 
+	 * @param index index to be checked
+	 * @return <code>true</code> if the index is in the right range otherwise false
+	 */
+	private boolean checkRange(int index) {
+		return index >= 0 && index < array.length();
+	}
+}
@@ -77,10 +77,8 @@ public enum Id implements Key
 	public static String get(NativeObject nativeObject) {
 		// checks if argument is consistent and property exists
 		if (nativeObject != null && nativeObject.hasProperty(CHARBA_ID.value())) {
-			// gets descriptor
-			NativeStringDescriptor descriptor = nativeObject.getStringProperty(CHARBA_ID.value());
-			// if descriptor is consistent, return value
-			return descriptor != null ? descriptor.getValue() : UndefinedValues.STRING;
+			// returns value, reading it without any descriptor
+			return nativeObject.getStringValue(CHARBA_ID.value(), UndefinedValues.STRING);
 		}
 		// property doesn't exist
 		return UndefinedValues.STRING;
@@ -96,10 +94,8 @@ public enum Id implements Key
 	public static int get(Key key, NativeObject nativeObject) {
 		// checks if arguments are consistent and property exists
 		if (Key.isValid(key) && nativeObject != null && nativeObject.hasProperty(key.value())) {
-			// gets descriptor
-			NativeIntegerDescriptor descriptor = nativeObject.getIntProperty(key.value());
-			// if descriptor is consistent, return value
-			return descriptor != null ? descriptor.getValue() : UndefinedValues.INTEGER;
+			// returns value, reading it without any descriptor
+			return nativeObject.getIntValue(key.value(), UndefinedValues.INTEGER);
 		}
 		// property doesn't exist
 		return UndefinedValues.INTEGER;
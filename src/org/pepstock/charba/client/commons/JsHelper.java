@@ -165,6 +165,194 @@ public final class JsHelper {
 		return UndefinedValues.STRING;
 	}
 
+	/**
+	 * Returns a property of java script object as boolean.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified..
+	 * @return boolean value or {@link UndefinedValues#BOOLEAN} if arguments are not consistent
+	 */
+	boolean propertyAsBoolean(Object object, String key) {
+		// checks consistency of arguments
+		if (object != null && key != null) {
+			return NativeJsHelper.propertyAsBoolean(object, key);
+		}
+		// if here, arguments not consistent
+		return UndefinedValues.BOOLEAN;
+	}
+
+	/**
+	 * Returns a property of java script object as object, without any conversion.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified..
+	 * @param <T> type of the value
+	 * @return object value or <code>null</code> if arguments are not consistent
+	 */
+	<T> T propertyAsObject(Object object, String key) {
+		// checks consistency of arguments
+		if (object != null && key != null) {
+			return NativeJsHelper.propertyAsObject(object, key);
+		}
+		// if here, arguments not consistent
+		return null;
+	}
+
+	/**
+	 * Sets a property (boolean) of java script object by a plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified.
+	 * @param value the value to be stored
+	 */
+	void setProperty(Object object, String key, boolean value) {
+		// checks consistency of arguments
+		if (object != null && key != null) {
+			NativeJsHelper.setProperty(object, key, value);
+		}
+	}
+
+	/**
+	 * Sets a property (integer) of java script object by a plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified.
+	 * @param value the value to be stored
+	 */
+	void setProperty(Object object, String key, int value) {
+		// checks consistency of arguments
+		if (object != null && key != null) {
+			NativeJsHelper.setProperty(object, key, value);
+		}
+	}
+
+	/**
+	 * Sets a property (double) of java script object by a plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified.
+	 * @param value the value to be stored
+	 */
+	void setProperty(Object object, String key, double value) {
+		// checks consistency of arguments
+		if (object != null && key != null) {
+			NativeJsHelper.setProperty(object, key, value);
+		}
+	}
+
+	/**
+	 * Sets a property (object) of java script object by a plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified.
+	 * @param value the value to be stored
+	 */
+	void setProperty(Object object, String key, Object value) {
+		// checks consistency of arguments
+		if (object != null && key != null) {
+			NativeJsHelper.setProperty(object, key, value);
+		}
+	}
+
+	/**
+	 * Returns the element of an array of doubles at a specific index, without creating any temporary array.
+	 * 
+	 * @param array the array on which to get the element.
+	 * @param index the index of the element to be returned.
+	 * @return the element at the given index
+	 */
+	double elementAt(ArrayDouble array, int index) {
+		return NativeJsHelper.elementAt(array, index);
+	}
+
+	/**
+	 * Returns the element of an array of integers at a specific index, without creating any temporary array.
+	 * 
+	 * @param array the array on which to get the element.
+	 * @param index the index of the element to be returned.
+	 * @return the element at the given index
+	 */
+	int elementAt(ArrayInteger array, int index) {
+		return NativeJsHelper.elementAt(array, index);
+	}
+
+	/**
+	 * Returns the element of an array at a specific index, without creating any temporary array.
+	 * 
+	 * @param array the array on which to get the element.
+	 * @param index the index of the element to be returned.
+	 * @param <T> type of the element
+	 * @return the element at the given index
+	 */
+	<T> T elementAt(Array array, int index) {
+		return NativeJsHelper.elementAt(array, index);
+	}
+
+	/**
+	 * Sets the element of an array of doubles at a specific index, without creating any temporary array.
+	 * 
+	 * @param array the array on which to set the element.
+	 * @param index the index of the element to be set.
+	 * @param value the value to be stored
+	 */
+	void setElementAt(ArrayDouble array, int index, double value) {
+		NativeJsHelper.setElementAt(array, index, value);
+	}
+
+	/**
+	 * Sets the element of an array of integers at a specific index, without creating any temporary array.
+	 * 
+	 * @param array the array on which to set the element.
+	 * @param index the index of the element to be set.
+	 * @param value the value to be stored
+	 */
+	void setElementAt(ArrayInteger array, int index, int value) {
+		NativeJsHelper.setElementAt(array, index, value);
+	}
+
+	/**
+	 * Sets the element of an array at a specific index, without creating any temporary array.
+	 * 
+	 * @param array the array on which to set the element.
+	 * @param index the index of the element to be set.
+	 * @param value the value to be stored
+	 */
+	void setElementAt(Array array, int index, Object value) {
+		NativeJsHelper.setElementAt(array, index, value);
+	}
+
+	/**
+	 * Copies all elements of source array into the target one, by a single native invocation, setting the length of the
+	 * target to the length of the source.
+	 * 
+	 * @param source the array from which the elements are copied.
+	 * @param target the array to which the elements are copied.
+	 */
+	void copy(Object source, Object target) {
+		// checks consistency of arguments
+		if (source != null && target != null) {
+			NativeJsHelper.copy(source, target);
+		}
+	}
+
+	/**
+	 * Appends all elements of source array to the end of the target one and then removes the oldest elements of the target,
+	 * by a single splice, in order to have a length not greater than the window size.
+	 * 
+	 * @param target the array to which the elements are appended.
+	 * @param source the array from which the elements are appended.
+	 * @param windowSize the maximum length of the target array. If 0 or negative, no element is removed.
+	 * @return the amount of removed elements
+	 */
+	int slide(Array target, Object source, int windowSize) {
+		// checks consistency of arguments
+		if (target != null && source != null) {
+			return NativeJsHelper.slide(target, source, windowSize);
+		}
+		// if here, arguments not consistent
+		return 0;
+	}
+
 	/**
 	 * Sets the line dash offset, or "phase."<br>
 	 * 
@@ -112,6 +112,135 @@ final class NativeJsHelper {
 	 */
 	static native String propertyAsString(Object object, String key);
 
+	/**
+	 * Returns a property of java script object as boolean.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified..
+	 * @return boolean value
+	 */
+	static native boolean propertyAsBoolean(Object object, String key);
+
+	/**
+	 * Returns a property of java script object as object, without any conversion.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified..
+	 * @param <T> type of the value
+	 * @return object value
+	 */
+	static native <T> T propertyAsObject(Object object, String key);
+
+	/**
+	 * Sets a property (boolean) of java script object by a plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified.
+	 * @param value the value to be stored
+	 */
+	static native void setProperty(Object object, String key, boolean value);
+
+	/**
+	 * Sets a property (integer) of java script object by a plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified.
+	 * @param value the value to be stored
+	 */
+	static native void setProperty(Object object, String key, int value);
+
+	/**
+	 * Sets a property (double) of java script object by a plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified.
+	 * @param value the value to be stored
+	 */
+	static native void setProperty(Object object, String key, double value);
+
+	/**
+	 * Sets a property (object) of java script object by a plain assignment, without any property descriptor.
+	 * 
+	 * @param object the object on which to define the property.
+	 * @param key the string name of the property to be defined or modified.
+	 * @param value the value to be stored
+	 */
+	static native void setProperty(Object object, String key, Object value);
+
+	/**
+	 * Returns the element of an array of doubles at a specific index.
+	 * 
+	 * @param array the array on which to get the element.
+	 * @param index the index of the element to be returned.
+	 * @return the element at the given index
+	 */
+	static native double elementAt(ArrayDouble array, int index);
+
+	/**
+	 * Returns the element of an array of integers at a specific index.
+	 * 
+	 * @param array the array on which to get the element.
+	 * @param index the index of the element to be returned.
+	 * @return the element at the given index
+	 */
+	static native int elementAt(ArrayInteger array, int index);
+
+	/**
+	 * Returns the element of an array at a specific index.
+	 * 
+	 * @param array the array on which to get the element.
+	 * @param index the index of the element to be returned.
+	 * @param <T> type of the element
+	 * @return the element at the given index
+	 */
+	static native <T> T elementAt(Array array, int index);
+
+	/**
+	 * Sets the element of an array of doubles at a specific index.
+	 * 
+	 * @param array the array on which to set the element.
+	 * @param index the index of the element to be set.
+	 * @param value the value to be stored
+	 */
+	static native void setElementAt(ArrayDouble array, int index, double value);
+
+	/**
+	 * Sets the element of an array of integers at a specific index.
+	 * 
+	 * @param array the array on which to set the element.
+	 * @param index the index of the element to be set.
+	 * @param value the value to be stored
+	 */
+	static native void setElementAt(ArrayInteger array, int index, int value);
+
+	/**
+	 * Sets the element of an array at a specific index.
+	 * 
+	 * @param array the array on which to set the element.
+	 * @param index the index of the element to be set.
+	 * @param value the value to be stored
+	 */
+	static native void setElementAt(Array array, int index, Object value);
+
+	/**
+	 * Copies all elements of source array into the target one, setting the length of the target to the length of the source.
+	 * 
+	 * @param source the array from which the elements are copied.
+	 * @param target the array to which the elements are copied.
+	 */
+	static native void copy(Object source, Object target);
+
+	/**
+	 * Appends all elements of source array to the end of the target one and then removes the oldest elements of the target,
+	 * by a single splice, in order to have a length not greater than the window size.
+	 * 
+	 * @param target the array to which the elements are appended.
+	 * @param source the array from which the elements are appended.
+	 * @param windowSize the maximum length of the target array. If 0 or negative, no element is removed.
+	 * @return the amount of removed elements
+	 */
+	static native int slide(Array target, Object source, int windowSize);
+
 	/**
 	 * Sets the line dash pattern used when stroking lines. It uses an array of values that specify alternating lengths of lines
 	 * and gaps which describe the pattern.
@@ -15,6 +15,7 @@
 */
 package org.pepstock.charba.client.commons;
 
+import org.pepstock.charba.client.impl.plugins.ChartPointer;
 import org.pepstock.charba.client.impl.plugins.HtmlLegend;
 import org.pepstock.charba.client.zoom.ZoomPlugin;
 
@@ -74,12 +75,28 @@ public final class NativeName {
 	 */
 	public static final String JS_HTML_LEGEND_BUILDER_HELPER = "CharbaJsHtmlLegendBuilderHelper";
 
+	/**
+	 * Constant to bind java script object as JsHitTestHelper with name <b>{@value JS_HIT_TEST_HELPER}</b>, (internal of
+	 * Charba), when {@link ChartPointer} is activated.
+	 */
+	public static final String JS_HIT_TEST_HELPER = "CharbaJsHitTestHelper";
+
 	/**
 	 * Constant to bind java script object as JsZoomHelper with name <b>{@value JS_ZOOM_HELPER}</b>, (internal of Charba), when
 	 * {@link ZoomPlugin} is activated.
 	 */
 	public static final String JS_ZOOM_HELPER = "CharbaJsZoomHelper";
 
+	/**
+	 * Constant to bind java script object as JsDataHelper with name <b>{@value JS_DATA_HELPER}</b>, (internal of Charba).
+	 */
+	public static final String JS_DATA_HELPER = "CharbaJsDataHelper";
+
+	/**
+	 * Constant to bind java script object as JsPluginsHelper with name <b>{@value JS_PLUGINS_HELPER}</b>, (internal of Charba).
+	 */
+	public static final String JS_PLUGINS_HELPER = "CharbaJsPluginsHelper";
+
 	/**
 	 * Constant to bind java script object as chart with name <b>{@value CHART}</b>, (internal of CHART.JS).
 	 */
@@ -21,6 +21,7 @@ import com.google.gwt.canvas.dom.client.CanvasGradient;
 import com.google.gwt.canvas.dom.client.CanvasPattern;
 import com.google.gwt.core.client.JsDate;
 import com.google.gwt.dom.client.ImageElement;
+import com.google.gwt.typedarrays.shared.Float64Array;
 
 import jsinterop.annotations.JsOverlay;
 import jsinterop.annotations.JsPackage;
@@ -121,14 +122,8 @@ public final class NativeObject {
 	 */
 	@JsOverlay
 	void defineBooleanProperty(String key, boolean value) {
-		// creates a descriptor
-		NativeBooleanDescriptor descriptor = new NativeBooleanDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
@@ -139,14 +134,8 @@ public final class NativeObject {
 	 */
 	@JsOverlay
 	void defineIntProperty(String key, int value) {
-		// creates a descriptor
-		NativeIntegerDescriptor descriptor = new NativeIntegerDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
@@ -157,14 +146,8 @@ public final class NativeObject {
 	 */
 	@JsOverlay
 	void defineDoubleProperty(String key, double value) {
-		// creates a descriptor
-		NativeDoubleDescriptor descriptor = new NativeDoubleDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
@@ -175,14 +158,8 @@ public final class NativeObject {
 	 */
 	@JsOverlay
 	void defineStringProperty(String key, String value) {
-		// creates a descriptor
-		NativeStringDescriptor descriptor = new NativeStringDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
@@ -193,14 +170,8 @@ public final class NativeObject {
 	 */
 	@JsOverlay
 	void defineDateProperty(String key, JsDate value) {
-		// creates a descriptor
-		NativeDateDescriptor descriptor = new NativeDateDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
@@ -211,14 +182,8 @@ public final class NativeObject {
 	 */
 	@JsOverlay
 	void defineImageProperty(String key, ImageElement value) {
-		// creates a descriptor
-		NativeImageDescriptor descriptor = new NativeImageDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
@@ -229,14 +194,8 @@ public final class NativeObject {
 	 */
 	@JsOverlay
 	void definePatternProperty(String key, CanvasPattern value) {
-		// creates a descriptor
-		NativePatternDescriptor descriptor = new NativePatternDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
@@ -247,14 +206,8 @@ public final class NativeObject {
 	 */
 	@JsOverlay
 	void defineGradientProperty(String key, CanvasGradient value) {
-		// creates a descriptor
-		NativeGradientDescriptor descriptor = new NativeGradientDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
@@ -265,14 +218,8 @@ public final class NativeObject {
 	 */
 	@JsOverlay
 	void defineCallbackProperty(String key, CallbackProxy.Proxy value) {
-		// creates a descriptor
-		NativeCallbackProxyDescriptor descriptor = new NativeCallbackProxyDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
@@ -283,14 +230,8 @@ public final class NativeObject {
 	 */
 	@JsOverlay
 	void defineObjectProperty(String key, NativeObject value) {
-		// creates a descriptor
-		NativeObjectDescriptor descriptor = new NativeObjectDescriptor();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
@@ -301,140 +242,194 @@ public final class NativeObject {
 	 */
 	@JsOverlay
 	<T extends Array> void defineArrayProperty(String key, T value) {
-		// creates a descriptor
-		NativeArrayDescriptor<T> descriptor = new NativeArrayDescriptor<>();
-		// sets value
-		descriptor.setValue(value);
-		// sets attributes of descriptor to true
-		resetPropertyDescriptor(descriptor);
-		// defines the property
-		defineProperty(this, key, descriptor);
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Defines a new property directly on this object, or modifies an existing property.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to be defined or modified.
+	 * @param object the object associated with the property.
 	 */
 	@JsOverlay
-	NativeBooleanDescriptor getBooleanProperty(String key) {
-		// checks if the property is present
-		if (ObjectType.BOOLEAN.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
-		}
-		// if here, property does not exist
-		return null;
+	void defineFloat64ArrayProperty(String key, Float64Array value) {
+		// sets the value by a plain assignment, without any descriptor
+		JsHelper.get().setProperty(this, key, value);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property (boolean) by a plain read, without any descriptor.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue default value if the property is not a boolean
+	 * @return the value of the property or the default value if the property is not a boolean
 	 */
 	@JsOverlay
-	NativeIntegerDescriptor getIntProperty(String key) {
-		return getInternalNumberProperty(key);
+	boolean getBooleanValue(String key, boolean defaultValue) {
+		// checks if the property is a boolean
+		if (ObjectType.BOOLEAN.equals(JsHelper.get().typeOf(this, key))) {
+			// returns the value
+			return JsHelper.get().propertyAsBoolean(this, key);
+		}
+		// if here, property does not exist or has got a different type
+		return defaultValue;
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property (int) by a plain read, without any descriptor.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue default value if the property is not a int
+	 * @return the value of the property or the default value if the property is not a int
 	 */
 	@JsOverlay
-	NativeDoubleDescriptor getDoubleProperty(String key) {
-		return getInternalNumberProperty(key);
+	int getIntValue(String key, int defaultValue) {
+		// checks if the property is a number
+		if (ObjectType.NUMBER.equals(JsHelper.get().typeOf(this, key))) {
+			// returns the value
+			return JsHelper.get().propertyAsInt(this, key);
+		}
+		// if here, property does not exist or has got a different type
+		return defaultValue;
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property (double) by a plain read, without any descriptor.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue default value if the property is not a double
+	 * @return the value of the property or the default value if the property is not a double
 	 */
 	@JsOverlay
-	private <T extends NativeAbstractDescriptor> T getInternalNumberProperty(String key) {
-		// checks if the property is present
+	double getDoubleValue(String key, double defaultValue) {
+		// checks if the property is a number
 		if (ObjectType.NUMBER.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
+			// returns the value
+			return JsHelper.get().propertyAsDouble(this, key);
 		}
-		// if here, property does not exist
-		return null;
+		// if here, property does not exist or has got a different type
+		return defaultValue;
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property (string) by a plain read, without any descriptor.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @param defaultValue default value if the property is not a string
+	 * @return the value of the property or the default value if the property is not a string
 	 */
 	@JsOverlay
-	NativeStringDescriptor getStringProperty(String key) {
-		// checks if the property is present
+	String getStringValue(String key, String defaultValue) {
+		// checks if the property is a string
 		if (ObjectType.STRING.equals(JsHelper.get().typeOf(this, key))) {
-			// returns the descriptor
-			return getOwnPropertyDescriptor(this, key);
+			// returns the value
+			return JsHelper.get().propertyAsString(this, key);
 		}
-		// if here, property does not exist
-		return null;
+		// if here, property does not exist or has got a different type
+		return defaultValue;
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property (date) by a plain read, without any descriptor.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @return the value of the property or <code>null</code> if the property is not an object
 	 */
 	@JsOverlay
-	NativeDateDescriptor getDateProperty(String key) {
-		return getInternalObjectProperty(key);
+	JsDate getDateValue(String key) {
+		return getInternalObjectValue(key);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property (image) by a plain read, without any descriptor.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @return the value of the property or <code>null</code> if the property is not an object
 	 */
 	@JsOverlay
-	NativeImageDescriptor getImageProperty(String key) {
-		return getInternalObjectProperty(key);
+	ImageElement getImageValue(String key) {
+		return getInternalObjectValue(key);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property (pattern) by a plain read, without any descriptor.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @return the value of the property or <code>null</code> if the property is not an object
 	 */
 	@JsOverlay
-	NativePatternDescriptor getPatternProperty(String key) {
-		return getInternalObjectProperty(key);
+	CanvasPattern getPatternValue(String key) {
+		return getInternalObjectValue(key);
 	}
 
 	/**
-	 * Returns a property descriptor for an own property (that is, one directly present on an object and not in the object's
-	 * prototype chain) of a given object.
+	 * Returns the value of a property (gradient) by a plain read, without any descriptor.
 	 * 
-	 * @param key the name of the property to test.
-	 * @return property descriptor of the given property if it exists on the object, <code>null</code> otherwise.
+	 * @param key the name of the property to get.
+	 * @return the value of the property or <code>null</code> if the property is not an object
 	 */
 	@JsOverlay
-	NativeGradientDescriptor getGradientProperty(String key) {
-		return getInternalObjectProperty(key);
+	CanvasGradient getGradientValue(String key) {
+		return getInternalObjectValue(key);
+	}
+
+	/**
+	 * Returns the value of a property (object) by a plain read, without any descriptor.
+	 * 
+	 * @param key the name of the property to get.
+	 * @return the value of the property or <code>null</code> if the property is not an object
+	 */
+	@JsOverlay
+	NativeObject getObjectValue(String key) {
+		return getInternalObjectValue(key);
+	}
+
+	/**
+	 * Returns the value of a property (typed array of doubles) by a plain read, without any descriptor.
+	 * 
+	 * @param key the name of the property to get.
+	 * @return the value of the property or <code>null</code> if the property is not an object
+	 */
+	@JsOverlay
+	Float64Array getFloat64ArrayValue(String key) {
+		return getInternalObjectValue(key);
+	}
+
+	/**
+	 * Returns the value of a property (object) by a plain read, without any descriptor.
+	 * 
+	 * @param key the name of the property to get.
+	 * @param <T> type of the value
+	 * @return the value of the property or <code>null</code> if the property is not an object
+	 */
+	@JsOverlay
+	private <T> T getInternalObjectValue(String key) {
+		// checks if the property is an object
+		if (ObjectType.OBJECT.equals(JsHelper.get().typeOf(this, key))) {
+			// returns the value
+			return JsHelper.get().propertyAsObject(this, key);
+		}
+		// if here, property does not exist or has got a different type
+		return null;
+	}
+
+	/**
+	 * Returns the value of a property (array) by a plain read, without any descriptor.
+	 * 
+	 * @param key the name of the property to get.
+	 * @param <T> type of the array
+	 * @return the value of the property or <code>null</code> if the property is not an array
+	 */
+	@JsOverlay
+	<T extends Array> T getArrayValue(String key) {
+		// checks if the property is an array
+		if (ObjectType.ARRAY.equals(JsHelper.get().typeOf(this, key))) {
+			// returns the value
+			return JsHelper.get().propertyAsObject(this, key);
+		}
+		// if here, property does not exist or has got a different type
+		return null;
 	}
 
 	/**
@@ -485,18 +480,4 @@ public final class NativeObject {
 		return null;
 	}
 
-	/**
-	 * Sets the properties of a descriptor to <code>true</code>, as default in java script when you use
-	 * <code>obj[key] = value</code>
-	 * 
-	 * @param descriptor the descriptor to be set
-	 */
-	@JsOverlay
-	private void resetPropertyDescriptor(NativeAbstractDescriptor descriptor) {
-		// configures the property
-		descriptor.setConfigurable(true);
-		descriptor.setEnumerable(true);
-		descriptor.setWritable(true);
-	}
-
 }
@@ -27,6 +27,7 @@ import com.google.gwt.canvas.dom.client.CanvasGradient;
 import com.google.gwt.canvas.dom.client.CanvasPattern;
 import com.google.gwt.core.client.JsDate;
 import com.google.gwt.dom.client.ImageElement;
+import com.google.gwt.typedarrays.shared.Float64Array;
 
 /**
  * Base class for all classes which are wrapping a native java script object.
@@ -36,7 +37,11 @@ import com.google.gwt.dom.client.ImageElement;
 public abstract class NativeObjectContainer {
 
 	// native object instance
-	private final NativeObject nativeObject;
+	private NativeObject nativeObject;
+	// counter of the changes applied to the native object
+	private int version = 0;
+	// object which this object is bound to, to notify changes
+	private NativeObjectContainer owner = null;
 
 	/**
 	 * Creates the object with an empty native object instance.
@@ -66,6 +71,129 @@ public abstract class NativeObjectContainer {
 		return nativeObject;
 	}
 
+	/**
+	 * Replaces the wrapped native object instance with another one.<br>
+	 * This is used only by the objects which are reused to wrap different native objects, for instance the items passed to the
+	 * plugins hooks, in order to avoid to create a new wrapper for every invocation.
+	 * 
+	 * @param nativeObject native object instance to be wrapped.
+	 */
+	protected final void replaceNativeObject(NativeObject nativeObject) {
+		this.nativeObject = (nativeObject == null ? new NativeObject() : nativeObject);
+		// the content is changed
+		incrementVersion();
+	}
+
+	/**
+	 * Returns the version of the object, a counter which is incremented every time a property of the native object is set or
+	 * removed, or a list or an object bound to this object is changed.<br>
+	 * It can be used to know if the object has been changed, without comparing its content.
+	 * 
+	 * @return the version of the object
+	 */
+	public final int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Increments the version of the object, in order to notify that the object has been changed.
+	 */
+	protected final void incrementVersion() {
+		version++;
+		// notifies the change
+		onChange();
+		// checks if the object is bound to another one
+		if (owner != null) {
+			// notifies the owner
+			owner.boundChanged();
+		}
+	}
+
+	/**
+	 * Notifies this object that a list or an object bound to it has been changed, incrementing the version of this object.
+	 */
+	final void boundChanged() {
+		// notifies the change of the bound element
+		onBoundChange();
+		// increments the version of the object
+		incrementVersion();
+	}
+
+	/**
+	 * Invoked every time a list or an object bound to this object has been changed, before incrementing the version of this
+	 * object.<br>
+	 * By default it does nothing and it can be overridden in order to track the changes of the bound elements separately.
+	 */
+	protected void onBoundChange() {
+		// do nothing
+	}
+
+	/**
+	 * Returns the object which this object is bound to.
+	 * 
+	 * @return the object which this object is bound to or <code>null</code> if not bound
+	 */
+	final NativeObjectContainer getOwner() {
+		return owner;
+	}
+
+	/**
+	 * Sets the object which this object is bound to, in order to notify it when this object is changed.
+	 * 
+	 * @param owner the object which this object is bound to or <code>null</code> to unbind it
+	 */
+	final void setOwner(NativeObjectContainer owner) {
+		this.owner = owner;
+	}
+
+	/**
+	 * Invoked every time the version of the object has been incremented.<br>
+	 * By default it does nothing and it can be overridden in order to propagate the change, for instance to the parent of the
+	 * object.
+	 */
+	protected void onChange() {
+		// do nothing
+	}
+
+	/**
+	 * Binds a list, which is backed by a native array, to this object.<br>
+	 * Every change applied to the list, or to the objects contained into the list, will increment the version of this object.
+	 * 
+	 * @param list list to bind to this object
+	 * @param <L> type of list to bind
+	 * @return the same list passed as argument
+	 */
+	protected final <L extends List<?>> L bind(L list) {
+		// checks if the list is backed by a native array
+		if (list instanceof AbstractArrayList) {
+			// casts and sets the owner
+			AbstractArrayList<?, ?> arrayList = (AbstractArrayList<?, ?>) list;
+			arrayList.setOwner(this);
+		} else if (list instanceof Float64ArrayList) {
+			// casts and sets the owner
+			Float64ArrayList typedArrayList = (Float64ArrayList) list;
+			typedArrayList.setOwner(this);
+		}
+		return list;
+	}
+
+	/**
+	 * Binds an object, which is stored into the native object, to this object.<br>
+	 * Every change applied to the object will increment the version of this object.
+	 * 
+	 * @param container object to bind to this object
+	 * @param <C> type of object to bind
+	 * @return the same object passed as argument
+	 */
+	protected final <C extends NativeObjectContainer> C bind(C container) {
+		// checks if the object is consistent
+		if (container != null) {
+			// sets the owner
+			container.setOwner(this);
+		}
+		return container;
+	}
+
 	/**
 	 * Returns the string JSON representation of the object.
 	 * 
@@ -183,6 +311,8 @@ public abstract class NativeObjectContainer {
 		// if not consistent, do nothing
 		if (Key.isValid(key)) {
 			nativeObject.removeProperty(key.value());
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
@@ -217,6 +347,8 @@ public abstract class NativeObjectContainer {
 		Key.checkIfValid(key);
 		// if here, key is consistent
 		nativeObject.defineIntProperty(key.value(), value);
+		// increments the version of the object
+		incrementVersion();
 	}
 
 	/**
@@ -232,10 +364,8 @@ public abstract class NativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeIntegerDescriptor descriptor = nativeObject.getIntProperty(key.value());
-		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		// returns value, reading it without any descriptor
+		return nativeObject.getIntValue(key.value(), defaultValue);
 	}
 
 	/**
@@ -301,6 +431,8 @@ public abstract class NativeObjectContainer {
 		Key.checkIfValid(key);
 		// if here, key is consistent
 		nativeObject.defineDoubleProperty(key.value(), value);
+		// increments the version of the object
+		incrementVersion();
 	}
 
 	/**
@@ -316,10 +448,8 @@ public abstract class NativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeDoubleDescriptor descriptor = nativeObject.getDoubleProperty(key.value());
-		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		// returns value, reading it without any descriptor
+		return nativeObject.getDoubleValue(key.value(), defaultValue);
 	}
 
 	/**
@@ -385,6 +515,8 @@ public abstract class NativeObjectContainer {
 		Key.checkIfValid(key);
 		// if here, key is consistent
 		nativeObject.defineBooleanProperty(key.value(), value);
+		// increments the version of the object
+		incrementVersion();
 	}
 
 	/**
@@ -400,10 +532,8 @@ public abstract class NativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeBooleanDescriptor descriptor = nativeObject.getBooleanProperty(key.value());
-		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		// returns value, reading it without any descriptor
+		return nativeObject.getBooleanValue(key.value(), defaultValue);
 	}
 
 	// ------------------------------------------
@@ -422,10 +552,8 @@ public abstract class NativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeStringDescriptor descriptor = nativeObject.getStringProperty(key.value());
-		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		// returns value, reading it without any descriptor
+		return nativeObject.getStringValue(key.value(), defaultValue);
 	}
 
 	/**
@@ -447,6 +575,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineStringProperty(key.value(), value);
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
@@ -515,10 +645,10 @@ public abstract class NativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeDateDescriptor descriptor = nativeObject.getDateProperty(key.value());
+		// gets value, reading it without any descriptor
+		JsDate value = nativeObject.getDateValue(key.value());
 		// returns value
-		return descriptor == null ? defaultValue : new Date((long) descriptor.getValue().getTime());
+		return value == null ? defaultValue : new Date((long) value.getTime());
 	}
 
 	/**
@@ -540,6 +670,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineDateProperty(key.value(), JsDate.create((double) value.getTime()));
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
@@ -558,10 +690,8 @@ public abstract class NativeObjectContainer {
 			// if no, returns the default value
 			return null;
 		}
-		// gets descriptor
-		NativeObjectDescriptor descriptor = nativeObject.getObjectProperty(key.value());
-		// returns value
-		return descriptor == null ? null : descriptor.getValue();
+		// returns value, reading it without any descriptor
+		return nativeObject.getObjectValue(key.value());
 	}
 
 	/**
@@ -583,6 +713,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineObjectProperty(key.value(), value);
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
@@ -608,6 +740,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineObjectProperty(key.value(), value.getNativeObject());
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
@@ -630,6 +764,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineArrayProperty(key.value(), container.getArray());
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
@@ -655,6 +791,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineCallbackProperty(key.value(), value);
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
@@ -674,10 +812,10 @@ public abstract class NativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeImageDescriptor descriptor = nativeObject.getImageProperty(key.value());
+		// gets value, reading it without any descriptor
+		ImageElement value = nativeObject.getImageValue(key.value());
 		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		return value == null ? defaultValue : value;
 	}
 
 	/**
@@ -699,6 +837,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineImageProperty(key.value(), value);
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
@@ -766,10 +906,10 @@ public abstract class NativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativeGradientDescriptor descriptor = nativeObject.getGradientProperty(key.value());
+		// gets value, reading it without any descriptor
+		CanvasGradient value = nativeObject.getGradientValue(key.value());
 		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		return value == null ? defaultValue : value;
 	}
 
 	/**
@@ -791,6 +931,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineGradientProperty(key.value(), value);
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
@@ -858,10 +1000,10 @@ public abstract class NativeObjectContainer {
 			// if no, returns the default value
 			return defaultValue;
 		}
-		// gets descriptor
-		NativePatternDescriptor descriptor = nativeObject.getPatternProperty(key.value());
+		// gets value, reading it without any descriptor
+		CanvasPattern value = nativeObject.getPatternValue(key.value());
 		// returns value
-		return descriptor == null ? defaultValue : descriptor.getValue();
+		return value == null ? defaultValue : value;
 	}
 
 	/**
@@ -883,6 +1025,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.definePatternProperty(key.value(), value);
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
@@ -983,6 +1127,8 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineStringProperty(key.value(), value.value());
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
@@ -1041,10 +1187,8 @@ public abstract class NativeObjectContainer {
 			// if no, returns null
 			return null;
 		}
-		// gets descriptor
-		NativeArrayDescriptor<T> descriptor = nativeObject.getArrayProperty(key.value());
-		// returns value
-		return descriptor == null ? null : descriptor.getValue();
+		// returns value, reading it without any descriptor
+		return nativeObject.getArrayValue(key.value());
 	}
 
 	/**
@@ -1067,6 +1211,51 @@ public abstract class NativeObjectContainer {
 			// if here, key is consistent
 			// sets value
 			nativeObject.defineArrayProperty(key.value(), value);
+			// increments the version of the object
+			incrementVersion();
+		}
+	}
+
+	// ------------------------------------------
+	// --- TYPED ARRAYS
+	// ------------------------------------------
+	/**
+	 * Returns a value (typed array of doubles) into embedded JavaScript object at specific property.
+	 * 
+	 * @param key key of the property of JavaScript object.
+	 * @return value of the property or <code>null</code> if not exist
+	 */
+	protected final Float64Array getFloat64ArrayValue(Key key) {
+		// checks if the property exists
+		if (!has(key)) {
+			// if no, returns null
+			return null;
+		}
+		// returns value, reading it without any descriptor
+		return nativeObject.getFloat64ArrayValue(key.value());
+	}
+
+	/**
+	 * Sets a value (typed array of doubles) into embedded JavaScript object at specific property.
+	 * 
+	 * @param key key of the property of JavaScript object.
+	 * @param value value to be set
+	 */
+	protected final void setFloat64ArrayValue(Key key, Float64Array value) {
+		// if value is null
+		// try to remove the reference if exists
+		if (value == null) {
+			// removes property if the property exists
+			removeIfExists(key);
+		} else {
+			// checks if the key is consistent
+			// if not, exception
+			Key.checkIfValid(key);
+			// if here, key is consistent
+			// sets value
+			nativeObject.defineFloat64ArrayProperty(key.value(), value);
+			// increments the version of the object
+			incrementVersion();
 		}
 	}
 
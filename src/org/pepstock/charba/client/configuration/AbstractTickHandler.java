@@ -15,25 +15,62 @@
 */
 package org.pepstock.charba.client.configuration;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
 import org.pepstock.charba.client.commons.CallbackProxy;
+import org.pepstock.charba.client.commons.Constants;
 
 /**
  * Base object to map an axis tick for axes.<br>
  * Every axis type has got own data type therefore to activate a tick callback is needed a different signature.<br>
  * It is also common to want to change the tick marks to include information about the data type.<br>
  * To do this, you need to add a callback in the axis configuration. <br>
- * If the callback returns null or undefined the associated grid line will be hidden.
+ * If the callback returns null or undefined the associated grid line will be hidden.<br>
+ * As alternative to the callback, invoked for every tick, a formatter can be set in order to get all labels at once, every time
+ * the ticks of the axis are updated.<br>
+ * The labels returned by the callback can be cached, by the value of the tick and the range of the ticks, in order to avoid to
+ * invoke the callback when the ticks are not changed.
  * 
  * @author Andrea "Stock" Stocchero
  * @param <T> type of tick with configuration element
  * @param <C> type of callback
+ * @param <F> type of formatter
  */
-abstract class AbstractTickHandler<T extends Tick, C> extends AxisContainer {
+abstract class AbstractTickHandler<T extends Tick, C, F> extends AxisContainer {
 
+	// max amount of labels stored into the cache
+	private static final int MAX_CACHED_LABELS = 256;
 	// user callback instance
 	private C callback = null;
+	// user formatter instance
+	private F formatter = null;
 	// the axis instance, owner of this tick
 	private final T configuration;
+	// flag to enable the caching of the labels
+	private boolean labelsCaching = false;
+	// cache of labels, by value of tick and range of ticks
+	private final Map<String, String> labelsCache = new LinkedHashMap<String, String>(16, 0.75F, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+		 */
+		@Override
+		protected boolean removeEldestEntry(Entry<String, String> eldest) {
+			return size() > MAX_CACHED_LABELS;
+		}
+
+	};
+	// last native array of tick values passed by CHART.JS
+	private Object values = null;
+	// labels returned by formatter for the last native array of tick values
+	private List<String> formattedLabels = null;
 
 	/**
 	 * Builds the object storing the axis instance and options element, based on different kind of axis.
@@ -80,8 +117,167 @@ abstract class AbstractTickHandler<T extends Tick, C> extends AxisContainer {
 	final void setCallback(C callback) {
 		// sets the callback
 		this.callback = callback;
-		// checks if callback is consistent
-		if (callback != null) {
+		// clears the cached labels because they were created by previous callback
+		labelsCache.clear();
+		// sets the proxy function
+		applyProxy();
+	}
+
+	/**
+	 * Returns the user formatter instance.
+	 * 
+	 * @return the formatter
+	 */
+	final F getFormatter() {
+		return formatter;
+	}
+
+	/**
+	 * Sets the user formatter instance.<br>
+	 * If set, it takes precedence over the callback.
+	 * 
+	 * @param formatter the formatter to set
+	 */
+	final void setFormatter(F formatter) {
+		// sets the formatter
+		this.formatter = formatter;
+		// resets the labels created by previous formatter
+		this.formattedLabels = null;
+		// sets the proxy function
+		applyProxy();
+	}
+
+	/**
+	 * Returns <code>true</code> if the labels returned by the callback are cached, by the value of the tick and the range of
+	 * the ticks.
+	 * 
+	 * @return <code>true</code> if the labels returned by the callback are cached
+	 */
+	final boolean isLabelsCaching() {
+		return labelsCaching;
+	}
+
+	/**
+	 * Sets <code>true</code> if the labels returned by the callback must be cached, by the value of the tick and the range of
+	 * the ticks.<br>
+	 * The cache must be enabled only if the label returned by the callback depends only on value of the tick and the range of
+	 * the ticks.
+	 * 
+	 * @param labelsCaching <code>true</code> if the labels returned by the callback must be cached
+	 */
+	final void setLabelsCaching(boolean labelsCaching) {
+		this.labelsCaching = labelsCaching;
+		// checks if caching is disabled
+		if (!labelsCaching) {
+			// clears the cache
+			labelsCache.clear();
+		}
+	}
+
+	/**
+	 * Checks if the native array of tick values, passed by CHART.JS, is changed from the last invocation, which means the
+	 * ticks of axis have been updated.<br>
+	 * If changed, the labels returned by the formatter are reset.
+	 * 
+	 * @param values native array of tick values, passed by CHART.JS
+	 * @return <code>true</code> if the native array of tick values is changed
+	 */
+	final boolean checkValues(Object values) {
+		// checks if the array is the same instance of the previous invocation
+		if (this.values == values) {
+			return false;
+		}
+		// stores the array and resets the labels
+		this.values = values;
+		this.formattedLabels = null;
+		return true;
+	}
+
+	/**
+	 * Returns <code>true</code> if the formatter has been already invoked for the current native array of tick values.
+	 * 
+	 * @return <code>true</code> if the formatter has been already invoked for the current native array of tick values
+	 */
+	final boolean hasFormattedLabels() {
+		return formattedLabels != null;
+	}
+
+	/**
+	 * Stores the labels returned by the formatter for the current native array of tick values.
+	 * 
+	 * @param formattedLabels the labels returned by the formatter
+	 */
+	final void setFormattedLabels(List<String> formattedLabels) {
+		this.formattedLabels = formattedLabels;
+	}
+
+	/**
+	 * Returns the label returned by the formatter for the tick at the passed index.<br>
+	 * If the formatter has not returned a label for that index, the default label is returned.
+	 * 
+	 * @param index index of tick
+	 * @param defaultLabel label to return if the formatter has not returned a label for that index
+	 * @return the label returned by the formatter for the tick at the passed index
+	 */
+	final String getFormattedLabel(int index, String defaultLabel) {
+		// checks if the formatter has returned a label for the index
+		if (formattedLabels != null && index >= 0 && index < formattedLabels.size()) {
+			return formattedLabels.get(index);
+		}
+		// if here, uses the default
+		return defaultLabel;
+	}
+
+	/**
+	 * Creates the key of the labels cache, by the value of the tick and the range of the ticks.
+	 * 
+	 * @param value value of tick
+	 * @param first first value of ticks
+	 * @param last last value of ticks
+	 * @return the key of the labels cache
+	 */
+	final String createLabelKey(Object value, Object first, Object last) {
+		return String.valueOf(value) + Constants.COMMA + String.valueOf(first) + Constants.COMMA + String.valueOf(last);
+	}
+
+	/**
+	 * Returns <code>true</code> if a label is stored into the cache for the passed key.
+	 * 
+	 * @param key key of the labels cache
+	 * @return <code>true</code> if a label is stored into the cache for the passed key
+	 */
+	final boolean hasCachedLabel(String key) {
+		return labelsCache.containsKey(key);
+	}
+
+	/**
+	 * Returns the label stored into the cache for the passed key.
+	 * 
+	 * @param key key of the labels cache
+	 * @return the label stored into the cache or <code>null</code> if not cached
+	 */
+	final String getCachedLabel(String key) {
+		return labelsCache.get(key);
+	}
+
+	/**
+	 * Stores the label into the cache for the passed key and returns it.
+	 * 
+	 * @param key key of the labels cache
+	 * @param label label to store
+	 * @return the stored label
+	 */
+	final String cacheLabel(String key, String label) {
+		labelsCache.put(key, label);
+		return label;
+	}
+
+	/**
+	 * Sets or removes the proxy function to java script object, by the user callback and formatter.
+	 */
+	private void applyProxy() {
+		// checks if callback or formatter are consistent
+		if (callback != null || formatter != null) {
 			// adds the callback proxy function to java script object
 			getAxis().getConfiguration().setCallback(configuration.getConfiguration(), BaseTick.Property.CALLBACK, getProxy());
 		} else {
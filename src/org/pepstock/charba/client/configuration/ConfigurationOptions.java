@@ -39,10 +39,12 @@ import org.pepstock.charba.client.commons.NativeObject;
 import org.pepstock.charba.client.defaults.IsDefaultScaledOptions;
 import org.pepstock.charba.client.enums.ChartEventProperty;
 import org.pepstock.charba.client.enums.Event;
+import org.pepstock.charba.client.enums.HoverDispatchMode;
 import org.pepstock.charba.client.events.AddHandlerEvent;
 import org.pepstock.charba.client.events.AxisClickEvent;
 import org.pepstock.charba.client.events.ChartClickEvent;
 import org.pepstock.charba.client.events.ChartHoverEvent;
+import org.pepstock.charba.client.events.ChartHoverEventHandler;
 import org.pepstock.charba.client.events.ChartNativeEvent;
 import org.pepstock.charba.client.events.ChartResizeEvent;
 import org.pepstock.charba.client.events.DatasetSelectionEvent;
@@ -57,6 +59,7 @@ import org.pepstock.charba.client.items.UndefinedValues;
 import org.pepstock.charba.client.options.ExtendedOptions;
 
 import com.google.gwt.dom.client.Document;
+import com.google.gwt.event.shared.EventHandler;
 import com.google.gwt.event.shared.GwtEvent.Type;
 import com.google.gwt.safehtml.shared.SafeHtml;
 
@@ -223,6 +226,8 @@ public abstract class ConfigurationOptions extends ConfigurationContainer<Extend
 
 	// factory to transform a native object into a dataset item
 	private final DatasetItemFactory datasetItemFactory = new DatasetItemFactory();
+	// dispatcher of hover events
+	private final HoverEventDispatcher<ArrayObject> hoverDispatcher;
 
 	/**
 	 * Builds the object storing the chart instance and defaults options.
@@ -256,8 +261,31 @@ public abstract class ConfigurationOptions extends ConfigurationContainer<Extend
 			// fires the click event on the chart
 			getChart().fireEvent(new ChartClickEvent(event, nativeChart, ArrayListHelper.unmodifiableList(items, datasetItemFactory)));
 		});
-		// fires the hover hover on the chart
-		hoverCallbackProxy.setCallback((nativeChart, event, items) -> getChart().fireEvent(new ChartHoverEvent(event, nativeChart, ArrayListHelper.unmodifiableList(items, datasetItemFactory))));
+		// creates the dispatcher which fires the hover event on the chart
+		hoverDispatcher = new HoverEventDispatcher<>(chart, new HoverEventDispatcher.EventHandlerChecker() {
+
+			@Override
+			public boolean isHoverHandler(EventHandler handler) {
+				return handler instanceof ChartHoverEventHandler;
+			}
+
+			@Override
+			public HoverDispatchMode getDispatchMode(EventHandler handler) {
+				return ((ChartHoverEventHandler) handler).getDispatchMode();
+			}
+
+		}, (nativeChart, event, items, mode, defaultMode) -> getChart().fireEvent(new ChartHoverEvent(event, nativeChart, ArrayListHelper.unmodifiableList(items, datasetItemFactory), mode, defaultMode)), items -> {
+			// creates the key with dataset and data index of every item
+			int[] key = new int[items.length() * 2];
+			for (int i = 0; i < items.length(); i++) {
+				DatasetItem item = datasetItemFactory.create(items.get(i));
+				key[i * 2] = item.getDatasetIndex();
+				key[i * 2 + 1] = item.getIndex();
+			}
+			return key;
+		});
+		// dispatches the hover on the chart
+		hoverCallbackProxy.setCallback((nativeChart, event, items) -> hoverDispatcher.dispatch(nativeChart, event, items));
 		// creates new native vent
 		// fires the resize event on chart
 		resizeCallbackProxy.setCallback((context, nativeChart, size) -> getChart().fireEvent(new ChartResizeEvent(Document.get().createChangeEvent(), nativeChart, new SizeItem(size))));
@@ -375,6 +403,26 @@ public abstract class ConfigurationOptions extends ConfigurationContainer<Extend
 	 */
 	abstract Axis getAxisById(int id);
 
+	/**
+	 * Sets the mode to dispatch the hover events to the handlers which did not declare any.
+	 * 
+	 * @param mode the mode to dispatch the hover events to the handlers which did not declare any. If <code>null</code>,
+	 *            {@link HoverDispatchMode#IMMEDIATE} is applied
+	 */
+	public void setHoverDispatchMode(HoverDispatchMode mode) {
+		hoverDispatcher.setDefaultDispatchMode(mode);
+	}
+
+	/**
+	 * Returns the mode to dispatch the hover events to the handlers which did not declare any.
+	 * 
+	 * @return the mode to dispatch the hover events to the handlers which did not declare any. Default is
+	 *         {@link HoverDispatchMode#IMMEDIATE}
+	 */
+	public HoverDispatchMode getHoverDispatchMode() {
+		return hoverDispatcher.getDefaultDispatchMode();
+	}
+
 	/**
 	 * Sets the browser events that the chart should listen to for tooltips and hovering.
 	 * 
@@ -595,6 +643,8 @@ public abstract class ConfigurationOptions extends ConfigurationContainer<Extend
 			}
 			// increments amount of handlers
 			onHoverHandlers++;
+			// counts the handler by its dispatch mode
+			hoverDispatcher.onAdd(event);
 		} else if (event.isRecognize(ChartResizeEvent.TYPE)) {
 			// if there is not any resize event handler
 			if (onResizeHandlers == 0) {
@@ -641,6 +691,8 @@ public abstract class ConfigurationOptions extends ConfigurationContainer<Extend
 		} else if (event.isRecognize(ChartHoverEvent.TYPE)) {
 			// decrements the amount of handlers
 			onHoverHandlers--;
+			// counts the handler by its dispatch mode
+			hoverDispatcher.onRemove(event);
 			// if there is not any handler
 			if (onHoverHandlers == 0) {
 				// removes the java script object
@@ -0,0 +1,302 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.configuration;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.enums.HoverDispatchMode;
+import org.pepstock.charba.client.events.AddHandlerEvent;
+import org.pepstock.charba.client.events.ChartNativeEvent;
+import org.pepstock.charba.client.events.RemoveHandlerEvent;
+
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.event.shared.EventHandler;
+
+/**
+ * Dispatches the hover events, invoked by CHART.JS at mouse move rate, to the handlers, applying the dispatch mode declared
+ * by every handler.<br>
+ * The handlers which are using {@link HoverDispatchMode#ANIMATION_FRAME} or {@link HoverDispatchMode#CHANGES} are notified
+ * at most once per animation frame, with the last hover invoked by CHART.JS.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ * @param <T> type of the hovered item(s) passed by CHART.JS
+ */
+final class HoverEventDispatcher<T> {
+
+	/**
+	 * Fires the hover event to the chart, with the dispatch mode to apply.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 * @param <T> type of the hovered item(s) passed by CHART.JS
+	 */
+	interface HoverEventFirer<T> {
+
+		/**
+		 * Fires the hover event to the chart.
+		 * 
+		 * @param nativeChart native chart instance
+		 * @param event native event
+		 * @param item hovered item(s) passed by CHART.JS
+		 * @param dispatchMode dispatch mode of the event
+		 * @param defaultDispatchMode dispatch mode to apply to the handlers which did not declare any
+		 */
+		void fire(Chart nativeChart, ChartNativeEvent event, T item, HoverDispatchMode dispatchMode, HoverDispatchMode defaultDispatchMode);
+
+	}
+
+	/**
+	 * Returns the key of hovered item(s), as sequence of dataset and data indexes, to check if the hovered elements are
+	 * changed.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 * @param <T> type of the hovered item(s) passed by CHART.JS
+	 */
+	interface HoverKeyProvider<T> {
+
+		/**
+		 * Returns the key of hovered item(s), as sequence of dataset and data indexes.
+		 * 
+		 * @param item hovered item(s) passed by CHART.JS
+		 * @return the key of hovered item(s)
+		 */
+		int[] getKey(T item);
+
+	}
+
+	/**
+	 * Checks if the handler is an instance of the handled hover events, returning its dispatch mode.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 */
+	interface EventHandlerChecker {
+
+		/**
+		 * Returns <code>true</code> if the handler is an instance of the handled hover events.
+		 * 
+		 * @param handler handler instance to check
+		 * @return <code>true</code> if the handler is an instance of the handled hover events
+		 */
+		boolean isHoverHandler(EventHandler handler);
+
+		/**
+		 * Returns the dispatch mode declared by the handler.
+		 * 
+		 * @param handler handler instance, already checked
+		 * @return the dispatch mode declared by the handler or <code>null</code> if not declared
+		 */
+		HoverDispatchMode getDispatchMode(EventHandler handler);
+
+	}
+
+	// empty key when nothing is hovered
+	private static final int[] EMPTY_KEY = new int[0];
+	// chart instance
+	private final IsChart chart;
+	// type of handled events
+	private final EventHandlerChecker checker;
+	// event firer
+	private final HoverEventFirer<T> firer;
+	// key provider
+	private final HoverKeyProvider<T> keyProvider;
+	// dispatch mode declared by every handler when it has been added
+	private final Map<EventHandler, HoverDispatchMode> modes = new HashMap<>();
+	// amount of handlers for every declared dispatch mode
+	private final int[] handlers = new int[HoverDispatchMode.values().length];
+	// amount of handlers without declared dispatch mode
+	private int defaultHandlers = 0;
+	// dispatch mode to apply to the handlers without declared dispatch mode
+	private HoverDispatchMode defaultDispatchMode = HoverDispatchMode.IMMEDIATE;
+	// pending event to dispatch at next animation frame
+	private Chart pendingChart = null;
+	private ChartNativeEvent pendingEvent = null;
+	private T pendingItem = null;
+	// flag if the animation frame has been already requested
+	private boolean frameRequested = false;
+	// key of the last hovered item(s), dispatched to the handlers with changes dispatch mode
+	private int[] lastKey = EMPTY_KEY;
+
+	/**
+	 * Creates the dispatcher.
+	 * 
+	 * @param chart chart instance
+	 * @param checker checker of the handled hover handlers
+	 * @param firer event firer
+	 * @param keyProvider key provider of hovered item(s)
+	 */
+	HoverEventDispatcher(IsChart chart, EventHandlerChecker checker, HoverEventFirer<T> firer, HoverKeyProvider<T> keyProvider) {
+		this.chart = chart;
+		this.checker = checker;
+		this.firer = firer;
+		this.keyProvider = keyProvider;
+	}
+
+	/**
+	 * Returns the dispatch mode to apply to the handlers without declared dispatch mode.
+	 * 
+	 * @return the dispatch mode to apply to the handlers without declared dispatch mode
+	 */
+	HoverDispatchMode getDefaultDispatchMode() {
+		return defaultDispatchMode;
+	}
+
+	/**
+	 * Sets the dispatch mode to apply to the handlers without declared dispatch mode.
+	 * 
+	 * @param defaultDispatchMode the dispatch mode to apply to the handlers without declared dispatch mode. If
+	 *            <code>null</code>, {@link HoverDispatchMode#IMMEDIATE} is applied
+	 */
+	void setDefaultDispatchMode(HoverDispatchMode defaultDispatchMode) {
+		this.defaultDispatchMode = defaultDispatchMode == null ? HoverDispatchMode.IMMEDIATE : defaultDispatchMode;
+	}
+
+	/**
+	 * Counts the handler which has been added to the chart.
+	 * 
+	 * @param event event fired when the handler has been added
+	 */
+	void onAdd(AddHandlerEvent event) {
+		// gets the handler
+		EventHandler handler = event.getHandler();
+		// gets the declared dispatch mode, if any
+		HoverDispatchMode mode = checker.isHoverHandler(handler) ? checker.getDispatchMode(handler) : null;
+		// stores the mode in order to decrement the same amount when the handler will be removed
+		modes.put(handler, mode);
+		count(mode, 1);
+	}
+
+	/**
+	 * Counts the handler which has been removed from the chart.
+	 * 
+	 * @param event event fired when the handler has been removed
+	 */
+	void onRemove(RemoveHandlerEvent event) {
+		// gets the handler
+		EventHandler handler = event.getHandler();
+		// checks if the mode has been stored when the handler has been added
+		if (modes.containsKey(handler)) {
+			count(modes.remove(handler), -1);
+		} else {
+			// the handler has been added more than once
+			// therefore uses the current declared dispatch mode, if any
+			count(checker.isHoverHandler(handler) ? checker.getDispatchMode(handler) : null, -1);
+		}
+	}
+
+	/**
+	 * Increments or decrements the amount of handlers for the dispatch mode declared by the handler.
+	 * 
+	 * @param mode dispatch mode declared by the handler or <code>null</code> if not declared
+	 * @param delta value to add to the amount of handlers
+	 */
+	private void count(HoverDispatchMode mode, int delta) {
+		// checks if the mode is declared
+		if (mode != null) {
+			handlers[mode.ordinal()] = Math.max(0, handlers[mode.ordinal()] + delta);
+		} else {
+			defaultHandlers = Math.max(0, defaultHandlers + delta);
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if there is any handler to which apply the dispatch mode passed as argument.
+	 * 
+	 * @param mode dispatch mode to check
+	 * @return <code>true</code> if there is any handler to which apply the dispatch mode
+	 */
+	boolean hasHandlers(HoverDispatchMode mode) {
+		return handlers[mode.ordinal()] > 0 || (defaultHandlers > 0 && defaultDispatchMode.equals(mode));
+	}
+
+	/**
+	 * Dispatches the hover invoked by CHART.JS.<br>
+	 * The handlers with immediate mode are notified synchronously, the others at next animation frame.
+	 * 
+	 * @param nativeChart native chart instance
+	 * @param event native event
+	 * @param item hovered item(s) passed by CHART.JS
+	 */
+	void dispatch(Chart nativeChart, ChartNativeEvent event, T item) {
+		// checks if there is any immediate handler
+		if (hasHandlers(HoverDispatchMode.IMMEDIATE)) {
+			firer.fire(nativeChart, event, item, HoverDispatchMode.IMMEDIATE, defaultDispatchMode);
+		}
+		// checks if there is any handler to notify at animation frame
+		if (hasHandlers(HoverDispatchMode.ANIMATION_FRAME) || hasHandlers(HoverDispatchMode.CHANGES)) {
+			// stores the last hover, overriding the previous one
+			pendingChart = nativeChart;
+			pendingEvent = event;
+			pendingItem = item;
+			// checks if the frame has been already requested
+			if (!frameRequested) {
+				// sets the flag
+				frameRequested = true;
+				// requests the dispatching at next animation frame
+				AnimationScheduler.get().requestAnimationFrame(timestamp -> flush());
+			}
+		}
+	}
+
+	/**
+	 * Resets the key of the last hovered item(s), in order to notify the next hover to the handlers with changes dispatch
+	 * mode.
+	 */
+	void reset() {
+		lastKey = EMPTY_KEY;
+	}
+
+	/**
+	 * Dispatches the last pending hover to the handlers with animation frame and changes dispatch mode.
+	 */
+	private void flush() {
+		// resets the flag
+		frameRequested = false;
+		// gets and clears the pending hover
+		Chart nativeChart = pendingChart;
+		ChartNativeEvent event = pendingEvent;
+		T item = pendingItem;
+		pendingChart = null;
+		pendingEvent = null;
+		pendingItem = null;
+		// checks if the chart is still consistent
+		if (nativeChart == null || !Charts.hasNative(chart)) {
+			return;
+		}
+		// checks if there is any animation frame handler
+		if (hasHandlers(HoverDispatchMode.ANIMATION_FRAME)) {
+			firer.fire(nativeChart, event, item, HoverDispatchMode.ANIMATION_FRAME, defaultDispatchMode);
+		}
+		// checks if there is any changes handler
+		if (hasHandlers(HoverDispatchMode.CHANGES)) {
+			// gets the key of hovered item(s)
+			int[] key = item == null ? EMPTY_KEY : keyProvider.getKey(item);
+			// checks if the hovered item(s) are changed
+			if (!Arrays.equals(key, lastKey)) {
+				// stores the key
+				lastKey = key;
+				firer.fire(nativeChart, event, item, HoverDispatchMode.CHANGES, defaultDispatchMode);
+			}
+		}
+	}
+
+}
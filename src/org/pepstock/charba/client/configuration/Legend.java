@@ -20,6 +20,7 @@ import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.commons.CallbackProxy;
 import org.pepstock.charba.client.commons.JsHelper;
 import org.pepstock.charba.client.commons.NativeObject;
+import org.pepstock.charba.client.enums.HoverDispatchMode;
 import org.pepstock.charba.client.enums.LegendAlign;
 import org.pepstock.charba.client.enums.LegendEventProperty;
 import org.pepstock.charba.client.enums.Position;
@@ -28,11 +29,15 @@ import org.pepstock.charba.client.events.AddHandlerEvent;
 import org.pepstock.charba.client.events.ChartNativeEvent;
 import org.pepstock.charba.client.events.LegendClickEvent;
 import org.pepstock.charba.client.events.LegendHoverEvent;
+import org.pepstock.charba.client.events.LegendHoverEventHandler;
 import org.pepstock.charba.client.events.LegendLeaveEvent;
 import org.pepstock.charba.client.events.RemoveHandlerEvent;
+import org.pepstock.charba.client.items.LegendItem;
 import org.pepstock.charba.client.items.LegendItem.LegendItemFactory;
 import org.pepstock.charba.client.options.ExtendedOptions;
 
+import com.google.gwt.event.shared.EventHandler;
+
 import jsinterop.annotations.JsFunction;
 
 /**
@@ -85,6 +90,10 @@ public class Legend extends ConfigurationContainer<ExtendedOptions> implements I
 	private int onHoverHandlers = 0;
 	// amount of leave handlers
 	private int onLeaveHandlers = 0;
+	// flag if the leave callback has been set
+	private boolean leaveCallbackSet = false;
+	// dispatcher of hover events
+	private final HoverEventDispatcher<NativeObject> hoverDispatcher;
 
 	/**
 	 * Builds the object storing the chart instance and the root options element.
@@ -103,10 +112,37 @@ public class Legend extends ConfigurationContainer<ExtendedOptions> implements I
 		// -------------------------------
 		// fires the event
 		clickCallbackProxy.setCallback((nativeChart, event, item) -> getChart().fireEvent(new LegendClickEvent(event, nativeChart, FACTORY.create(item))));
+		// creates the dispatcher which fires the hover event
+		hoverDispatcher = new HoverEventDispatcher<>(chart, new HoverEventDispatcher.EventHandlerChecker() {
+
+			@Override
+			public boolean isHoverHandler(EventHandler handler) {
+				return handler instanceof LegendHoverEventHandler;
+			}
+
+			@Override
+			public HoverDispatchMode getDispatchMode(EventHandler handler) {
+				return ((LegendHoverEventHandler) handler).getDispatchMode();
+			}
+
+		}, (nativeChart, event, item, mode, defaultMode) -> getChart().fireEvent(new LegendHoverEvent(event, nativeChart, FACTORY.create(item), mode, defaultMode)), item -> {
+			// creates the key with dataset and data index of the item
+			LegendItem legendItem = FACTORY.create(item);
+			return new int[] { legendItem.getDatasetIndex(), legendItem.getIndex() };
+		});
+		// dispatches the event
+		hoverCallbackProxy.setCallback((nativeChart, event, item) -> hoverDispatcher.dispatch(nativeChart, event, item));
 		// fires the event
-		hoverCallbackProxy.setCallback((nativeChart, event, item) -> getChart().fireEvent(new LegendHoverEvent(event, nativeChart, FACTORY.create(item))));
-		// fires the event
-		leaveCallbackProxy.setCallback((nativeChart, event, item) -> getChart().fireEvent(new LegendLeaveEvent(event, nativeChart, FACTORY.create(item))));
+		leaveCallbackProxy.setCallback((nativeChart, event, item) -> {
+			// resets the last hovered item
+			hoverDispatcher.reset();
+			// checks if there is any leave handler
+			// because the callback is set also for the hover handlers with changes dispatch mode
+			if (onLeaveHandlers > 0) {
+				// fires the event
+				getChart().fireEvent(new LegendLeaveEvent(event, nativeChart, FACTORY.create(item)));
+			}
+		});
 	}
 
 	/**
@@ -118,6 +154,28 @@ public class Legend extends ConfigurationContainer<ExtendedOptions> implements I
 		this(wrappedLegend.getChart(), wrappedLegend.getConfiguration());
 	}
 
+	/**
+	 * Sets the mode to dispatch the legend hover events to the handlers which did not declare any.
+	 * 
+	 * @param mode the mode to dispatch the legend hover events to the handlers which did not declare any. If
+	 *            <code>null</code>, {@link HoverDispatchMode#IMMEDIATE} is applied
+	 */
+	public void setHoverDispatchMode(HoverDispatchMode mode) {
+		hoverDispatcher.setDefaultDispatchMode(mode);
+		// the handlers without declared mode could be notified on changes
+		checkLeaveCallback();
+	}
+
+	/**
+	 * Returns the mode to dispatch the legend hover events to the handlers which did not declare any.
+	 * 
+	 * @return the mode to dispatch the legend hover events to the handlers which did not declare any. Default is
+	 *         {@link HoverDispatchMode#IMMEDIATE}
+	 */
+	public HoverDispatchMode getHoverDispatchMode() {
+		return hoverDispatcher.getDefaultDispatchMode();
+	}
+
 	/**
 	 * Returns the legend labels element.
 	 * 
@@ -151,14 +209,15 @@ public class Legend extends ConfigurationContainer<ExtendedOptions> implements I
 			}
 			// increments amount of handlers
 			onHoverHandlers++;
+			// counts the handler by its dispatch mode
+			hoverDispatcher.onAdd(event);
+			// checks if the leave callback is needed to reset the last hovered item
+			checkLeaveCallback();
 		} else if (event.isRecognize(LegendLeaveEvent.TYPE)) {
-			// if java script property is missing
-			if (onLeaveHandlers == 0) {
-				// adds the java script function to catch the event
-				getConfiguration().setEvent(getConfiguration().getLegend(), LegendEventProperty.ON_LEAVE, leaveCallbackProxy.getProxy());
-			}
 			// increments amount of handlers
 			onLeaveHandlers++;
+			// adds the java script function to catch the event, if missing
+			checkLeaveCallback();
 		}
 	}
 
@@ -182,19 +241,39 @@ public class Legend extends ConfigurationContainer<ExtendedOptions> implements I
 		} else if (event.isRecognize(LegendHoverEvent.TYPE)) {
 			// decrements the amount of handlers
 			onHoverHandlers--;
+			// counts the handler by its dispatch mode
+			hoverDispatcher.onRemove(event);
 			// if there is not any handler
 			if (onHoverHandlers == 0) {
 				// removes the java script object
 				getConfiguration().setEvent(getConfiguration().getLegend(), LegendEventProperty.ON_HOVER, null);
 			}
+			// checks if the leave callback is still needed to reset the last hovered item
+			checkLeaveCallback();
 		} else if (event.isRecognize(LegendLeaveEvent.TYPE)) {
 			// decrements the amount of handlers
 			onLeaveHandlers--;
-			// if there is not any handler
-			if (onLeaveHandlers == 0) {
-				// removes the java script object
-				getConfiguration().setEvent(getConfiguration().getLegend(), LegendEventProperty.ON_LEAVE, null);
-			}
+			// removes the java script function, if not needed anymore
+			checkLeaveCallback();
+		}
+	}
+
+	/**
+	 * Sets or removes the leave callback.<br>
+	 * The callback is needed when there is any leave handler or any hover handler with {@link HoverDispatchMode#CHANGES},
+	 * because it resets the last hovered item, in order to notify again the same item when the mouse comes back on the
+	 * legend.
+	 */
+	private void checkLeaveCallback() {
+		// checks if the callback is needed
+		boolean needed = onLeaveHandlers > 0 || hoverDispatcher.hasHandlers(HoverDispatchMode.CHANGES);
+		// checks if the status is changed
+		if (needed != leaveCallbackSet) {
+			// sets or removes the java script function
+			getConfiguration().setEvent(getConfiguration().getLegend(), LegendEventProperty.ON_LEAVE, needed ? leaveCallbackProxy.getProxy() : null);
+			leaveCallbackSet = needed;
+			// resets the last hovered item because the leave could be missed
+			hoverDispatcher.reset();
 		}
 	}
 
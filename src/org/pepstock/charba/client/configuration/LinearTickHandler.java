@@ -15,8 +15,11 @@
 */
 package org.pepstock.charba.client.configuration;
 
+import java.util.List;
+
 import org.pepstock.charba.client.callbacks.CallbackFunctionContext;
 import org.pepstock.charba.client.callbacks.TickCallback;
+import org.pepstock.charba.client.callbacks.TickFormatterCallback;
 import org.pepstock.charba.client.commons.ArrayDouble;
 import org.pepstock.charba.client.commons.ArrayListHelper;
 import org.pepstock.charba.client.commons.CallbackProxy;
@@ -34,7 +37,7 @@ import jsinterop.annotations.JsFunction;
  * 
  * @author Andrea "Stock" Stocchero
  */
-final class LinearTickHandler<T extends Tick> extends AbstractTickHandler<T, TickCallback> {
+final class LinearTickHandler<T extends Tick> extends AbstractTickHandler<T, TickCallback, TickFormatterCallback> {
 
 	// ---------------------------
 	// -- JAVASCRIPT FUNCTIONS ---
@@ -66,6 +69,8 @@ final class LinearTickHandler<T extends Tick> extends AbstractTickHandler<T, Tic
 	// ---------------------------
 	// callback proxy to invoke the tick function
 	private final CallbackProxy<ProxyTickCallback> tickCallbackProxy = JsHelper.get().newCallbackProxy();
+	// list of tick values, wrapping the last native array passed by CHART.JS
+	private List<Double> valuesList = null;
 
 	/**
 	 * Builds the object storing the axis instance and options element, based on different kind of axis.
@@ -80,10 +85,36 @@ final class LinearTickHandler<T extends Tick> extends AbstractTickHandler<T, Tic
 		// -- SET CALLBACKS to PROXIES ---
 		// -------------------------------
 		tickCallbackProxy.setCallback((context, value, index, values) -> {
+			// checks if the ticks have been updated
+			if (checkValues(values)) {
+				// wraps the array only once for all ticks
+				valuesList = ArrayListHelper.unmodifiableList(values);
+			}
+			// checks if user formatter is consistent
+			if (getFormatter() != null) {
+				// checks if the formatter must be invoked
+				if (!hasFormattedLabels()) {
+					// calls user formatter only once for all ticks
+					setFormattedLabels(getFormatter().onFormat(getAxis(), valuesList));
+				}
+				// returns the label of the tick
+				return getFormattedLabel(index, String.valueOf(value));
+			}
 			// checks if user callback is consistent
 			if (getCallback() != null) {
+				// checks if the labels caching is enabled
+				if (isLabelsCaching() && !valuesList.isEmpty()) {
+					// creates the key by value and range of ticks
+					String key = createLabelKey(value, valuesList.get(0), valuesList.get(valuesList.size() - 1));
+					// checks if already cached
+					if (hasCachedLabel(key)) {
+						return getCachedLabel(key);
+					}
+					// calls user callback and caches the result
+					return cacheLabel(key, getCallback().onCallback(getAxis(), value, index, valuesList));
+				}
 				// then calls user callback
-				return getCallback().onCallback(getAxis(), value, index, ArrayListHelper.unmodifiableList(values));
+				return getCallback().onCallback(getAxis(), value, index, valuesList);
 			}
 			// default tick is the string representation of the tick value
 			return String.valueOf(value);
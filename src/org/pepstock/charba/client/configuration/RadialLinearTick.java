@@ -16,6 +16,7 @@
 package org.pepstock.charba.client.configuration;
 
 import org.pepstock.charba.client.callbacks.TickCallback;
+import org.pepstock.charba.client.callbacks.TickFormatterCallback;
 import org.pepstock.charba.client.colors.IsColor;
 
 /**
@@ -166,4 +167,46 @@ public class RadialLinearTick extends Tick implements IsLinearTick {
 		tickHandler.setCallback(callback);
 	}
 
+	/**
+	 * Returns the user formatter instance.
+	 * 
+	 * @return the formatter
+	 */
+	public TickFormatterCallback getFormatter() {
+		return tickHandler.getFormatter();
+	}
+
+	/**
+	 * Sets the user formatter instance, invoked only once every time the ticks of the axis are updated, in order to get all
+	 * labels at once.<br>
+	 * If set, it takes precedence over the callback.
+	 * 
+	 * @param formatter the formatter to set
+	 */
+	public void setFormatter(TickFormatterCallback formatter) {
+		tickHandler.setFormatter(formatter);
+	}
+
+	/**
+	 * Returns <code>true</code> if the labels returned by the callback are cached, by the value of the tick and the range of
+	 * the ticks.
+	 * 
+	 * @return <code>true</code> if the labels returned by the callback are cached
+	 */
+	public boolean isLabelsCaching() {
+		return tickHandler.isLabelsCaching();
+	}
+
+	/**
+	 * Sets <code>true</code> if the labels returned by the callback must be cached, by the value of the tick and the range of
+	 * the ticks, in order to avoid to invoke the callback when the ticks are not changed.<br>
+	 * The cache must be enabled only if the label returned by the callback depends only on value of the tick and the range of
+	 * the ticks.
+	 * 
+	 * @param labelsCaching <code>true</code> if the labels returned by the callback must be cached
+	 */
+	public void setLabelsCaching(boolean labelsCaching) {
+		tickHandler.setLabelsCaching(labelsCaching);
+	}
+
 }
\ No newline at end of file
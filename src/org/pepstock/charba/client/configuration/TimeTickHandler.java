@@ -20,10 +20,12 @@ import java.util.List;
 
 import org.pepstock.charba.client.callbacks.CallbackFunctionContext;
 import org.pepstock.charba.client.callbacks.TimeTickCallback;
+import org.pepstock.charba.client.callbacks.TimeTickFormatterCallback;
 import org.pepstock.charba.client.commons.ArrayListHelper;
 import org.pepstock.charba.client.commons.ArrayObject;
 import org.pepstock.charba.client.commons.CallbackProxy;
 import org.pepstock.charba.client.commons.CallbackProxy.Proxy;
+import org.pepstock.charba.client.commons.Constants;
 import org.pepstock.charba.client.commons.JsHelper;
 import org.pepstock.charba.client.enums.TimeUnit;
 import org.pepstock.charba.client.items.TimeTickItem;
@@ -39,7 +41,7 @@ import jsinterop.annotations.JsFunction;
  * 
  * @author Andrea "Stock" Stocchero
  */
-final class TimeTickHandler extends AbstractTickHandler<CartesianTimeTick, TimeTickCallback> {
+final class TimeTickHandler extends AbstractTickHandler<CartesianTimeTick, TimeTickCallback, TimeTickFormatterCallback> {
 
 	// ---------------------------
 	// -- JAVASCRIPT FUNCTIONS ---
@@ -74,6 +76,8 @@ final class TimeTickHandler extends AbstractTickHandler<CartesianTimeTick, TimeT
 	private final CallbackProxy<ProxyTickCallback> tickCallbackProxy = JsHelper.get().newCallbackProxy();
 	// factory of time tick items
 	private final TimeTickItemFactory factory = new TimeTickItemFactory();
+	// list of tick items, wrapping the last native array passed by CHART.JS
+	private List<TimeTickItem> valuesList = null;
 
 	/**
 	 * Builds the object storing the axis instance and options element, based on different kind of axis.
@@ -87,14 +91,41 @@ final class TimeTickHandler extends AbstractTickHandler<CartesianTimeTick, TimeT
 		// -- SET CALLBACKS to PROXIES ---
 		// -------------------------------
 		tickCallbackProxy.setCallback((context, label, index, values) -> {
+			// checks if the ticks have been updated
+			if (checkValues(values)) {
+				// wraps the array only once for all ticks
+				valuesList = getTimeTickItems(values);
+			}
+			// checks if user formatter is consistent
+			if (getFormatter() != null) {
+				// checks if the formatter must be invoked
+				if (!hasFormattedLabels()) {
+					// calls user formatter only once for all ticks
+					setFormattedLabels(getFormatter().onFormat(getAxis(), valuesList));
+				}
+				// returns the label of the tick
+				return getFormattedLabel(index, label);
+			}
 			// checks if user callback is consistent
 			if (getCallback() != null) {
-				// gets as list the tick items
-				List<TimeTickItem> tickItems = getTimeTickItems(values);
 				// retrieves the current value
-				Date value = tickItems.get(index).getValue();
+				Date value = valuesList.get(index).getValue();
+				// checks if the labels caching is enabled
+				if (isLabelsCaching()) {
+					// gets the range of ticks
+					long first = valuesList.get(0).getValue().getTime();
+					long last = valuesList.get(valuesList.size() - 1).getValue().getTime();
+					// creates the key by value, label and range of ticks
+					String key = createLabelKey(value.getTime() + Constants.COMMA + label, first, last);
+					// checks if already cached
+					if (hasCachedLabel(key)) {
+						return getCachedLabel(key);
+					}
+					// calls user callback and caches the result
+					return cacheLabel(key, getCallback().onCallback(getAxis(), value, label, index, valuesList));
+				}
 				// then calls user callback
-				return getCallback().onCallback(getAxis(), value, label, index, getTimeTickItems(values));
+				return getCallback().onCallback(getAxis(), value, label, index, valuesList);
 			}
 			// default tick is the tick label
 			return label;
@@ -110,6 +110,12 @@ public final class ControllerContext {
 	 */
 	@JsOverlay
 	public final ChartNode getNode() {
+		// gets the CHARBA chart instance
+		IsChart chart = getChart();
+		// checks if consistent in order to use the node cached by chart
+		if (chart != null) {
+			return chart.getNode();
+		}
 		return new ChartNode(getNativeChart());
 	}
 
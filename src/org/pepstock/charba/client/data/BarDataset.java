@@ -152,7 +152,7 @@ public class BarDataset extends HovingFlexDataset implements HasDataPoints, HasO
 		// -------------------------------
 		// -- SET CALLBACKS to PROXIES ---
 		// -------------------------------
-		borderSkippedCallbackProxy.setCallback((contextFunction, context) -> onBorderSkipped(context));
+		borderSkippedCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.BORDER_SKIPPED, () -> onBorderSkipped(context)));
 	}
 
 	/*
@@ -149,15 +149,15 @@ public final class BubbleDataset extends HovingDataset implements HasDataPoints,
 		// -- SET CALLBACKS to PROXIES ---
 		// -------------------------------
 		// gets value calling callback
-		radiusCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, radiusCallback, getDefaultValues().getElements().getPoint().getRadius()).doubleValue());
+		radiusCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.RADIUS, () -> ScriptableUtils.getOptionValue(context, radiusCallback, getDefaultValues().getElements().getPoint().getRadius()).doubleValue()));
 		// gets value calling callback
-		hitRadiusCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, hitRadiusCallback, getDefaultValues().getElements().getPoint().getHitRadius()).doubleValue());
+		hitRadiusCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.HIT_RADIUS, () -> ScriptableUtils.getOptionValue(context, hitRadiusCallback, getDefaultValues().getElements().getPoint().getHitRadius()).doubleValue()));
 		// gets value calling callback
-		hoverRadiusCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, hoverRadiusCallback, getDefaultValues().getElements().getPoint().getHoverRadius()).doubleValue());
+		hoverRadiusCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.HOVER_RADIUS, () -> ScriptableUtils.getOptionValue(context, hoverRadiusCallback, getDefaultValues().getElements().getPoint().getHoverRadius()).doubleValue()));
 		// gets value calling callback
-		rotationCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, rotationCallback, getDefaultValues().getElements().getPoint().getRotation()).doubleValue());
+		rotationCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.ROTATION, () -> ScriptableUtils.getOptionValue(context, rotationCallback, getDefaultValues().getElements().getPoint().getRotation()).doubleValue()));
 		// gets value calling callback
-		pointStyleCallbackProxy.setCallback((contextFunction, context) -> onPointStyle(context));
+		pointStyleCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_STYLE, () -> onPointStyle(context)));
 	}
 
 	/*
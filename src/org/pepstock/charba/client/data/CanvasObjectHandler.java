@@ -15,6 +15,9 @@
 */
 package org.pepstock.charba.client.data;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -23,6 +26,7 @@ import java.util.Set;
 
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.callbacks.LegendLabelsCallback;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.items.SizeItem;
 import org.pepstock.charba.client.plugins.AbstractPlugin;
 
@@ -41,12 +45,15 @@ final class CanvasObjectHandler extends AbstractPlugin {
 	private static final CanvasObjectHandler INSTANCE = new CanvasObjectHandler();
 	// plugin ID
 	static final String ID = "charbacanvasobjecthandler";
+	// set of hooks implemented by plugin
+	private static final Set<PluginHook> HOOKS = Collections.unmodifiableSet(
+			EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.BEFORE_DATASETS_DRAW, PluginHook.RESIZE, PluginHook.DESTROY));
 	// status of update
 	private final Set<String> pluginStatus = new HashSet<>();
 	// map for all legend labels callbacks
 	private final Map<String, CanvasObjectLegendLabelsCallback> pluginLegendLabelsCallbacks = new HashMap<>();
-	// maintains the data object of chart status
-	private final Map<String, String> pluginDataToJsonMap = new HashMap<>();
+	// maintains the versions of datasets of chart status
+	private final Map<String, int[]> pluginDatasetsVersionsMap = new HashMap<>();
 
 	/**
 	 * To avoid any instantiation
@@ -74,6 +81,16 @@ final class CanvasObjectHandler extends AbstractPlugin {
 		return ID;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return HOOKS;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -150,25 +167,28 @@ final class CanvasObjectHandler extends AbstractPlugin {
 		if (IsChart.isConsistent(chart) && pluginStatus.contains(chart.getId())) {
 			// // gets data
 			Data data = chart.getData();
-			// gets data json
-			String currentDataToJson = data.getDatasetsAsString();
+			// gets the current versions of datasets
+			int[] currentVersions = data.getDatasetsVersions();
 			// gets list of datasets
 			List<Dataset> datasets = data.getDatasets();
-			// gets data json stored for the chart
-			String dataToJson = pluginDataToJsonMap.get(chart.getId());
-			// checks if the amount of datasets is changed
-			if (dataToJson == null || !dataToJson.equalsIgnoreCase(currentDataToJson)) {
+			// gets the versions of datasets stored for the chart
+			int[] versions = pluginDatasetsVersionsMap.get(chart.getId());
+			// checks if the datasets are changed
+			if (versions == null || !Arrays.equals(versions, currentVersions)) {
 				// data have been changed
 				dataChanged(chart, datasets);
 			}
-			// stores the data chart JSON representation
-			pluginDataToJsonMap.put(chart.getId(), currentDataToJson);
 			// checks if chart must be updated
 			// when you creates new gradients and
 			// set them to dataset configuration in this point of
 			// time is MANDATORY to update chart because CHART.JS
 			// must applied new gradients
-			if (areGradientsChanged(chart, datasets)) {
+			boolean gradientsChanged = areGradientsChanged(chart, datasets);
+			// stores the versions of datasets after the gradients have been applied
+			// because applying them, the versions of datasets are incremented
+			pluginDatasetsVersionsMap.put(chart.getId(), data.getDatasetsVersions());
+			// checks if the gradients have been changed
+			if (gradientsChanged) {
 				// gets callback to enable changes
 				CanvasObjectLegendLabelsCallback canvasObjectCallback = pluginLegendLabelsCallbacks.get(chart.getId());
 				// checks if consistent
@@ -241,7 +261,7 @@ final class CanvasObjectHandler extends AbstractPlugin {
 			pluginLegendLabelsCallbacks.remove(chart.getId());
 			// clean status and data
 			pluginStatus.remove(chart.getId());
-			pluginDataToJsonMap.remove(chart.getId());
+			pluginDatasetsVersionsMap.remove(chart.getId());
 		}
 	}
 
@@ -17,22 +17,25 @@ package org.pepstock.charba.client.data;
 
 import java.util.List;
 
+import org.pepstock.charba.client.Charts;
 import org.pepstock.charba.client.Configuration;
 import org.pepstock.charba.client.ConfigurationElement;
 import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.UpdateConfiguration;
 import org.pepstock.charba.client.colors.CanvasObject;
 import org.pepstock.charba.client.colors.Gradient;
 import org.pepstock.charba.client.colors.Pattern;
 import org.pepstock.charba.client.commons.ArrayMixedObject;
 import org.pepstock.charba.client.commons.ArrayObjectContainerList;
 import org.pepstock.charba.client.commons.ConfigurationLoader;
-import org.pepstock.charba.client.commons.Constants;
 import org.pepstock.charba.client.commons.Key;
 import org.pepstock.charba.client.commons.NativeObjectContainer;
 import org.pepstock.charba.client.items.LegendItem;
 import org.pepstock.charba.client.items.TooltipItem;
 import org.pepstock.charba.client.items.UndefinedValues;
 
+import com.google.gwt.animation.client.AnimationScheduler;
+
 /**
  * CHART.JS entity object to configure the data options of a chart.<br>
  * It contains labels and datasets.
@@ -79,6 +82,12 @@ public final class Data extends NativeObjectContainer implements ConfigurationEl
 	private final ArrayObjectContainerList<Dataset> currentDatasets = new ArrayObjectContainerList<>();
 	// flag to disable canvas object handler
 	private boolean canvasObjectHandling = true;
+	// id of the chart which has loaded the data, used to update it when data are streamed
+	private String chartId = null;
+	// update configuration to use when data are streamed
+	private UpdateConfiguration streamingUpdateConfiguration = null;
+	// flag to know if an update of the chart has been already requested for next animation frame
+	private boolean updateRequested = false;
 
 	/**
 	 * Creates the object with an empty native object.
@@ -316,6 +325,135 @@ public final class Data extends NativeObjectContainer implements ConfigurationEl
 		return this.currentDatasets;
 	}
 
+	/**
+	 * Returns the update configuration used to update the chart when the data are streamed by <code>push</code> methods.
+	 * 
+	 * @return the update configuration used to update the chart when the data are streamed or <code>null</code> if the
+	 *         default update is performed
+	 */
+	public UpdateConfiguration getStreamingUpdateConfiguration() {
+		return streamingUpdateConfiguration;
+	}
+
+	/**
+	 * Sets the update configuration used to update the chart when the data are streamed by <code>push</code> methods.
+	 * 
+	 * @param streamingUpdateConfiguration the update configuration used to update the chart when the data are streamed. If
+	 *            <code>null</code>, the default update is performed
+	 */
+	public void setStreamingUpdateConfiguration(UpdateConfiguration streamingUpdateConfiguration) {
+		this.streamingUpdateConfiguration = streamingUpdateConfiguration;
+	}
+
+	/**
+	 * Appends a label and a value for each dataset, removing the oldest ones in order to have an amount of data not greater
+	 * than the window size (sliding window).<br>
+	 * The value at index <i>N</i> is appended to the dataset at index <i>N</i>. If there are less values than datasets,
+	 * {@link Double#NaN} is appended to the remaining datasets, in order to keep them aligned with the labels.<br>
+	 * All the datasets must have the data as array of numbers. The chart is updated once at next animation frame, even if
+	 * more data are pushed before.
+	 * 
+	 * @param windowSize the maximum amount of labels and data. If 0 or negative, no data is removed.
+	 * @param label label to be appended. If <code>null</code>, the labels are not changed
+	 * @param values values to be appended, one for each dataset
+	 */
+	public void push(int windowSize, String label, double... values) {
+		// checks if all datasets can be streamed before changing anything
+		// in order to keep labels and data aligned
+		for (Dataset dataset : currentDatasets) {
+			dataset.checkStreaming();
+		}
+		// checks if the label must be appended
+		if (label != null) {
+			pushLabels(windowSize, label);
+		}
+		// scans all datasets
+		for (int i = 0; i < currentDatasets.size(); i++) {
+			// gets the value for dataset, using NaN if missing
+			double value = values != null && i < values.length ? values[i] : Double.NaN;
+			// appends and removes the exceeding values
+			currentDatasets.get(i).push(windowSize, value);
+		}
+		// requests the update of the chart
+		requestUpdate();
+	}
+
+	/**
+	 * Appends a set of labels and the values for each dataset, removing the oldest ones in order to have an amount of data not
+	 * greater than the window size (sliding window).<br>
+	 * The array of values at index <i>N</i> is appended to the dataset at index <i>N</i>. All appends and removals are
+	 * performed by a single native invocation for labels and for each dataset.<br>
+	 * All the datasets must have the data as array of numbers. The chart is updated once at next animation frame, even if
+	 * more data are pushed before.
+	 * 
+	 * @param windowSize the maximum amount of labels and data. If 0 or negative, no data is removed.
+	 * @param labels labels to be appended. If <code>null</code>, the labels are not changed
+	 * @param values arrays of values to be appended, one array for each dataset
+	 */
+	public void push(int windowSize, String[] labels, double[]... values) {
+		// checks if the datasets which receive the values can be streamed before changing anything
+		// in order to keep labels and data aligned
+		for (int i = 0; values != null && i < currentDatasets.size() && i < values.length; i++) {
+			currentDatasets.get(i).checkStreaming();
+		}
+		// checks if the labels must be appended
+		if (labels != null && labels.length > 0) {
+			pushLabels(windowSize, labels);
+		}
+		// checks if the values are consistent
+		if (values != null) {
+			// scans all datasets
+			for (int i = 0; i < currentDatasets.size() && i < values.length; i++) {
+				// appends and removes the exceeding values
+				currentDatasets.get(i).push(windowSize, values[i]);
+			}
+		}
+		// requests the update of the chart
+		requestUpdate();
+	}
+
+	/**
+	 * Appends the labels, removing the oldest ones in order to have an amount of labels not greater than the window size.
+	 * 
+	 * @param windowSize the maximum amount of labels. If 0 or negative, no label is removed.
+	 * @param labels labels to be appended
+	 */
+	private void pushLabels(int windowSize, String... labels) {
+		// gets the stored labels or new ones
+		Labels internalLabels = getLabels();
+		// appends and removes the exceeding labels
+		internalLabels.push(windowSize, labels);
+		// checks if the labels must be stored
+		if (!has(Property.LABELS)) {
+			setLabels(internalLabels);
+		}
+	}
+
+	/**
+	 * Requests the update of the chart, which has loaded the data, at the next animation frame.<br>
+	 * If an update has been already requested, it does nothing, in order to coalesce all changes in a single update.
+	 */
+	private void requestUpdate() {
+		// checks if the update has been already requested
+		// and if the data are loaded by a chart
+		if (!updateRequested && chartId != null) {
+			// sets the flag
+			updateRequested = true;
+			// requests the update at next animation frame
+			AnimationScheduler.get().requestAnimationFrame(timestamp -> {
+				// resets the flag
+				updateRequested = false;
+				// gets the chart
+				IsChart chart = Charts.get(chartId);
+				// checks if chart is still consistent
+				if (IsChart.isValid(chart)) {
+					// updates the chart
+					chart.update(streamingUpdateConfiguration);
+				}
+			});
+		}
+	}
+
 	/**
 	 * Returns <code>true</code> if the plugin to manage canvas object (gradients and patterns) has been forcedly disable.<br>
 	 * Pay attention that disabling the handler, your datasets configuration with gradients or patterns will e showed with
@@ -595,20 +733,27 @@ public final class Data extends NativeObjectContainer implements ConfigurationEl
 	}
 
 	/**
-	 * Returns a string representation for all datasets, in JSON format.
+	 * Returns the versions of all datasets, as an array of integers with the amount of datasets and, for each dataset, its
+	 * unique id and its version.<br>
+	 * This is used by canvas object handler to know if the datasets have been changed. The data points and time series items
+	 * are bound to the dataset, therefore the version of the dataset is incremented when they are changed.
 	 * 
-	 * @return a string representation for all datasets, in JSON format.
+	 * @return the versions of all datasets
 	 */
-	String getDatasetsAsString() {
-		// creates the builder
-		StringBuilder sb = new StringBuilder();
+	int[] getDatasetsVersions() {
+		// creates the result
+		int[] versions = new int[currentDatasets.size() * 2 + 1];
+		// stores the amount of datasets
+		versions[0] = currentDatasets.size();
+		// index of array
+		int index = 1;
 		// scans all datasets
 		for (Dataset ds : currentDatasets) {
-			// adds to builder the data in JSON string format
-			sb.append(ds.toFilteredJSON()).append(Constants.LINE_SEPARATOR);
+			// stores the id and the version of dataset
+			versions[index++] = ds.getId();
+			versions[index++] = ds.getVersion();
 		}
-		// returns string of builder
-		return sb.toString();
+		return versions;
 	}
 
 	/*
@@ -622,8 +767,14 @@ public final class Data extends NativeObjectContainer implements ConfigurationEl
 		// checks if chart is consistent
 		// configuration will be check into load data method
 		if (IsChart.isValid(chart)) {
+			// stores the chart id to update it when data are streamed
+			chartId = chart.getId();
 			// loads data
 			ConfigurationLoader.loadData(configuration, this);
+			// adds the plugin to decimate the datasets
+			activateDecimationHandlerPlugin(chart);
+			// adds the plugin to compute the materialized options
+			activateMaterializationHandlerPlugin(chart);
 			// checks if the canvas object handler has been disable
 			if (isCanvasObjectHandling()) {
 				// checks if there is any pattern
@@ -642,6 +793,37 @@ public final class Data extends NativeObjectContainer implements ConfigurationEl
 		}
 	}
 
+	/**
+	 * Adds {@link MaterializationHandler} plugin to the chart.<br>
+	 * The plugin is added even if no dataset has got materialized options, because a materializer can be set to a dataset
+	 * after the chart initialization, when the plugins can not be added anymore without reconfiguring the chart, and it does
+	 * nothing for the datasets without materialized options.
+	 * 
+	 * @param chart chart instance
+	 */
+	private void activateMaterializationHandlerPlugin(IsChart chart) {
+		// checks if the plugin is already loaded
+		if (!chart.getPlugins().has(MaterializationHandler.ID)) {
+			// adds plugin
+			chart.getPlugins().add(MaterializationHandler.get());
+		}
+	}
+
+	/**
+	 * Adds {@link DecimationHandler} plugin to the chart.<br>
+	 * The plugin is added even if no dataset must be decimated, because the decimator can be set to a dataset after the chart
+	 * initialization, and it does nothing if there is not any dataset to decimate.
+	 * 
+	 * @param chart chart instance
+	 */
+	private void activateDecimationHandlerPlugin(IsChart chart) {
+		// checks if the plugin to decimate is already loaded
+		if (!chart.getPlugins().has(DecimationHandler.ID)) {
+			// adds plugin
+			chart.getPlugins().add(DecimationHandler.get());
+		}
+	}
+
 	/**
 	 * Checks if dataset has got patterns or gradient and then add {@link CanvasObjectHandler} plugin to the chart;
 	 * 
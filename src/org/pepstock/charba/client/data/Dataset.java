@@ -16,12 +16,11 @@
 package org.pepstock.charba.client.data;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.pepstock.charba.client.Defaults;
@@ -34,7 +33,10 @@ import org.pepstock.charba.client.callbacks.Scriptable;
 import org.pepstock.charba.client.callbacks.ScriptableContext;
 import org.pepstock.charba.client.callbacks.ScriptableFunctions;
 import org.pepstock.charba.client.callbacks.ScriptableUtils;
+import org.pepstock.charba.client.colors.CanvasObjectCache;
+import org.pepstock.charba.client.colors.CanvasObjectKey;
 import org.pepstock.charba.client.colors.Gradient;
+import org.pepstock.charba.client.colors.IsColor;
 import org.pepstock.charba.client.colors.Pattern;
 import org.pepstock.charba.client.commons.ArrayDouble;
 import org.pepstock.charba.client.commons.ArrayDoubleList;
@@ -42,20 +44,22 @@ import org.pepstock.charba.client.commons.ArrayListHelper;
 import org.pepstock.charba.client.commons.ArrayObject;
 import org.pepstock.charba.client.commons.ArrayObjectContainerList;
 import org.pepstock.charba.client.commons.CallbackProxy;
-import org.pepstock.charba.client.commons.Constants;
+import org.pepstock.charba.client.commons.Float64ArrayList;
 import org.pepstock.charba.client.commons.JsHelper;
 import org.pepstock.charba.client.commons.Key;
 import org.pepstock.charba.client.commons.NativeObjectContainer;
+import org.pepstock.charba.client.commons.ObjectType;
 import org.pepstock.charba.client.defaults.IsDefaultOptions;
 import org.pepstock.charba.client.enums.DataType;
 import org.pepstock.charba.client.items.UndefinedValues;
 import org.pepstock.charba.client.plugins.AbstractPluginOptions;
 import org.pepstock.charba.client.plugins.AbstractPluginOptionsFactory;
 import org.pepstock.charba.client.plugins.PluginIdChecker;
-import org.pepstock.charba.client.utils.JSON;
 
 import com.google.gwt.canvas.dom.client.CanvasGradient;
 import com.google.gwt.canvas.dom.client.CanvasPattern;
+import com.google.gwt.typedarrays.shared.Float64Array;
+import com.google.gwt.typedarrays.shared.TypedArrays;
 
 /**
  * The chart allows a number of properties to be specified for each dataset. These are used to set display properties for a
@@ -108,22 +112,37 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 	static final String DATA_USAGE_MESSAGE = "Use datapoints instead of data for this dataset";
 	// exception string message for setting ore getting data
 	static final String TIME_SERIES_DATA_USAGE_MESSAGE = "setData and getData methods are not invokable by a time series chart";
+	// exception message when the data can not be streamed
+	static final String STREAMING_USAGE_MESSAGE = "Streaming is available only for datasets with data as array of numbers";
+	// exception message when the arrays of values have got different lengths
+	static final String DATA_LENGTHS_MESSAGE = "The arrays of values have got different lengths";
 	// patterns container
 	private final PatternsContainer patternsContainer = new PatternsContainer();
 	// gradients container
 	private final GradientsContainer gradientsContainer = new GradientsContainer();
 	// cache for gradients created by callbacks
+	// not bounded because the legend reads the first element
+	// and the cache is cleared at every update
 	// K = key + dataset locator, V = gradient
-	private final Map<String, Gradient> callbackGradientsContainer = new HashMap<>();
+	private final CanvasObjectCache<CanvasObjectKey, Gradient> callbackGradientsContainer = new CanvasObjectCache<>(CanvasObjectCache.UNBOUNDED_SIZE);
 	// cache for patterns created by callbacks
+	// not bounded because the legend reads the first element
+	// and the cache is cleared at every update
 	// K = key + dataset locator, V = pattern
-	private final Map<String, Pattern> callbackPatternsContainer = new HashMap<>();
+	private final CanvasObjectCache<CanvasObjectKey, Pattern> callbackPatternsContainer = new CanvasObjectCache<>(CanvasObjectCache.UNBOUNDED_SIZE);
+	// cache for the results of scriptable options
+	private final ScriptableResultsCache scriptableResultsCache = new ScriptableResultsCache();
+	// options computed by materializers
+	// K = property, V = materialized option
+	private final Map<Key, MaterializedOption> materializedOptions = new HashMap<>();
+	// data version of dataset when the materialized options have been computed
+	private int materializedVersion = Integer.MIN_VALUE;
+	// counter of the changes applied to the data of dataset
+	private int dataVersion = 0;
 	// default options values
 	private final IsDefaultOptions defaultValues;
 	// chart type related to dataset
 	private final Type type;
-	// internal comparator to sort time series items
-	private static final Comparator<TimeSeriesItem> COMPARATOR = (TimeSeriesItem o1, TimeSeriesItem o2) -> o1.getTime().compareTo(o2.getTime());
 
 	/**
 	 * Name of properties of native object.
@@ -196,17 +215,17 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		// -- SET CALLBACKS to PROXIES ---
 		// -------------------------------
 		// gets value calling callback
-		backgroundColorCallbackProxy.setCallback((contextFunction, context) -> invokeColorCallback(context, backgroundColorCallback, Property.BACKGROUND_COLOR, getDefaultBackgroundColorAsString(), true));
+		backgroundColorCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.BACKGROUND_COLOR, () -> invokeColorCallback(context, backgroundColorCallback, Property.BACKGROUND_COLOR, getDefaultBackgroundColorAsString(), true)));
 		// gets value calling callback
-		borderColorCallbackProxy.setCallback((contextFunction, context) -> invokeColorCallback(context, borderColorCallback, Property.BORDER_COLOR, getDefaultBorderColorAsString(), false));
+		borderColorCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.BORDER_COLOR, () -> invokeColorCallback(context, borderColorCallback, Property.BORDER_COLOR, getDefaultBorderColorAsString(), false)));
 		// gets value calling callback
-		borderWidthCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, borderWidthCallback, getDefaultBorderWidth()).intValue());
+		borderWidthCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.BORDER_WIDTH, () -> ScriptableUtils.getOptionValue(context, borderWidthCallback, getDefaultBorderWidth()).intValue()));
 		// gets value calling callback
-		hoverBackgroundColorCallbackProxy.setCallback((contextFunction, context) -> invokeColorCallback(context, hoverBackgroundColorCallback, Property.HOVER_BACKGROUND_COLOR, getDefaultBackgroundColorAsString(), true));
+		hoverBackgroundColorCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.HOVER_BACKGROUND_COLOR, () -> invokeColorCallback(context, hoverBackgroundColorCallback, Property.HOVER_BACKGROUND_COLOR, getDefaultBackgroundColorAsString(), true)));
 		// gets value calling callback
-		hoverBorderColorCallbackProxy.setCallback((contextFunction, context) -> invokeColorCallback(context, hoverBorderColorCallback, Property.HOVER_BORDER_COLOR, getDefaultBorderColorAsString(), false));
+		hoverBorderColorCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.HOVER_BORDER_COLOR, () -> invokeColorCallback(context, hoverBorderColorCallback, Property.HOVER_BORDER_COLOR, getDefaultBorderColorAsString(), false)));
 		// gets value calling callback
-		hoverBorderWidthCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, hoverBorderWidthCallback, getDefaultBorderWidth()).intValue());
+		hoverBorderWidthCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.HOVER_BORDER_WIDTH, () -> ScriptableUtils.getOptionValue(context, hoverBorderWidthCallback, getDefaultBorderWidth()).intValue()));
 	}
 
 	/**
@@ -227,6 +246,85 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		return getValue(Property.CHARBA_DATA_TYPE, DataType.class, DataType.UNKNOWN);
 	}
 
+	/**
+	 * Stores the data type of the data, every time the data have been set or removed, incrementing the version of the data.
+	 * 
+	 * @param dataType the data type of the data
+	 */
+	final void setDataType(DataType dataType) {
+		setValue(Property.CHARBA_DATA_TYPE, dataType);
+		// the data have been changed
+		dataVersion++;
+		// gets the decimator
+		DatasetDecimator decimator = getDecimator();
+		// checks if the data are decimated
+		if (decimator != null) {
+			// the new data are the full resolution ones
+			decimator.setSource(getInternalDataPointsArray());
+		}
+	}
+
+	/**
+	 * Returns the version of the data of the dataset, a counter which is incremented every time the data are set or removed, or
+	 * decimated, or a list or a data point or a time series item, bound to the dataset, is changed.<br>
+	 * The data version is changed only by the changes of the data, while the version of the dataset is changed by the changes
+	 * of the data and of the options.
+	 * 
+	 * @return the version of the data of the dataset
+	 */
+	final int getDataVersion() {
+		return dataVersion;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.commons.NativeObjectContainer#onBoundChange()
+	 */
+	@Override
+	protected final void onBoundChange() {
+		// only the data are bound to the dataset
+		// therefore the data have been changed
+		dataVersion++;
+	}
+
+	/**
+	 * Sets <code>true</code> if the results of scriptable options callbacks must be cached by property, dataset index, data
+	 * index and active status.<br>
+	 * The cache is invalidated every time the data, including the data points and time series items changed in place, or the
+	 * options of the dataset are changed, therefore it must be enabled only when the callbacks are deterministic, returning the
+	 * same value for the same context.
+	 * 
+	 * @param caching <code>true</code> if the results of scriptable options callbacks must be cached
+	 */
+	public final void setScriptableCaching(boolean caching) {
+		scriptableResultsCache.setEnabled(caching);
+	}
+
+	/**
+	 * Returns <code>true</code> if the results of scriptable options callbacks are cached by property, dataset index, data
+	 * index and active status.
+	 * 
+	 * @return <code>true</code> if the results of scriptable options callbacks are cached. Default is <code>false</code>
+	 */
+	public final boolean isScriptableCaching() {
+		return scriptableResultsCache.isEnabled();
+	}
+
+	/**
+	 * Returns the value of a scriptable option, from cache if enabled and already resolved for the same context, version and
+	 * data version of the dataset, otherwise invoking the resolver.
+	 * 
+	 * @param context scriptable context
+	 * @param property property of dataset of the scriptable option
+	 * @param resolver resolver which invokes the callback
+	 * @param <T> type of the value of scriptable option
+	 * @return the value of a scriptable option
+	 */
+	final <T> T getScriptableValue(ScriptableContext context, Key property, ScriptableResultsCache.Resolver<T> resolver) {
+		return scriptableResultsCache.get(getVersion(), getDataVersion(), property, context, resolver);
+	}
+
 	/**
 	 * Returns the patterns container element.
 	 * 
@@ -536,6 +634,162 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		}
 	}
 
+	/**
+	 * Sets the materializer which computes the background color of every data element, stored as array and computed
+	 * again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the background color of every data element. If
+	 *            <code>null</code>, the materialized option is removed
+	 */
+	public final void materializeBackgroundColor(Materializer<IsColor> materializer) {
+		setMaterializedOption(Property.BACKGROUND_COLOR, materializer != null ? MaterializedOption.color(materializer, getDefaultBackgroundColorAsString()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the border color of every data element, stored as array and computed again
+	 * only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the border color of every data element. If <code>null</code>,
+	 *            the materialized option is removed
+	 */
+	public final void materializeBorderColor(Materializer<IsColor> materializer) {
+		setMaterializedOption(Property.BORDER_COLOR, materializer != null ? MaterializedOption.color(materializer, getDefaultBorderColorAsString()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the border width of every data element, stored as array and computed again
+	 * only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the border width of every data element. If <code>null</code>,
+	 *            the materialized option is removed
+	 */
+	public final void materializeBorderWidth(Materializer<Integer> materializer) {
+		setMaterializedOption(Property.BORDER_WIDTH, materializer != null ? MaterializedOption.number(materializer, getDefaultBorderWidth()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the background color, when hovered, of every data element, stored as array
+	 * and computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the background color, when hovered, of every data element. If
+	 *            <code>null</code>, the materialized option is removed
+	 */
+	public final void materializeHoverBackgroundColor(Materializer<IsColor> materializer) {
+		setMaterializedOption(Property.HOVER_BACKGROUND_COLOR, materializer != null ? MaterializedOption.color(materializer, getDefaultBackgroundColorAsString()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the border color, when hovered, of every data element, stored as array and
+	 * computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the border color, when hovered, of every data element. If
+	 *            <code>null</code>, the materialized option is removed
+	 */
+	public final void materializeHoverBorderColor(Materializer<IsColor> materializer) {
+		setMaterializedOption(Property.HOVER_BORDER_COLOR, materializer != null ? MaterializedOption.color(materializer, getDefaultBorderColorAsString()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the border width, when hovered, of every data element, stored as array and
+	 * computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the border width, when hovered, of every data element. If
+	 *            <code>null</code>, the materialized option is removed
+	 */
+	public final void materializeHoverBorderWidth(Materializer<Integer> materializer) {
+		setMaterializedOption(Property.HOVER_BORDER_WIDTH, materializer != null ? MaterializedOption.number(materializer, getDefaultBorderWidth()) : null);
+	}
+
+	/**
+	 * Sets or removes a materialized option for the property passed as argument.<br>
+	 * The materialized option takes precedence over the values and the callback set for the same property.
+	 * 
+	 * @param property property of dataset to materialize
+	 * @param option materialized option or <code>null</code> to remove it
+	 */
+	final void setMaterializedOption(Key property, MaterializedOption option) {
+		// resets previous setting
+		resetBeingCallback(property);
+		// checks if option is consistent
+		if (option != null) {
+			// stores the option
+			materializedOptions.put(property, option);
+		} else {
+			// removes the option
+			materializedOptions.remove(property);
+		}
+		// forces the computation at next update
+		materializedVersion = Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Returns <code>true</code> if the dataset has got any materialized option.
+	 * 
+	 * @return <code>true</code> if the dataset has got any materialized option
+	 */
+	final boolean hasMaterializedOptions() {
+		return !materializedOptions.isEmpty();
+	}
+
+	/**
+	 * Computes all materialized options over the data of the dataset, only if the data of the dataset, including the data points
+	 * and time series items changed in place, or the materialized options have been changed since the last computation.<br>
+	 * This is called by {@link MaterializationHandler}.
+	 * 
+	 * @see MaterializationHandler
+	 */
+	final void applyMaterializedOptions() {
+		// checks if there is any option and if the data have been changed
+		if (materializedOptions.isEmpty() || materializedVersion == getDataVersion()) {
+			return;
+		}
+		// gets the values of data elements
+		double[] values = getMaterializationValues();
+		// scans all options
+		for (Entry<Key, MaterializedOption> entry : materializedOptions.entrySet()) {
+			MaterializedOption option = entry.getValue();
+			// stores the array by the type of option
+			if (option.isColor()) {
+				setValueOrArray(entry.getKey(), option.materializeColors(values));
+			} else {
+				setValueOrArray(entry.getKey(), option.materializeNumbers(values));
+			}
+		}
+		// stores the data version
+		// the options set by materialization do not change the data version
+		materializedVersion = getDataVersion();
+	}
+
+	/**
+	 * Returns the values of data elements to pass to the materializers.
+	 * 
+	 * @return the values of data elements
+	 */
+	private double[] getMaterializationValues() {
+		// checks if data are numbers
+		if (DataType.NUMBERS.equals(getDataType())) {
+			// gets data
+			List<Double> data = getData();
+			double[] values = new double[data.size()];
+			// scans all data
+			for (int i = 0; i < values.length; i++) {
+				values[i] = data.get(i);
+			}
+			return values;
+		} else if (DataType.POINTS.equals(getDataType())) {
+			// gets the data points passed to CHART.JS
+			// which are the decimated ones, if the data are decimated
+			ArrayObject array = getArrayValue(Property.DATA);
+			double[] x = new double[array.length()];
+			double[] values = new double[array.length()];
+			// copies the Y values of all data points
+			JsDataHelper.get().columns(array, x, values);
+			return values;
+		}
+		// if here, data are not set
+		return new double[0];
+	}
+
 	/**
 	 * Returns the default background color value based on type of chart.
 	 * 
@@ -685,7 +939,7 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		// set value. If null, removes key and then..
 		setArrayValue(Property.DATA, ArrayDouble.fromOrNull(values));
 		// sets data type checking if the key exists
-		setValue(Property.CHARBA_DATA_TYPE, has(Property.DATA) ? DataType.NUMBERS : DataType.UNKNOWN);
+		setDataType(has(Property.DATA) ? DataType.NUMBERS : DataType.UNKNOWN);
 	}
 
 	/**
@@ -700,10 +954,93 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 			// if not, exception
 			throw new UnsupportedOperationException(DATA_USAGE_MESSAGE);
 		}
+		// binds the list to the dataset when it is backed by a native array
+		// because the array is stored as is and the changes applied to the list must be tracked
+		bind(values);
+		// checks if the list is backed by a typed array
+		if (values instanceof Float64ArrayList) {
+			// casts to typed array list
+			Float64ArrayList list = (Float64ArrayList) values;
+			// stores the typed array as is
+			setData(list.getArray());
+			return;
+		}
 		// set value. If null, removes key and then..
 		setArrayValue(Property.DATA, ArrayDouble.fromOrNull(values));
 		// sets data type checking if the key exists
-		setValue(Property.CHARBA_DATA_TYPE, has(Property.DATA) ? DataType.NUMBERS : DataType.UNKNOWN);
+		setDataType(has(Property.DATA) ? DataType.NUMBERS : DataType.UNKNOWN);
+	}
+
+	/**
+	 * Sets the data property of a dataset for a chart is specified as a typed array of numbers (<code>Float64Array</code>).
+	 * Each point in the data array corresponds to the label at the same index on the x axis.<br>
+	 * The typed array is passed to CHART.JS as is, as a contiguous block of values, without any copy or boxing.
+	 * 
+	 * @param values a typed array of numbers
+	 */
+	public void setData(Float64Array values) {
+		// checks if it can use data as double
+		if (mustUseDataPoints()) {
+			// if not, exception
+			throw new UnsupportedOperationException(DATA_USAGE_MESSAGE);
+		}
+		// set value. If null, removes key and then..
+		setFloat64ArrayValue(Property.DATA, values);
+		// sets data type checking if the key exists
+		setDataType(has(Property.DATA) ? DataType.NUMBERS : DataType.UNKNOWN);
+	}
+
+	/**
+	 * Sets the data property of a dataset for a chart is specified as a typed array of numbers (<code>Float64Array</code>),
+	 * creating it and copying the passed values by a single native invocation.<br>
+	 * Each point in the data array corresponds to the label at the same index on the x axis.
+	 * 
+	 * @param values an array of numbers
+	 */
+	public void setDataBuffer(double... values) {
+		// checks if values are consistent
+		if (values != null && values.length > 0) {
+			// creates the typed array
+			Float64Array buffer = TypedArrays.createFloat64Array(values.length);
+			// copies the values
+			buffer.set(values);
+			// stores the data
+			setData(buffer);
+		} else {
+			// if here, the argument is not consistent
+			// then removes the data
+			setData((Float64Array) null);
+		}
+	}
+
+	/**
+	 * Returns the data property of a dataset when it has been set as typed array of numbers (<code>Float64Array</code>).
+	 * 
+	 * @return the typed array of numbers or <code>null</code> if the data have not been set as typed array.
+	 */
+	public Float64Array getDataBuffer() {
+		// checks if it can use data as double
+		if (mustUseDataPoints()) {
+			// if not, exception
+			throw new UnsupportedOperationException(DATA_USAGE_MESSAGE);
+		}
+		// checks if is a typed array of numbers
+		if (isDataBuffer()) {
+			// returns the typed array
+			return getFloat64ArrayValue(Property.DATA);
+		}
+		// if here, the data are not stored as typed array
+		return null;
+	}
+
+	/**
+	 * Returns <code>true</code> if the data of the dataset have been set as typed array of numbers (<code>Float64Array</code>).
+	 * 
+	 * @return <code>true</code> if the data of the dataset have been set as typed array of numbers
+	 */
+	private boolean isDataBuffer() {
+		// a typed array is an object and not an array
+		return has(Property.DATA) && DataType.NUMBERS.equals(getDataType()) && ObjectType.OBJECT.equals(type(Property.DATA));
 	}
 
 	/**
@@ -718,7 +1055,9 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 
 	/**
 	 * Returns the data property of a dataset for a chart is specified as an array of numbers. Each point in the data array
-	 * corresponds to the label at the same index on the x axis.
+	 * corresponds to the label at the same index on the x axis.<br>
+	 * If the data have been set as typed array of numbers, the returned list is a fixed-size {@link Float64ArrayList}, backed
+	 * by the typed array.
 	 * 
 	 * @param binding if <code>true</code> binds the new array list into container
 	 * @return list of numbers or an empty list of numbers if the data type is not {@link DataType#NUMBERS}.
@@ -729,20 +1068,25 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 			// if not, exception
 			throw new UnsupportedOperationException(DATA_USAGE_MESSAGE);
 		}
+		// checks if is a typed array of numbers
+		if (isDataBuffer()) {
+			// returns the list backed by the typed array, bound to the dataset to track the changes
+			return bind(new Float64ArrayList(getFloat64ArrayValue(Property.DATA)));
+		}
 		// checks if is a numbers data type
 		if (has(Property.DATA) && DataType.NUMBERS.equals(getDataType())) {
 			// returns numbers
 			ArrayDouble array = getArrayValue(Property.DATA);
-			// returns array
-			return ArrayListHelper.list(array);
+			// returns array, bound to the dataset to track the changes
+			return bind(ArrayListHelper.list(array));
 		}
 		// checks if wants to bind the array
 		if (binding) {
-			ArrayDoubleList result = new ArrayDoubleList();
+			ArrayDoubleList result = bind(new ArrayDoubleList());
 			// set value
 			setArrayValue(Property.DATA, ArrayDouble.fromOrEmpty(result));
 			// sets data type
-			setValue(Property.CHARBA_DATA_TYPE, DataType.NUMBERS);
+			setDataType(DataType.NUMBERS);
 			// returns list
 			return result;
 		}
@@ -750,6 +1094,38 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		return new LinkedList<>();
 	}
 
+	/**
+	 * Appends the values to the end of the data and then removes the oldest ones, in order to have an amount of data not
+	 * greater than the window size.<br>
+	 * Both operations are performed by a single native invocation. This is available only when the data of the dataset are an
+	 * array of numbers.
+	 * 
+	 * @param windowSize the maximum amount of data. If 0 or negative, no value is removed.
+	 * @param values values to be appended
+	 * @return the amount of removed values
+	 */
+	public int push(int windowSize, double... values) {
+		// checks if the data can be streamed as array of numbers
+		checkStreaming();
+		// gets the data, binding a new array if not exists
+		// the list is bound to the dataset to track the changes
+		ArrayDoubleList data = (ArrayDoubleList) getData(true);
+		// appends and removes the exceeding values
+		return data.push(windowSize, values);
+	}
+
+	/**
+	 * Checks if the data of the dataset can be streamed, which is available only when the data are an array of numbers.<br>
+	 * If not, an {@link UnsupportedOperationException} is thrown.
+	 */
+	final void checkStreaming() {
+		// checks if the data can be streamed as array of numbers
+		if (mustUseDataPoints() || this instanceof HasTimeSeriesItems || isDataBuffer() || (has(Property.DATA) && !DataType.NUMBERS.equals(getDataType()))) {
+			// if not, exception
+			throw new UnsupportedOperationException(STREAMING_USAGE_MESSAGE);
+		}
+	}
+
 	/**
 	 * Returns the data property of a dataset for a chart is specified as an array of data points
 	 * 
@@ -760,18 +1136,18 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 	final List<DataPoint> getDataPoints(DataPointFactory factory, boolean binding) {
 		// checks if is a numbers data type
 		if (has(Dataset.Property.DATA) && DataType.POINTS.equals(getDataType())) {
-			// gets array
-			ArrayObject array = getArrayValue(Dataset.Property.DATA);
-			// returns points
-			return ArrayListHelper.list(array, factory);
+			// gets full resolution array
+			ArrayObject array = getFullResolutionDataPointsArray();
+			// returns points, bound to the dataset to track the changes
+			return bind(ArrayListHelper.list(array, factory));
 		}
 		// checks if wants to bind the array
 		if (binding) {
-			ArrayObjectContainerList<DataPoint> result = new ArrayObjectContainerList<>();
+			ArrayObjectContainerList<DataPoint> result = bind(new ArrayObjectContainerList<>());
 			// set value
 			setArrayValue(Dataset.Property.DATA, ArrayObject.fromOrEmpty(result));
 			// sets data type
-			setValue(Dataset.Property.CHARBA_DATA_TYPE, DataType.POINTS);
+			setDataType(DataType.POINTS);
 			// returns list
 			return result;
 		}
@@ -785,9 +1161,12 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 	 * @param datapoints an array of data points
 	 */
 	final void setInternalDataPoints(DataPoint... datapoints) {
+		// binds the data points to the dataset
+		// because the changes applied to them must be tracked
+		bindAll(datapoints);
 		setArrayValue(Property.DATA, ArrayObject.fromOrNull(datapoints));
 		// sets data type checking if the key exists
-		setValue(Property.CHARBA_DATA_TYPE, has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
+		setDataType(has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
 	}
 
 	/**
@@ -796,9 +1175,41 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 	 * @param datapoints a list of data points
 	 */
 	final void setInternalDataPoints(List<DataPoint> datapoints) {
+		// binds the list to the dataset when it is backed by a native array
+		// because the array is stored as is and the changes applied to the list must be tracked
+		bind(datapoints);
+		// binds the data points to the dataset
+		// because the changes applied to them must be tracked
+		bindAll(datapoints);
 		setArrayValue(Dataset.Property.DATA, ArrayObject.fromOrNull(datapoints));
 		// sets data type checking if the key exists
-		setValue(Dataset.Property.CHARBA_DATA_TYPE, has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
+		setDataType(has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
+	}
+
+	/**
+	 * Sets the data property of a dataset for a chart is specified as an array of data points, creating the data points in one
+	 * pass by the arrays of values passed as arguments, without creating any data point instance.
+	 * 
+	 * @param x array of X values
+	 * @param y array of Y values
+	 * @param r array of radius values, can be <code>null</code>
+	 */
+	final void setInternalDataPoints(double[] x, double[] y, double[] r) {
+		// checks if arrays are consistent
+		if (x != null && y != null) {
+			// checks if the arrays have got the same length
+			if (x.length != y.length || (r != null && r.length != x.length)) {
+				// if not, exception
+				throw new IllegalArgumentException(DATA_LENGTHS_MESSAGE);
+			}
+			// creates and stores the data points in one pass
+			setArrayValue(Property.DATA, JsDataHelper.get().dataPoints(x, y, r));
+		} else {
+			// removes the data
+			remove(Property.DATA);
+		}
+		// sets data type checking if the key exists
+		setDataType(has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
 	}
 
 	/**
@@ -811,18 +1222,18 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 	final List<TimeSeriesItem> getTimeSeriesItems(TimeSeriesItemFactory factory, boolean binding) {
 		// checks if is a numbers data type
 		if (has(Dataset.Property.DATA) && DataType.POINTS.equals(getDataType())) {
-			// gets array
-			ArrayObject array = getArrayValue(Dataset.Property.DATA);
-			// returns points
-			return ArrayListHelper.list(array, factory);
+			// gets full resolution array
+			ArrayObject array = getFullResolutionDataPointsArray();
+			// returns items, bound to the dataset to track the changes
+			return bind(ArrayListHelper.list(array, factory));
 		}
 		// checks if wants to bind the array
 		if (binding) {
-			ArrayObjectContainerList<TimeSeriesItem> result = new ArrayObjectContainerList<>();
+			ArrayObjectContainerList<TimeSeriesItem> result = bind(new ArrayObjectContainerList<>());
 			// set value
 			setArrayValue(Dataset.Property.DATA, ArrayObject.fromOrEmpty(result));
 			// sets data type
-			setValue(Dataset.Property.CHARBA_DATA_TYPE, DataType.POINTS);
+			setDataType(DataType.POINTS);
 			// returns list
 			return result;
 		}
@@ -838,11 +1249,23 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 	final void setInternalTimeSeriesItems(TimeSeriesItem... timeSeriesItems) {
 		// checks if array is consistent
 		if (timeSeriesItems != null) {
-			Arrays.sort(timeSeriesItems, COMPARATOR);
+			// gets the order of items by their times
+			int[] order = TimeSeriesItemsSorter.order(getTimes(timeSeriesItems));
+			// checks if the items must be sorted
+			if (order != null) {
+				// copies the items in order to reorder them into the array
+				TimeSeriesItem[] copy = Arrays.copyOf(timeSeriesItems, timeSeriesItems.length);
+				for (int i = 0; i < order.length; i++) {
+					timeSeriesItems[i] = copy[order[i]];
+				}
+			}
 		}
+		// binds the items to the dataset
+		// because the changes applied to them must be tracked
+		bindAll(timeSeriesItems);
 		setArrayValue(Property.DATA, ArrayObject.fromOrNull(timeSeriesItems));
 		// sets data type checking if the key exists
-		setValue(Property.CHARBA_DATA_TYPE, has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
+		setDataType(has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
 	}
 
 	/**
@@ -851,13 +1274,179 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 	 * @param timeSeriesItems a list of time series items
 	 */
 	final void setInternalTimeSeriesItems(List<TimeSeriesItem> timeSeriesItems) {
+		// binds the list to the dataset when it is backed by a native array
+		// because the array is stored as is and the changes applied to the list must be tracked
+		bind(timeSeriesItems);
+		// binds the items to the dataset
+		// because the changes applied to them must be tracked
+		bindAll(timeSeriesItems);
 		// checks if list is consistent
 		if (timeSeriesItems != null) {
-			Collections.sort(timeSeriesItems, COMPARATOR);
+			// copies the items into an array
+			TimeSeriesItem[] copy = timeSeriesItems.toArray(new TimeSeriesItem[0]);
+			// gets the order of items by their times
+			int[] order = TimeSeriesItemsSorter.order(getTimes(copy));
+			// checks if the items must be sorted
+			if (order != null) {
+				// reorders the items into the list
+				for (int i = 0; i < order.length; i++) {
+					timeSeriesItems.set(i, copy[order[i]]);
+				}
+			}
 		}
 		setArrayValue(Dataset.Property.DATA, ArrayObject.fromOrNull(timeSeriesItems));
 		// sets data type checking if the key exists
-		setValue(Dataset.Property.CHARBA_DATA_TYPE, has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
+		setDataType(has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
+	}
+
+	/**
+	 * Sets the data property of a dataset for a chart is specified as an array of time series items, creating the items in one
+	 * pass by the arrays of values passed as arguments, without creating any time series item instance.<br>
+	 * The items are sorted by their times.
+	 * 
+	 * @param times array of times, as epoch milliseconds
+	 * @param values array of values
+	 */
+	final void setInternalTimeSeriesItems(long[] times, double[] values) {
+		// checks if arrays are consistent
+		if (times != null && values != null) {
+			// checks if the arrays have got the same length
+			if (times.length != values.length) {
+				// if not, exception
+				throw new IllegalArgumentException(DATA_LENGTHS_MESSAGE);
+			}
+			// gets the order of items by their times
+			int[] order = TimeSeriesItemsSorter.order(times);
+			// creates the columns to pass to java script
+			double[] sortedTimes = new double[times.length];
+			double[] sortedValues = new double[values.length];
+			for (int i = 0; i < times.length; i++) {
+				// gets the index of the item to store at this position
+				int index = order != null ? order[i] : i;
+				sortedTimes[i] = times[index];
+				sortedValues[i] = values[index];
+			}
+			// creates and stores the time series items in one pass
+			setInternalSortedTimeSeriesItems(sortedTimes, sortedValues);
+		} else {
+			// removes the data
+			remove(Property.DATA);
+			// sets data type
+			setDataType(DataType.UNKNOWN);
+		}
+	}
+
+	/**
+	 * Sets the data property of a dataset for a chart is specified as an array of time series items, creating the items in one
+	 * pass by the arrays of values passed as arguments, which must be already sorted by times.
+	 * 
+	 * @param times array of sorted times, as epoch milliseconds
+	 * @param values array of values, with the same length of times
+	 */
+	final void setInternalSortedTimeSeriesItems(double[] times, double[] values) {
+		setArrayValue(Property.DATA, JsDataHelper.get().timeSeriesItems(times, values));
+		// sets data type checking if the key exists
+		setDataType(has(Dataset.Property.DATA) ? DataType.POINTS : DataType.UNKNOWN);
+	}
+
+	/**
+	 * Returns the data property of a dataset as native array, only if the data are data points or time series items.
+	 * 
+	 * @return the data property of a dataset as native array or <code>null</code> if the data type is not
+	 *         {@link DataType#POINTS}
+	 */
+	final ArrayObject getInternalDataPointsArray() {
+		// checks if is a points data type
+		if (has(Dataset.Property.DATA) && DataType.POINTS.equals(getDataType())) {
+			return getArrayValue(Dataset.Property.DATA);
+		}
+		// if here, the data are not points
+		return null;
+	}
+
+	/**
+	 * Binds all data points or time series items to the dataset, in order that every change applied to them increments the
+	 * version of the data.
+	 * 
+	 * @param items array of data points or time series items
+	 */
+	private void bindAll(NativeObjectContainer[] items) {
+		// checks if array is consistent
+		if (items != null) {
+			bindAll(Arrays.asList(items));
+		}
+	}
+
+	/**
+	 * Binds all data points or time series items to the dataset, in order that every change applied to them increments the
+	 * version of the data.
+	 * 
+	 * @param items list of data points or time series items
+	 */
+	private void bindAll(List<? extends NativeObjectContainer> items) {
+		// checks if list is consistent
+		if (items != null) {
+			// scans all items
+			for (NativeObjectContainer item : items) {
+				// binds the item
+				bind(item);
+			}
+		}
+	}
+
+	/**
+	 * Sets the data property of a dataset as native array of data points or time series items, maintaining the data type and
+	 * the full resolution data maintained by the decimator, if there is.<br>
+	 * This is used to store the decimated data and to restore the full resolution ones when the decimation is disabled.
+	 * 
+	 * @param array native array of data points or time series items
+	 */
+	final void setInternalDataPointsArray(ArrayObject array) {
+		setArrayValue(Property.DATA, array);
+		// the data passed to CHART.JS have been changed
+		dataVersion++;
+	}
+
+	/**
+	 * Returns the data property of a dataset as native array of data points or time series items, reading the full resolution
+	 * data from the decimator, if the data are decimated.
+	 * 
+	 * @return the full resolution data as native array of data points or time series items
+	 */
+	private ArrayObject getFullResolutionDataPointsArray() {
+		// gets the decimator
+		DatasetDecimator decimator = getDecimator();
+		// checks if the data are decimated
+		if (decimator != null && decimator.getSource() != null) {
+			return decimator.getSource();
+		}
+		// if here, the data are not decimated
+		return getArrayValue(Property.DATA);
+	}
+
+	/**
+	 * Returns the decimator of the data of the dataset.<br>
+	 * By default, the data of the dataset are not decimated.
+	 * 
+	 * @return the decimator of the data of the dataset or <code>null</code> if the decimation is disabled
+	 */
+	DatasetDecimator getDecimator() {
+		return null;
+	}
+
+	/**
+	 * Returns the times of the time series items, as epoch milliseconds, to use them as sort keys.
+	 * 
+	 * @param timeSeriesItems array of time series items
+	 * @return the times of the time series items, as epoch milliseconds
+	 */
+	private static long[] getTimes(TimeSeriesItem[] timeSeriesItems) {
+		long[] times = new long[timeSeriesItems.length];
+		// scans all items reading the time only once per item
+		for (int i = 0; i < timeSeriesItems.length; i++) {
+			times[i] = timeSeriesItems[i].getTimeInMillis();
+		}
+		return times;
 	}
 
 	/*
@@ -1006,9 +1595,9 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		// checks consistency of key and if there is any gradient stored in cache
 		if (Key.isValid(property) && !callbackGradientsContainer.isEmpty()) {
 			// creates the key used to store the gradient
-			String key = createCallbackGradienttKey(property, datasetIndex, index);
+			CanvasObjectKey key = new CanvasObjectKey(property, datasetIndex, index);
 			// access to cache to get the gradient by key
-			return callbackGradientsContainer.get(key);
+			return callbackGradientsContainer.get(null, key);
 		}
 		// if here the arguments are not consistent
 		return null;
@@ -1026,9 +1615,9 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		// checks consistency of key and if there is any pattern stored in cache
 		if (Key.isValid(property) && !callbackPatternsContainer.isEmpty()) {
 			// creates the key used to store the pattern
-			String key = createCallbackGradienttKey(property, datasetIndex, index);
+			CanvasObjectKey key = new CanvasObjectKey(property, datasetIndex, index);
 			// access to cache to get the pattern by key
-			return callbackPatternsContainer.get(key);
+			return callbackPatternsContainer.get(null, key);
 		}
 		// if here the arguments are not consistent
 		return null;
@@ -1054,13 +1643,13 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 			// calls callback
 			Object result = callback.invoke(chart, context);
 			if (result instanceof Gradient) {
-				String key = createCallbackGradienttKey(property, context.getDatasetIndex(), context.getIndex());
+				CanvasObjectKey key = new CanvasObjectKey(property, context.getDatasetIndex(), context.getIndex());
 				Gradient gradient = (Gradient) result;
-				callbackGradientsContainer.put(key, gradient);
+				callbackGradientsContainer.put(null, key, gradient);
 			} else if (result instanceof Pattern) {
-				String key = createCallbackGradienttKey(property, context.getDatasetIndex(), context.getIndex());
+				CanvasObjectKey key = new CanvasObjectKey(property, context.getDatasetIndex(), context.getIndex());
 				Pattern pattern = (Pattern) result;
-				callbackPatternsContainer.put(key, pattern);
+				callbackPatternsContainer.put(null, key, pattern);
 			}
 			return ScriptableUtils.handleCallbackResultAsColor(context, result, defaultValue, hasPattern);
 		}
@@ -1068,38 +1657,4 @@ public abstract class Dataset extends NativeObjectContainer implements HasDatase
 		return defaultValue;
 	}
 
-	/**
-	 * Returns a unique key to store canvas objects, created by callbacks, into a cache.<br>
-	 * The format is <code>[property],[datasetIndex],[dataIndex]</code>.
-	 * 
-	 * @param property property of dataset
-	 * @param datasetIndex dataset index
-	 * @param index data index
-	 * @return the key to use to store canvas object into cache
-	 */
-	private String createCallbackGradienttKey(Key property, int datasetIndex, int index) {
-		// checks if property is consistent
-		Key.checkIfValid(property);
-		// creates a builder
-		StringBuilder sb = new StringBuilder();
-		// adds property value
-		sb.append(property.value()).append(Constants.COMMA);
-		// adds dataset index getting the max with 0
-		// because where the dataset is not defined, the value is integer min value
-		sb.append(Math.max(datasetIndex, 0)).append(Constants.COMMA);
-		// adds data index getting the max with 0
-		// because where the dataset is not defined, the value is integer min value
-		sb.append(Math.max(index, 0));
-		return sb.toString();
-	}
-
-	/**
-	 * Returns the JSON representation of dataset. This is used y canvas object handler to know if the dataset has been changed.
-	 * 
-	 * @return JSON representation of dataset
-	 */
-	String toFilteredJSON() {
-		return JSON.stringifyNativeObject(getNativeObject(), -1);
-	}
-
-}
\ No newline at end of file
+}
@@ -0,0 +1,418 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import org.pepstock.charba.client.commons.ArrayObject;
+import org.pepstock.charba.client.enums.DecimationMode;
+
+/**
+ * Maintains the full resolution data of a dataset, as native array and as columns of primitive values, and provides to the
+ * dataset the decimated (downsampled) data, by the {@link DecimationMode} and the amount of pixels where the data are drawn.<br>
+ * The full resolution native array is set by the dataset every time the data are set by the user and it is never replaced
+ * by the decimated data, which are stored only into the data property passed to CHART.JS. The columns are captured again
+ * from the full resolution native array every time the data version of the dataset is changed.<br>
+ * When an explicit range is set on the X scale (i.e. by zoom plugin), only the visible data are decimated.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class DatasetDecimator {
+
+	// the amount of points into a bucket for min/max algorithm
+	private static final int MIN_MAX_POINTS_PER_BUCKET = 4;
+	// decimation mode
+	private DecimationMode mode;
+	// full resolution native array, set by the user
+	private ArrayObject source = null;
+	// full resolution X values or times, as epoch milliseconds
+	private double[] x = null;
+	// full resolution Y values
+	private double[] y = null;
+	// if the data are time series items
+	private boolean timeSeries = false;
+	// if the X values are sorted
+	private boolean sorted = false;
+	// data version of dataset after last decimation
+	private int version = Integer.MIN_VALUE;
+	// amount of pixels of last decimation
+	private int pixels = 0;
+	// range of last decimation
+	private double minimum = Double.NaN;
+	private double maximum = Double.NaN;
+
+	/**
+	 * Creates the decimator with the mode to apply.
+	 * 
+	 * @param mode decimation mode
+	 */
+	DatasetDecimator(DecimationMode mode) {
+		this.mode = mode;
+	}
+
+	/**
+	 * Returns the decimation mode.
+	 * 
+	 * @return the decimation mode
+	 */
+	DecimationMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Sets the decimation mode, forcing a new decimation.
+	 * 
+	 * @param mode decimation mode
+	 */
+	void setMode(DecimationMode mode) {
+		// checks if the mode is changed
+		if (!this.mode.equals(mode)) {
+			this.mode = mode;
+			// resets the amount of pixels in order to force the decimation
+			pixels = 0;
+		}
+	}
+
+	/**
+	 * Returns the full resolution data, as native array.
+	 * 
+	 * @return the full resolution data, as native array, or <code>null</code> if the data are not data points or time series
+	 *         items
+	 */
+	ArrayObject getSource() {
+		return source;
+	}
+
+	/**
+	 * Sets the full resolution data, as native array, forcing a new capture of the columns and a new decimation.
+	 * 
+	 * @param source the full resolution data, as native array, or <code>null</code> if the data are not data points or time
+	 *            series items
+	 */
+	void setSource(ArrayObject source) {
+		this.source = source;
+		// resets the columns in order to force the capture
+		x = null;
+		y = null;
+	}
+
+	/**
+	 * Decimates the data of the dataset, if the data, the amount of pixels or the visible range are changed since last
+	 * decimation.
+	 * 
+	 * @param dataset dataset to decimate
+	 * @param pixels amount of pixels where the data are drawn
+	 * @param min minimum visible X value or {@link Double#NaN} if not set
+	 * @param max maximum visible X value or {@link Double#NaN} if not set
+	 * @return <code>true</code> if the data of the dataset have been changed
+	 */
+	boolean decimate(Dataset dataset, int pixels, double min, double max) {
+		// checks if the data have been changed by the user
+		boolean dataChanged = x == null || dataset.getDataVersion() != version;
+		// checks if the data must be captured
+		if (dataChanged && !capture()) {
+			// data are not decimable
+			return false;
+		}
+		// checks if the amount of pixels is consistent
+		// it could be not consistent before the chart is initialized
+		if (pixels <= 0) {
+			// data are not decimated yet
+			return false;
+		}
+		// checks if nothing is changed
+		if (!dataChanged && this.pixels == pixels && isSame(minimum, min) && isSame(maximum, max)) {
+			return false;
+		}
+		// stores the current status
+		this.pixels = pixels;
+		this.minimum = min;
+		this.maximum = max;
+		// calculates the range of the visible data
+		// adding a point outside on both sides in order to
+		// draw the line till the borders of chart area
+		int from = sorted && !Double.isNaN(min) ? Math.max(0, lowerBound(min) - 1) : 0;
+		int to = sorted && !Double.isNaN(max) ? Math.min(x.length, upperBound(max) + 1) : x.length;
+		// calculates the indexes of the points to draw
+		int[] indexes;
+		if (!sorted) {
+			// unsorted data can not be decimated
+			indexes = range(0, x.length);
+		} else if (DecimationMode.MIN_MAX.equals(mode)) {
+			indexes = minMax(x, y, from, to, pixels);
+		} else {
+			indexes = lttb(x, y, from, to, pixels);
+		}
+		// creates the columns to store
+		double[] decimatedX = new double[indexes.length];
+		double[] decimatedY = new double[indexes.length];
+		for (int i = 0; i < indexes.length; i++) {
+			decimatedX[i] = x[indexes[i]];
+			decimatedY[i] = y[indexes[i]];
+		}
+		// stores the decimated data, maintaining the full resolution ones
+		if (timeSeries) {
+			dataset.setInternalDataPointsArray(JsDataHelper.get().timeSeriesItems(decimatedX, decimatedY));
+		} else {
+			dataset.setInternalDataPointsArray(JsDataHelper.get().dataPoints(decimatedX, decimatedY, null));
+		}
+		// stores the data version of dataset after the decimated data have been stored
+		// in order to recognize next changes by the user
+		version = dataset.getDataVersion();
+		return true;
+	}
+
+	/**
+	 * Captures the columns from the full resolution data.
+	 * 
+	 * @return <code>true</code> if the data of the dataset can be decimated
+	 */
+	private boolean capture() {
+		// checks if the data are data points
+		if (source == null) {
+			// resets the status
+			x = null;
+			y = null;
+			return false;
+		}
+		// copies the data into the columns
+		x = new double[source.length()];
+		y = new double[source.length()];
+		timeSeries = JsDataHelper.get().columns(source, x, y);
+		// checks if the X values are sorted
+		sorted = true;
+		for (int i = 1; i < x.length && sorted; i++) {
+			sorted = x[i - 1] <= x[i];
+		}
+		// resets the range in order to force the decimation
+		pixels = 0;
+		return true;
+	}
+
+	/**
+	 * Returns the index of the first X value which is greater than or equals to the value passed as argument.
+	 * 
+	 * @param value value to search
+	 * @return the index of the first X value which is greater than or equals to the value
+	 */
+	private int lowerBound(double value) {
+		int low = 0;
+		int high = x.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (x[middle] < value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the first X value which is greater than the value passed as argument.
+	 * 
+	 * @param value value to search
+	 * @return the index of the first X value which is greater than the value
+	 */
+	private int upperBound(double value) {
+		int low = 0;
+		int high = x.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (x[middle] <= value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns <code>true</code> if the 2 values are equals, considering {@link Double#NaN} values.
+	 * 
+	 * @param value first value to compare
+	 * @param other second value to compare
+	 * @return <code>true</code> if the 2 values are equals
+	 */
+	private static boolean isSame(double value, double other) {
+		return Double.compare(value, other) == 0;
+	}
+
+	/**
+	 * Returns all indexes of the range.
+	 * 
+	 * @param from first index (inclusive)
+	 * @param to last index (exclusive)
+	 * @return all indexes of the range
+	 */
+	private static int[] range(int from, int to) {
+		int[] indexes = new int[Math.max(0, to - from)];
+		for (int i = 0; i < indexes.length; i++) {
+			indexes[i] = from + i;
+		}
+		return indexes;
+	}
+
+	/**
+	 * Decimates the data by the Largest-Triangle-Three-Buckets algorithm.
+	 * 
+	 * @param x X values, sorted
+	 * @param y Y values
+	 * @param from first index (inclusive) of the data to decimate
+	 * @param to last index (exclusive) of the data to decimate
+	 * @param threshold the amount of points to select
+	 * @return the indexes of the selected points
+	 */
+	static int[] lttb(double[] x, double[] y, int from, int to, int threshold) {
+		int length = to - from;
+		// checks if the decimation is needed
+		if (threshold >= length || threshold < 3) {
+			return range(from, to);
+		}
+		int[] indexes = new int[threshold];
+		int count = 0;
+		// size of the buckets, without first and last points which are always selected
+		double every = (double) (length - 2) / (threshold - 2);
+		// first point is always selected
+		int selected = from;
+		indexes[count++] = selected;
+		for (int i = 0; i < threshold - 2; i++) {
+			// calculates the average point of next bucket
+			int averageStart = from + (int) Math.floor((i + 1) * every) + 1;
+			int averageEnd = Math.min(from + (int) Math.floor((i + 2) * every) + 1, to);
+			double averageX = 0D;
+			double averageY = 0D;
+			for (int j = averageStart; j < averageEnd; j++) {
+				averageX += x[j];
+				averageY += y[j];
+			}
+			int averageLength = averageEnd - averageStart;
+			averageX /= averageLength;
+			averageY /= averageLength;
+			// scans the current bucket in order to select the point
+			// which creates the largest triangle with the selected one and the average
+			int rangeStart = from + (int) Math.floor(i * every) + 1;
+			int rangeEnd = from + (int) Math.floor((i + 1) * every) + 1;
+			double maxArea = -1D;
+			int next = rangeStart;
+			for (int j = rangeStart; j < rangeEnd; j++) {
+				double area = Math.abs((x[selected] - averageX) * (y[j] - y[selected]) - (x[selected] - x[j]) * (averageY - y[selected]));
+				if (area > maxArea) {
+					maxArea = area;
+					next = j;
+				}
+			}
+			selected = next;
+			indexes[count++] = selected;
+		}
+		// last point is always selected
+		indexes[count] = to - 1;
+		return indexes;
+	}
+
+	/**
+	 * Decimates the data selecting, for each bucket (pixel), the first, the minimum, the maximum and the last points.
+	 * 
+	 * @param x X values, sorted
+	 * @param y Y values
+	 * @param from first index (inclusive) of the data to decimate
+	 * @param to last index (exclusive) of the data to decimate
+	 * @param buckets the amount of buckets
+	 * @return the indexes of the selected points
+	 */
+	static int[] minMax(double[] x, double[] y, int from, int to, int buckets) {
+		int length = to - from;
+		// checks if the decimation is needed
+		if (length <= buckets * MIN_MAX_POINTS_PER_BUCKET || buckets < 1) {
+			return range(from, to);
+		}
+		int[] buffer = new int[buckets * MIN_MAX_POINTS_PER_BUCKET + MIN_MAX_POINTS_PER_BUCKET];
+		int count = 0;
+		double start = x[from];
+		double width = x[to - 1] - start;
+		// indexes of the current bucket
+		int bucket = -1;
+		int first = -1;
+		int last = -1;
+		int min = -1;
+		int max = -1;
+		for (int i = from; i < to; i++) {
+			// calculates the bucket of the point
+			int current = width > 0 ? Math.min(buckets - 1, (int) ((x[i] - start) / width * buckets)) : 0;
+			// checks if the bucket is changed
+			if (current != bucket) {
+				// stores the points of previous bucket
+				count = flush(buffer, count, first, min, max, last);
+				// starts new bucket
+				bucket = current;
+				first = i;
+				min = i;
+				max = i;
+			}
+			// checks minimum and maximum
+			if (y[i] < y[min]) {
+				min = i;
+			}
+			if (y[i] > y[max]) {
+				max = i;
+			}
+			last = i;
+		}
+		// stores the points of last bucket
+		count = flush(buffer, count, first, min, max, last);
+		// returns the selected indexes
+		int[] indexes = new int[count];
+		System.arraycopy(buffer, 0, indexes, 0, count);
+		return indexes;
+	}
+
+	/**
+	 * Stores the points of a bucket into the buffer, in the order of the indexes, without duplicates.
+	 * 
+	 * @param buffer buffer of indexes
+	 * @param count amount of indexes already stored into buffer
+	 * @param first index of the first point of the bucket
+	 * @param min index of the minimum point of the bucket
+	 * @param max index of the maximum point of the bucket
+	 * @param last index of the last point of the bucket
+	 * @return the amount of indexes stored into buffer
+	 */
+	private static int flush(int[] buffer, int count, int first, int min, int max, int last) {
+		// checks if the bucket is consistent
+		if (first < 0) {
+			return count;
+		}
+		int result = count;
+		// stores the first point
+		buffer[result++] = first;
+		// stores minimum and maximum, by their order
+		int lower = Math.min(min, max);
+		int upper = Math.max(min, max);
+		if (lower != buffer[result - 1]) {
+			buffer[result++] = lower;
+		}
+		if (upper != buffer[result - 1]) {
+			buffer[result++] = upper;
+		}
+		// stores the last point
+		if (last != buffer[result - 1]) {
+			buffer[result++] = last;
+		}
+		return result;
+	}
+
+}
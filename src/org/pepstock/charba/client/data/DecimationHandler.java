@@ -0,0 +1,190 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.enums.PluginHook;
+import org.pepstock.charba.client.items.ChartAreaNode;
+import org.pepstock.charba.client.plugins.AbstractPlugin;
+
+/**
+ * Internal plugin, set by data object before a chart is initializing.<br>
+ * This plugin is added to all charts, in order to decimate the data of the datasets which are configured to decimate after the
+ * chart initialization as well, and it does nothing if there is not any dataset to decimate.<br>
+ * Before every update of the chart, it provides to CHART.JS the decimated data of the datasets, by the width of the chart area
+ * and by the visible range of the X scale, therefore the data are decimated again when the chart is resized or zoomed.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class DecimationHandler extends AbstractPlugin {
+
+	// singleton instance
+	private static final DecimationHandler INSTANCE = new DecimationHandler();
+	// plugin ID
+	static final String ID = "charbadecimationhandler";
+	// set of hooks implemented by plugin
+	private static final Set<PluginHook> HOOKS = Collections.unmodifiableSet(
+			EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.AFTER_LAYOUT, PluginHook.DESTROY));
+	// maintains the horizontal space of charts not used by the chart area, by the last layout
+	private final Map<String, Integer> pluginMarginsMap = new HashMap<>();
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private DecimationHandler() {
+		// do nothing
+	}
+
+	/**
+	 * Returns the singleton instance of plugin.
+	 * 
+	 * @return the singleton instance of plugin
+	 */
+	static DecimationHandler get() {
+		return INSTANCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getId()
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return HOOKS;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onBeforeUpdate(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public boolean onBeforeUpdate(IsChart chart) {
+		// checks if chart is consistent and there is any dataset to decimate
+		if (IsChart.isConsistent(chart) && hasDecimator(chart)) {
+			// gets the width of chart, as amount of pixels
+			// where the data are drawn
+			int pixels = getWidth(chart);
+			// gets the CHART.JS instance to read the ranges of scales
+			Chart nativeChart = Charts.getNative(chart);
+			// scans all datasets
+			for (Dataset dataset : chart.getData().getDatasets()) {
+				// checks if dataset must be decimated
+				if (dataset instanceof LineDataset && ((LineDataset) dataset).getDecimator() != null) {
+					LineDataset lineDataset = (LineDataset) dataset;
+					// gets the visible range of X scale
+					double[] range = JsDataHelper.get().range(nativeChart, lineDataset.getXAxisID());
+					// decimates the data
+					lineDataset.getDecimator().decimate(lineDataset, pixels, range[0], range[1]);
+				}
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onAfterLayout(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onAfterLayout(IsChart chart) {
+		// checks if chart is consistent and there is any dataset to decimate
+		if (IsChart.isConsistent(chart) && hasDecimator(chart)) {
+			// gets the chart area, just calculated
+			ChartAreaNode chartArea = chart.getNode().getChartArea();
+			if (chartArea.isConsistent() && chartArea.getRight() > chartArea.getLeft()) {
+				// stores the space not used by the chart area
+				// the next update, also after a resize, will decimate the data
+				// by the width of the chart minus this space
+				pluginMarginsMap.put(chart.getId(), chart.getNode().getWidth() - (chartArea.getRight() - chartArea.getLeft()));
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onDestroy(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onDestroy(IsChart chart) {
+		// checks if chart is consistent
+		if (IsChart.isConsistent(chart)) {
+			// clean status
+			pluginMarginsMap.remove(chart.getId());
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if there is any dataset of the chart to decimate.
+	 * 
+	 * @param chart chart instance
+	 * @return <code>true</code> if there is any dataset of the chart to decimate
+	 */
+	private boolean hasDecimator(IsChart chart) {
+		// scans all datasets
+		for (Dataset dataset : chart.getData().getDatasets()) {
+			// checks if dataset must be decimated
+			if (dataset instanceof LineDataset && ((LineDataset) dataset).getDecimator() != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the width of the chart area, as amount of pixels where the data are drawn.<br>
+	 * Before the update, the chart area is not calculated yet and, after a resize, it is related to the previous size, therefore
+	 * the width is the current width of the chart minus the space not used by the chart area in the last layout, if any.
+	 * 
+	 * @param chart chart instance
+	 * @return the width of the chart area
+	 */
+	private int getWidth(IsChart chart) {
+		// gets the current width of chart, already changed by resize
+		int width = chart.getNode().getWidth();
+		// gets the space not used by the chart area in the last layout
+		Integer margin = pluginMarginsMap.get(chart.getId());
+		// checks if the chart has been already laid out
+		if (margin != null && width > margin) {
+			return width - margin;
+		}
+		// if here, uses the width of chart
+		return width;
+	}
+
+}
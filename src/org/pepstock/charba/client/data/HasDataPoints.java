@@ -52,6 +52,34 @@ public interface HasDataPoints extends HasDataset {
 		}
 	}
 
+	/**
+	 * Sets the data property of a dataset for a chart is specified as an array of data points, by columns of X and Y
+	 * values.<br>
+	 * The data points are created in one pass, without creating any {@link DataPoint} instance.
+	 * 
+	 * @param x array of X values
+	 * @param y array of Y values, with the same length of X values
+	 */
+	default void setDataPoints(double[] x, double[] y) {
+		setDataPoints(x, y, null);
+	}
+
+	/**
+	 * Sets the data property of a dataset for a chart is specified as an array of data points, by columns of X, Y and radius
+	 * values.<br>
+	 * The data points are created in one pass, without creating any {@link DataPoint} instance.
+	 * 
+	 * @param x array of X values
+	 * @param y array of Y values, with the same length of X values
+	 * @param r array of radius values, with the same length of X values, can be <code>null</code>
+	 */
+	default void setDataPoints(double[] x, double[] y, double[] r) {
+		// checks if dataset is consistent
+		if (getDataset() != null) {
+			getDataset().setInternalDataPoints(x, y, r);
+		}
+	}
+
 	/**
 	 * Returns the data property of a dataset for a chart is specified as an array of data points
 	 * 
@@ -21,6 +21,8 @@ import java.util.List;
 
 import org.pepstock.charba.client.enums.DataType;
 
+import com.google.gwt.typedarrays.shared.Float64Array;
+
 /**
  * Interface to define if a dataset can contains time series items.
  * 
@@ -78,6 +80,33 @@ public interface HasTimeSeriesItems extends HasDataPoints {
 		throw new UnsupportedOperationException(Dataset.TIME_SERIES_DATA_USAGE_MESSAGE);
 	}
 
+	/**
+	 * Throws an exception because not available.
+	 * 
+	 * @param values ignored because will throw an exception
+	 */
+	default void setData(Float64Array values) {
+		throw new UnsupportedOperationException(Dataset.TIME_SERIES_DATA_USAGE_MESSAGE);
+	}
+
+	/**
+	 * Throws an exception because not available.
+	 * 
+	 * @param values ignored because will throw an exception
+	 */
+	default void setDataBuffer(double... values) {
+		throw new UnsupportedOperationException(Dataset.TIME_SERIES_DATA_USAGE_MESSAGE);
+	}
+
+	/**
+	 * Throws an exception because not available.
+	 * 
+	 * @return will throw an exception
+	 */
+	default Float64Array getDataBuffer() {
+		throw new UnsupportedOperationException(Dataset.TIME_SERIES_DATA_USAGE_MESSAGE);
+	}
+
 	/**
 	 * Throws an exception because not available.
 	 * 
@@ -127,6 +156,18 @@ public interface HasTimeSeriesItems extends HasDataPoints {
 		}
 	}
 
+	/**
+	 * Throws an exception because data points by columns can not be time series items.
+	 * 
+	 * @param x ignored because will throw an exception
+	 * @param y ignored because will throw an exception
+	 * @param r ignored because will throw an exception
+	 */
+	@Override
+	default void setDataPoints(double[] x, double[] y, double[] r) {
+		throw new UnsupportedOperationException(Dataset.TIME_SERIES_DATA_USAGE_MESSAGE);
+	}
+
 	/**
 	 * Sets the data property of a dataset for a chart is specified as an array of time series items.
 	 * 
@@ -152,6 +193,21 @@ public interface HasTimeSeriesItems extends HasDataPoints {
 		}
 	}
 
+	/**
+	 * Sets the data property of a dataset for a chart is specified as an array of time series items, by columns of times and
+	 * values.<br>
+	 * The items are created in one pass, without creating any {@link TimeSeriesItem} instance, and sorted by their times.
+	 * 
+	 * @param times array of times, as epoch milliseconds
+	 * @param values array of values, with the same length of times
+	 */
+	default void setTimeSeriesData(long[] times, double[] values) {
+		// checks if dataset is consistent
+		if (getDataset() != null) {
+			getDataset().setInternalTimeSeriesItems(times, values);
+		}
+	}
+
 	/**
 	 * Returns the data property of a dataset for a chart is specified as an array of time series items.
 	 * 
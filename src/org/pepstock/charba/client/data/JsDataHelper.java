@@ -0,0 +1,119 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.Injector;
+import org.pepstock.charba.client.commons.ArrayObject;
+import org.pepstock.charba.client.resources.ResourcesType;
+
+/**
+ * This is a singleton wrapper for Java native object which is wrapping a CHARBA java script object implementation with some
+ * utilities to act on java script objects for CHARBA data and datasets.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class JsDataHelper {
+	// static instance for singleton
+	private static final JsDataHelper INSTANCE = new JsDataHelper();
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private JsDataHelper() {
+		// to be sure that CHARBA java script object is injected
+		Injector.ensureInjected(ResourcesType.getClientBundle().charbaHelper());
+	}
+
+	/**
+	 * Singleton object to get the helper instance
+	 * 
+	 * @return helper instance.
+	 */
+	static JsDataHelper get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Creates an array of data points, in one pass, by the arrays of values passed as arguments.
+	 * 
+	 * @param x array of X values
+	 * @param y array of Y values
+	 * @param r array of radius values, can be <code>null</code>
+	 * @return an array of data points or <code>null</code> if arguments are not consistent
+	 */
+	ArrayObject dataPoints(double[] x, double[] y, double[] r) {
+		// checks consistency of arguments
+		if (x != null && y != null) {
+			return NativeJsDataHelper.dataPoints(x, y, r);
+		}
+		// if here, arguments not consistent
+		return null;
+	}
+
+	/**
+	 * Creates an array of time series items, in one pass, by the arrays of values passed as arguments.
+	 * 
+	 * @param times array of times, as epoch milliseconds
+	 * @param values array of values
+	 * @return an array of time series items or <code>null</code> if arguments are not consistent
+	 */
+	ArrayObject timeSeriesItems(double[] times, double[] values) {
+		// checks consistency of arguments
+		if (times != null && values != null) {
+			return NativeJsDataHelper.timeSeriesItems(times, values);
+		}
+		// if here, arguments not consistent
+		return null;
+	}
+
+	/**
+	 * Copies X (or time, as epoch milliseconds) and Y values of an array of data points into the arrays passed as arguments,
+	 * which must have the same length of the data.
+	 * 
+	 * @param data array of data points or time series items
+	 * @param x array to fill with X values or times, as epoch milliseconds
+	 * @param y array to fill with Y values
+	 * @return <code>true</code> if the data are time series items
+	 */
+	boolean columns(ArrayObject data, double[] x, double[] y) {
+		// checks consistency of arguments
+		if (data != null && x != null && y != null) {
+			return NativeJsDataHelper.columns(data, x, y);
+		}
+		// if here, arguments not consistent
+		return false;
+	}
+
+	/**
+	 * Returns the minimum and maximum values, explicitly set by configuration or by zoom plugin, of a scale.<br>
+	 * If not set, {@link Double#NaN} is returned for the missing value.
+	 * 
+	 * @param chart chart instance
+	 * @param scaleId id of the scale
+	 * @return an array of 2 elements with minimum and maximum values
+	 */
+	double[] range(Chart chart, String scaleId) {
+		double[] range = new double[] { Double.NaN, Double.NaN };
+		// checks consistency of arguments
+		if (chart != null && scaleId != null) {
+			NativeJsDataHelper.range(chart, scaleId, range);
+		}
+		return range;
+	}
+
+}
@@ -142,6 +142,41 @@ public final class Labels {
 		}
 	}
 
+	/**
+	 * Appends the labels to the end and then removes the oldest ones, in order to have an amount of labels not greater than
+	 * the window size.<br>
+	 * Both operations are performed by a single native invocation. If a label contains the line separator, it is added as
+	 * multi line label.
+	 * 
+	 * @param windowSize the maximum amount of labels. If 0 or negative, no label is removed.
+	 * @param values array of labels to be appended
+	 * @return the amount of removed labels
+	 */
+	public int push(int windowSize, String... values) {
+		// checks if is a valid array
+		if (values != null && values.length > 0) {
+			// creates the items to append
+			Object[] items = new Object[values.length];
+			for (int i = 0; i < values.length; i++) {
+				String value = values[i];
+				// checks if contains separator
+				if (value != null && value.contains(Constants.LINE_SEPARATOR)) {
+					// splits the string by separator
+					// and adds as array
+					items[i] = ArrayString.fromOrEmpty(value.split(Constants.LINE_SEPARATOR));
+				} else {
+					// adds the string, using an empty one if null
+					// in order to keep the labels aligned with data
+					items[i] = value != null ? value : Constants.EMPTY_STRING;
+				}
+			}
+			// appends and removes the exceeding labels
+			return array.slide(windowSize, items);
+		}
+		// if here, nothing to append
+		return 0;
+	}
+
 	/**
 	 * Removes an item of labels by index
 	 * 
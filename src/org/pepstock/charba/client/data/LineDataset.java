@@ -26,6 +26,7 @@ import org.pepstock.charba.client.callbacks.ScriptableContext;
 import org.pepstock.charba.client.callbacks.ScriptableFunctions;
 import org.pepstock.charba.client.callbacks.ScriptableUtils;
 import org.pepstock.charba.client.commons.ArrayListHelper;
+import org.pepstock.charba.client.commons.ArrayObject;
 import org.pepstock.charba.client.commons.ArrayString;
 import org.pepstock.charba.client.commons.ArrayStringList;
 import org.pepstock.charba.client.commons.CallbackProxy;
@@ -35,6 +36,7 @@ import org.pepstock.charba.client.commons.ObjectType;
 import org.pepstock.charba.client.defaults.IsDefaultOptions;
 import org.pepstock.charba.client.enums.CubicInterpolationMode;
 import org.pepstock.charba.client.enums.DataType;
+import org.pepstock.charba.client.enums.DecimationMode;
 import org.pepstock.charba.client.enums.SteppedLine;
 import org.pepstock.charba.client.items.UndefinedValues;
 import org.pepstock.charba.client.options.Scales;
@@ -57,6 +59,8 @@ public class LineDataset extends LiningDataset implements HasDataPoints {
 
 	// cubic interpolation mode callback instance
 	private CubicInterpolationModeCallback cubicInterpolationModeCallback = null;
+	// decimator of data, if decimation is enabled
+	private DatasetDecimator decimator = null;
 
 	/**
 	 * Name of properties of native object.
@@ -132,7 +136,62 @@ public class LineDataset extends LiningDataset implements HasDataPoints {
 		// -- SET CALLBACKS to PROXIES ---
 		// -------------------------------
 		// gets value calling callback
-		cubicInterpolationModeCallbackProxy.setCallback((contextFunction, context) -> onCubicInterpolationMode(context));
+		cubicInterpolationModeCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.CUBIC_INTERPOLATION_MODE, () -> onCubicInterpolationMode(context)));
+	}
+
+	/**
+	 * Sets the decimation mode of the data of the dataset.<br>
+	 * When set, the full resolution data are maintained by the dataset and CHART.JS receives only the points needed to draw
+	 * the chart, by an amount related to the width of the chart. The data are decimated again when the chart is resized or
+	 * the visible range of the X scale is changed (i.e. by zoom plugin).<br>
+	 * The decimation is applied only to the data set as data points or time series items, sorted by X value or time.
+	 * The full resolution data are maintained by the dataset, therefore the data points returned by the dataset are always the
+	 * full resolution ones and, when the decimation is disabled, they are set again as data of the dataset.
+	 * 
+	 * @param mode the decimation mode of the data of the dataset. If <code>null</code>, the decimation is disabled
+	 */
+	public void setDecimation(DecimationMode mode) {
+		// checks if mode is consistent
+		if (mode != null) {
+			// checks if the decimator must be created
+			if (decimator == null) {
+				decimator = new DatasetDecimator(mode);
+				// the current data are the full resolution ones
+				decimator.setSource(getInternalDataPointsArray());
+			} else {
+				// changes the mode, maintaining the full resolution data
+				decimator.setMode(mode);
+			}
+		} else if (decimator != null) {
+			// gets the full resolution data
+			ArrayObject source = decimator.getSource();
+			// removes the decimator
+			decimator = null;
+			// checks if the data are decimable
+			if (source != null) {
+				// restores the full resolution data
+				setInternalDataPointsArray(source);
+			}
+		}
+	}
+
+	/**
+	 * Returns the decimation mode of the data of the dataset.
+	 * 
+	 * @return the decimation mode of the data of the dataset or <code>null</code> if the decimation is disabled
+	 */
+	public DecimationMode getDecimation() {
+		return decimator != null ? decimator.getMode() : null;
+	}
+
+	/**
+	 * Returns the decimator of the data of the dataset.
+	 * 
+	 * @return the decimator of the data of the dataset or <code>null</code> if the decimation is disabled
+	 */
+	@Override
+	final DatasetDecimator getDecimator() {
+		return decimator;
 	}
 
 	/**
@@ -357,7 +416,7 @@ public class LineDataset extends LiningDataset implements HasDataPoints {
 	public void setDataString(String... data) {
 		setArrayValue(Dataset.Property.DATA, ArrayString.fromOrNull(data));
 		// sets data type checking if the key exists
-		setValue(Dataset.Property.CHARBA_DATA_TYPE, has(Dataset.Property.DATA) ? DataType.STRINGS : DataType.UNKNOWN);
+		setDataType(has(Dataset.Property.DATA) ? DataType.STRINGS : DataType.UNKNOWN);
 	}
 
 	/**
@@ -369,7 +428,7 @@ public class LineDataset extends LiningDataset implements HasDataPoints {
 	public void setDataString(List<String> data) {
 		setArrayValue(Dataset.Property.DATA, ArrayString.fromOrNull(data));
 		// sets data type checking if the key exists
-		setValue(Dataset.Property.CHARBA_DATA_TYPE, has(Dataset.Property.DATA) ? DataType.STRINGS : DataType.UNKNOWN);
+		setDataType(has(Dataset.Property.DATA) ? DataType.STRINGS : DataType.UNKNOWN);
 	}
 
 	/**
@@ -402,7 +461,7 @@ public class LineDataset extends LiningDataset implements HasDataPoints {
 			// set value
 			setArrayValue(Dataset.Property.DATA, ArrayString.fromOrEmpty(result));
 			// sets data type
-			setValue(Dataset.Property.CHARBA_DATA_TYPE, DataType.STRINGS);
+			setDataType(DataType.STRINGS);
 			// returns list
 			return result;
 		}
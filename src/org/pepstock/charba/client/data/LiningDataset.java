@@ -234,45 +234,45 @@ public abstract class LiningDataset extends Dataset implements HasFill, HasOrder
 		// -------------------------------
 		// gets value calling callback
 		pointBackgroundColorCallbackProxy
-				.setCallback((contextFunction, context) -> invokeColorCallback(context, pointBackgroundColorCallback, Property.POINT_BACKGROUND_COLOR, getDefaultValues().getElements().getPoint().getBackgroundColorAsString(), true));
+				.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_BACKGROUND_COLOR, () -> invokeColorCallback(context, pointBackgroundColorCallback, Property.POINT_BACKGROUND_COLOR, getDefaultValues().getElements().getPoint().getBackgroundColorAsString(), true)));
 		// gets value calling callback
-		pointBorderColorCallbackProxy.setCallback((contextFunction, context) -> invokeColorCallback(context, pointBorderColorCallback, Property.POINT_BORDER_COLOR, getDefaultValues().getElements().getPoint().getBorderColorAsString(), false));
+		pointBorderColorCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_BORDER_COLOR, () -> invokeColorCallback(context, pointBorderColorCallback, Property.POINT_BORDER_COLOR, getDefaultValues().getElements().getPoint().getBorderColorAsString(), false)));
 		// gets value calling callback
-		pointBorderWidthCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, pointBorderWidthCallback, getDefaultValues().getElements().getPoint().getBorderWidth()).intValue());
+		pointBorderWidthCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_BORDER_WIDTH, () -> ScriptableUtils.getOptionValue(context, pointBorderWidthCallback, getDefaultValues().getElements().getPoint().getBorderWidth()).intValue()));
 		// gets value calling callback
 		pointHoverBackgroundColorCallbackProxy
-				.setCallback((contextFunction, context) -> invokeColorCallback(context, pointHoverBackgroundColorCallback, Property.POINT_HOVER_BACKGROUND_COLOR, getDefaultValues().getElements().getPoint().getBackgroundColorAsString(), true));
+				.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_HOVER_BACKGROUND_COLOR, () -> invokeColorCallback(context, pointHoverBackgroundColorCallback, Property.POINT_HOVER_BACKGROUND_COLOR, getDefaultValues().getElements().getPoint().getBackgroundColorAsString(), true)));
 		// gets value calling callback
 		pointHoverBorderColorCallbackProxy
-				.setCallback((contextFunction, context) -> invokeColorCallback(context, pointHoverBorderColorCallback, Property.POINT_HOVER_BORDER_COLOR, getDefaultValues().getElements().getPoint().getBorderColorAsString(), false));
+				.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_HOVER_BORDER_COLOR, () -> invokeColorCallback(context, pointHoverBorderColorCallback, Property.POINT_HOVER_BORDER_COLOR, getDefaultValues().getElements().getPoint().getBorderColorAsString(), false)));
 		// gets value calling callback
-		pointHoverBorderWidthCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, pointHoverBorderWidthCallback, getDefaultValues().getElements().getPoint().getBorderWidth()).intValue());
+		pointHoverBorderWidthCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_HOVER_BORDER_WIDTH, () -> ScriptableUtils.getOptionValue(context, pointHoverBorderWidthCallback, getDefaultValues().getElements().getPoint().getBorderWidth()).intValue()));
 		// gets value calling callback
-		pointRadiusCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, pointRadiusCallback, getDefaultValues().getElements().getPoint().getRadius()).doubleValue());
+		pointRadiusCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_RADIUS, () -> ScriptableUtils.getOptionValue(context, pointRadiusCallback, getDefaultValues().getElements().getPoint().getRadius()).doubleValue()));
 		// gets value calling callback
-		pointHitRadiusCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, pointHitRadiusCallback, getDefaultValues().getElements().getPoint().getHitRadius()).doubleValue());
+		pointHitRadiusCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_HIT_RADIUS, () -> ScriptableUtils.getOptionValue(context, pointHitRadiusCallback, getDefaultValues().getElements().getPoint().getHitRadius()).doubleValue()));
 		// gets value calling callback
-		pointHoverRadiusCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, pointHoverRadiusCallback, getDefaultValues().getElements().getPoint().getHoverRadius()).doubleValue());
+		pointHoverRadiusCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_HOVER_RADIUS, () -> ScriptableUtils.getOptionValue(context, pointHoverRadiusCallback, getDefaultValues().getElements().getPoint().getHoverRadius()).doubleValue()));
 		// gets value calling callback
-		pointRotationCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, pointRotationCallback, getDefaultValues().getElements().getPoint().getRotation()).doubleValue());
+		pointRotationCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_ROTATION, () -> ScriptableUtils.getOptionValue(context, pointRotationCallback, getDefaultValues().getElements().getPoint().getRotation()).doubleValue()));
 		// gets value calling callback
-		pointStyleCallbackProxy.setCallback((contextFunction, context) -> onPointStyle(context));
+		pointStyleCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.POINT_STYLE, () -> onPointStyle(context)));
 		// gets value calling callback
-		borderCapStyleCallbackProxy.setCallback((contextFunction, context) -> onBorderCapStyle(context, borderCapStyleCallback));
+		borderCapStyleCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.BORDER_CAP_STYLE, () -> onBorderCapStyle(context, borderCapStyleCallback)));
 		// gets value calling callback
-		borderDashCallbackProxy.setCallback((contextFunction, context) -> onBorderDash(context, borderDashCallback));
+		borderDashCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.BORDER_DASH, () -> onBorderDash(context, borderDashCallback)));
 		// gets value calling callback
-		borderDashOffsetCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, borderDashOffsetCallback, getDefaultValues().getElements().getLine().getBorderDashOffset()).intValue());
+		borderDashOffsetCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.BORDER_DASH_OFFSET, () -> ScriptableUtils.getOptionValue(context, borderDashOffsetCallback, getDefaultValues().getElements().getLine().getBorderDashOffset()).intValue()));
 		// gets value calling callback
-		borderJoinStyleCallbackProxy.setCallback((contextFunction, context) -> onBorderJoinStyle(context, borderJoinStyleCallback));
+		borderJoinStyleCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.BORDER_JOIN_STYLE, () -> onBorderJoinStyle(context, borderJoinStyleCallback)));
 		// gets value calling callback
-		hoverBorderCapStyleCallbackProxy.setCallback((contextFunction, context) -> onBorderCapStyle(context, hoverBorderCapStyleCallback));
+		hoverBorderCapStyleCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.HOVER_BORDER_CAP_STYLE, () -> onBorderCapStyle(context, hoverBorderCapStyleCallback)));
 		// gets value calling callback
-		hoverBorderDashCallbackProxy.setCallback((contextFunction, context) -> onBorderDash(context, hoverBorderDashCallback));
+		hoverBorderDashCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.HOVER_BORDER_DASH, () -> onBorderDash(context, hoverBorderDashCallback)));
 		// gets value calling callback
-		hoverBorderDashOffsetCallbackProxy.setCallback((contextFunction, context) -> ScriptableUtils.getOptionValue(context, hoverBorderDashOffsetCallback, getDefaultValues().getElements().getLine().getBorderDashOffset()).intValue());
+		hoverBorderDashOffsetCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.HOVER_BORDER_DASH_OFFSET, () -> ScriptableUtils.getOptionValue(context, hoverBorderDashOffsetCallback, getDefaultValues().getElements().getLine().getBorderDashOffset()).intValue()));
 		// gets value calling callback
-		hoverBorderJoinStyleCallbackProxy.setCallback((contextFunction, context) -> onBorderJoinStyle(context, hoverBorderJoinStyleCallback));
+		hoverBorderJoinStyleCallbackProxy.setCallback((contextFunction, context) -> getScriptableValue(context, Property.HOVER_BORDER_JOIN_STYLE, () -> onBorderJoinStyle(context, hoverBorderJoinStyleCallback)));
 	}
 
 	/*
@@ -2417,4 +2417,103 @@ public abstract class LiningDataset extends Dataset implements HasFill, HasOrder
 		return ArrayInteger.fromOrEmpty(result);
 	}
 
+	/**
+	 * Sets the materializer which computes the fill color for points of every data element, stored as array and
+	 * computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the fill color for points of every data element. If
+	 *            <code>null</code>, the materialized option is removed
+	 */
+	public final void materializePointBackgroundColor(Materializer<IsColor> materializer) {
+		setMaterializedOption(Property.POINT_BACKGROUND_COLOR, materializer != null ? MaterializedOption.color(materializer, getDefaultValues().getElements().getPoint().getBackgroundColorAsString()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the border color for points of every data element, stored as array and
+	 * computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the border color for points of every data element. If
+	 *            <code>null</code>, the materialized option is removed
+	 */
+	public final void materializePointBorderColor(Materializer<IsColor> materializer) {
+		setMaterializedOption(Property.POINT_BORDER_COLOR, materializer != null ? MaterializedOption.color(materializer, getDefaultValues().getElements().getPoint().getBorderColorAsString()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the width of the point border in pixels of every data element, stored as
+	 * array and computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the width of the point border in pixels of every data
+	 *            element. If <code>null</code>, the materialized option is removed
+	 */
+	public final void materializePointBorderWidth(Materializer<Integer> materializer) {
+		setMaterializedOption(Property.POINT_BORDER_WIDTH, materializer != null ? MaterializedOption.number(materializer, getDefaultValues().getElements().getPoint().getBorderWidth()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the point background color when hovered of every data element, stored as
+	 * array and computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the point background color when hovered of every data
+	 *            element. If <code>null</code>, the materialized option is removed
+	 */
+	public final void materializePointHoverBackgroundColor(Materializer<IsColor> materializer) {
+		setMaterializedOption(Property.POINT_HOVER_BACKGROUND_COLOR, materializer != null ? MaterializedOption.color(materializer, getDefaultValues().getElements().getPoint().getBackgroundColorAsString()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the point border color when hovered of every data element, stored as array
+	 * and computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the point border color when hovered of every data element. If
+	 *            <code>null</code>, the materialized option is removed
+	 */
+	public final void materializePointHoverBorderColor(Materializer<IsColor> materializer) {
+		setMaterializedOption(Property.POINT_HOVER_BORDER_COLOR, materializer != null ? MaterializedOption.color(materializer, getDefaultValues().getElements().getPoint().getBorderColorAsString()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the border width of point when hovered of every data element, stored as
+	 * array and computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the border width of point when hovered of every data element.
+	 *            If <code>null</code>, the materialized option is removed
+	 */
+	public final void materializePointHoverBorderWidth(Materializer<Integer> materializer) {
+		setMaterializedOption(Property.POINT_HOVER_BORDER_WIDTH, materializer != null ? MaterializedOption.number(materializer, getDefaultValues().getElements().getPoint().getBorderWidth()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the radius of the point shape of every data element, stored as array and
+	 * computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the radius of the point shape of every data element. If
+	 *            <code>null</code>, the materialized option is removed
+	 */
+	public final void materializePointRadius(Materializer<Double> materializer) {
+		setMaterializedOption(Property.POINT_RADIUS, materializer != null ? MaterializedOption.number(materializer, getDefaultValues().getElements().getPoint().getRadius()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the radius of the point when hovered of every data element, stored as array
+	 * and computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the radius of the point when hovered of every data element.
+	 *            If <code>null</code>, the materialized option is removed
+	 */
+	public final void materializePointHoverRadius(Materializer<Double> materializer) {
+		setMaterializedOption(Property.POINT_HOVER_RADIUS, materializer != null ? MaterializedOption.number(materializer, getDefaultValues().getElements().getPoint().getHoverRadius()) : null);
+	}
+
+	/**
+	 * Sets the materializer which computes the hit radius of the point of every data element, stored as array and
+	 * computed again only when the dataset is changed.
+	 * 
+	 * @param materializer the materializer which computes the hit radius of the point of every data element. If
+	 *            <code>null</code>, the materialized option is removed
+	 */
+	public final void materializePointHitRadius(Materializer<Double> materializer) {
+		setMaterializedOption(Property.POINT_HIT_RADIUS, materializer != null ? MaterializedOption.number(materializer, getDefaultValues().getElements().getPoint().getHitRadius()) : null);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.enums.PluginHook;
+import org.pepstock.charba.client.plugins.AbstractPlugin;
+
+/**
+ * Internal plugin, set by data object before a chart is initializing.<br>
+ * This plugin is added to all charts, in order to compute the materialized options set to the datasets after the chart
+ * initialization as well, and it does nothing for the datasets without materialized options.<br>
+ * Before every update of the chart, it computes again the materialized options of the datasets which have been changed.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class MaterializationHandler extends AbstractPlugin {
+
+	// singleton instance
+	private static final MaterializationHandler INSTANCE = new MaterializationHandler();
+	// plugin ID
+	static final String ID = "charbamaterializationhandler";
+	// set of hooks implemented by plugin
+	private static final Set<PluginHook> HOOKS = Collections.unmodifiableSet(EnumSet.of(PluginHook.BEFORE_UPDATE));
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private MaterializationHandler() {
+		// do nothing
+	}
+
+	/**
+	 * Returns the singleton instance of plugin.
+	 * 
+	 * @return the singleton instance of plugin
+	 */
+	static MaterializationHandler get() {
+		return INSTANCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getId()
+	 */
+	@Override
+	public String getId() {
+		return ID;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return HOOKS;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#onBeforeUpdate(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public boolean onBeforeUpdate(IsChart chart) {
+		// checks if chart is consistent
+		if (IsChart.isConsistent(chart)) {
+			// scans all datasets
+			for (Dataset dataset : chart.getData().getDatasets()) {
+				// checks if dataset has got materialized options
+				if (dataset.hasMaterializedOptions()) {
+					// computes the materialized options, if changed
+					dataset.applyMaterializedOptions();
+				}
+			}
+		}
+		return true;
+	}
+
+}
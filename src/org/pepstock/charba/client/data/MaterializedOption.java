@@ -0,0 +1,122 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import org.pepstock.charba.client.colors.IsColor;
+
+/**
+ * Option of a dataset, computed by a {@link Materializer} over all data of the dataset and stored as array of colors or
+ * numbers.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class MaterializedOption {
+
+	// materializer instance
+	private final Materializer<?> materializer;
+	// default color, null if the option is a number
+	private final String defaultColor;
+	// default number
+	private final double defaultNumber;
+
+	/**
+	 * Creates the option with the materializer and its default values.
+	 * 
+	 * @param materializer materializer instance
+	 * @param defaultColor default color, <code>null</code> if the option is a number
+	 * @param defaultNumber default number
+	 */
+	private MaterializedOption(Materializer<?> materializer, String defaultColor, double defaultNumber) {
+		this.materializer = materializer;
+		this.defaultColor = defaultColor;
+		this.defaultNumber = defaultNumber;
+	}
+
+	/**
+	 * Creates an option of colors.
+	 * 
+	 * @param materializer materializer of colors
+	 * @param defaultColor default color to use when the materializer returns <code>null</code>
+	 * @return an option of colors
+	 */
+	static MaterializedOption color(Materializer<IsColor> materializer, String defaultColor) {
+		return new MaterializedOption(materializer, defaultColor, 0D);
+	}
+
+	/**
+	 * Creates an option of numbers.
+	 * 
+	 * @param materializer materializer of numbers
+	 * @param defaultNumber default number to use when the materializer returns <code>null</code>
+	 * @return an option of numbers
+	 */
+	static MaterializedOption number(Materializer<? extends Number> materializer, double defaultNumber) {
+		return new MaterializedOption(materializer, null, defaultNumber);
+	}
+
+	/**
+	 * Returns <code>true</code> if the option is a color.
+	 * 
+	 * @return <code>true</code> if the option is a color
+	 */
+	boolean isColor() {
+		return defaultColor != null;
+	}
+
+	/**
+	 * Computes the colors for all values passed as argument.
+	 * 
+	 * @param values values of the data elements
+	 * @return the colors for all values
+	 */
+	String[] materializeColors(double[] values) {
+		// creates the result
+		String[] result = new String[values.length];
+		// scans all values
+		for (int i = 0; i < values.length; i++) {
+			// invokes the materializer
+			Object color = materializer.materialize(i, values[i]);
+			// checks if the color is consistent
+			if (color instanceof IsColor && IsColor.isConsistent((IsColor) color)) {
+				result[i] = ((IsColor) color).toRGBA();
+			} else {
+				result[i] = defaultColor;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Computes the numbers for all values passed as argument.
+	 * 
+	 * @param values values of the data elements
+	 * @return the numbers for all values
+	 */
+	double[] materializeNumbers(double[] values) {
+		// creates the result
+		double[] result = new double[values.length];
+		// scans all values
+		for (int i = 0; i < values.length; i++) {
+			// invokes the materializer
+			Object number = materializer.materialize(i, values[i]);
+			// checks if the number is consistent
+			result[i] = number instanceof Number ? ((Number) number).doubleValue() : defaultNumber;
+		}
+		return result;
+	}
+
+}
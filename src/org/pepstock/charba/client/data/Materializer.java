@@ -0,0 +1,38 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+/**
+ * Function which computes the value of an option of a dataset for a data element, as pure function of the data value.<br>
+ * It is evaluated over all data of the dataset once, storing the results as array, and again only when the dataset has been
+ * changed, therefore CHART.JS reads plain arrays without invoking any callback during the animations.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ * @param <T> type of the value of the option
+ */
+public interface Materializer<T> {
+
+	/**
+	 * Returns the value of the option for the data element at the index passed as argument.
+	 * 
+	 * @param index index of the data element
+	 * @param value value of the data element. For data points, it is the Y value. For time series items, it is the value
+	 * @return the value of the option. If <code>null</code>, the default value of the option is used
+	 */
+	T materialize(int index, double value);
+
+}
@@ -0,0 +1,80 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.commons.ArrayObject;
+import org.pepstock.charba.client.commons.NativeName;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * Java native object which is wrapping a CHARBA java script object implementation with some utilities to act on java script
+ * objects for CHARBA data and datasets.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+@JsType(isNative = true, name = NativeName.JS_DATA_HELPER, namespace = JsPackage.GLOBAL)
+final class NativeJsDataHelper {
+
+	/**
+	 * To avoid any instantiation
+	 */
+	NativeJsDataHelper() {
+		// do nothing
+	}
+
+	/**
+	 * Creates an array of data points, in one pass, by the arrays of values passed as arguments.
+	 * 
+	 * @param x array of X values
+	 * @param y array of Y values
+	 * @param r array of radius values, can be <code>null</code>
+	 * @return an array of data points
+	 */
+	static native ArrayObject dataPoints(double[] x, double[] y, double[] r);
+
+	/**
+	 * Creates an array of time series items, in one pass, by the arrays of values passed as arguments.
+	 * 
+	 * @param times array of times, as epoch milliseconds
+	 * @param values array of values
+	 * @return an array of time series items
+	 */
+	static native ArrayObject timeSeriesItems(double[] times, double[] values);
+
+	/**
+	 * Copies X (or time, as epoch milliseconds) and Y values of an array of data points into the arrays passed as arguments.
+	 * 
+	 * @param data array of data points or time series items
+	 * @param x array to fill with X values or times, as epoch milliseconds
+	 * @param y array to fill with Y values
+	 * @return <code>true</code> if the data are time series items
+	 */
+	static native boolean columns(ArrayObject data, double[] x, double[] y);
+
+	/**
+	 * Copies the minimum and maximum values, explicitly set by configuration or by zoom plugin, of a scale into the array
+	 * passed as argument. If not set, {@link Double#NaN} is stored.
+	 * 
+	 * @param chart chart instance
+	 * @param scaleId id of the scale
+	 * @param range array of 2 elements to fill with minimum and maximum values
+	 */
+	static native void range(Chart chart, String scaleId, double[] range);
+
+}
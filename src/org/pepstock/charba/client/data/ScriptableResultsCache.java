@@ -0,0 +1,206 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pepstock.charba.client.callbacks.ScriptableContext;
+import org.pepstock.charba.client.commons.Key;
+
+import com.google.gwt.canvas.dom.client.CanvasGradient;
+import com.google.gwt.canvas.dom.client.CanvasPattern;
+
+/**
+ * Cache of the results of scriptable options of a dataset, by property, dataset index, data index and active status.<br>
+ * The cache is cleared every time the version or the data version of the dataset changes. Canvas gradients and patterns are never stored because
+ * they depend on the chart area and are managed by the canvas object handler.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class ScriptableResultsCache {
+
+	/**
+	 * Resolves the value of a scriptable option, invoking the callback.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 * @param <T> type of the value of scriptable option
+	 */
+	interface Resolver<T> {
+
+		/**
+		 * Returns the value of a scriptable option, invoking the callback.
+		 * 
+		 * @return the value of a scriptable option
+		 */
+		T resolve();
+
+	}
+
+	/**
+	 * Key of the results stored into cache, by property, dataset index, data index and active status.<br>
+	 * The hash code is calculated once, when the key is created.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 *
+	 */
+	private static final class ResultKey {
+
+		// property of the key
+		private final String property;
+		// dataset index
+		private final int datasetIndex;
+		// data index
+		private final int index;
+		// active status
+		private final boolean active;
+		// hash code calculated once
+		private final int hashCode;
+
+		/**
+		 * Creates the key by property and scriptable context.
+		 * 
+		 * @param property property of dataset
+		 * @param context scriptable context
+		 */
+		private ResultKey(Key property, ScriptableContext context) {
+			this.property = property.value();
+			this.datasetIndex = context.getDatasetIndex();
+			this.index = context.getIndex();
+			this.active = context.isActive();
+			// calculates the hash code
+			int result = 31 + this.property.hashCode();
+			result = 31 * result + datasetIndex;
+			result = 31 * result + index;
+			this.hashCode = 31 * result + (active ? 1231 : 1237);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			// checks if the same instance
+			if (this == obj) {
+				return true;
+			}
+			// checks if the same type
+			if (obj instanceof ResultKey) {
+				ResultKey other = (ResultKey) obj;
+				return hashCode == other.hashCode && datasetIndex == other.datasetIndex && index == other.index && active == other.active && property.equals(other.property);
+			}
+			return false;
+		}
+
+	}
+
+	// cache of results
+	// K = property + dataset index + data index + active, V = result of callback
+	private final Map<ResultKey, Object> results = new HashMap<>();
+	// version of dataset when the results have been stored
+	private int version = Integer.MIN_VALUE;
+	// data version of dataset when the results have been stored
+	private int dataVersion = Integer.MIN_VALUE;
+	// flag if the cache is enabled
+	private boolean enabled = false;
+
+	/**
+	 * Returns <code>true</code> if the cache is enabled.
+	 * 
+	 * @return <code>true</code> if the cache is enabled
+	 */
+	boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Sets <code>true</code> if the cache is enabled.<br>
+	 * The stored results are always cleared.
+	 * 
+	 * @param enabled <code>true</code> if the cache is enabled
+	 */
+	void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+		// clears the cache
+		clear();
+	}
+
+	/**
+	 * Clears the stored results.
+	 */
+	void clear() {
+		results.clear();
+		version = Integer.MIN_VALUE;
+		dataVersion = Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Returns the value of a scriptable option, from cache if already resolved for the same version and data version of
+	 * dataset, otherwise invoking the resolver.
+	 * 
+	 * @param datasetVersion current version of the dataset
+	 * @param datasetDataVersion current data version of the dataset
+	 * @param property property of dataset of the scriptable option
+	 * @param context scriptable context
+	 * @param resolver resolver to invoke if the value is not cached
+	 * @param <T> type of the value of scriptable option
+	 * @return the value of a scriptable option
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T get(int datasetVersion, int datasetDataVersion, Key property, ScriptableContext context, Resolver<T> resolver) {
+		// checks if the cache is enabled and the arguments are consistent
+		if (!enabled || !Key.isValid(property) || context == null) {
+			return resolver.resolve();
+		}
+		// checks if the options or the data of dataset have been changed
+		if (version != datasetVersion || dataVersion != datasetDataVersion) {
+			// clears the results
+			results.clear();
+			// stores the versions
+			version = datasetVersion;
+			dataVersion = datasetDataVersion;
+		}
+		// creates the key
+		ResultKey key = new ResultKey(property, context);
+		// checks if the value is already cached
+		if (results.containsKey(key)) {
+			return (T) results.get(key);
+		}
+		// invokes the callback
+		T result = resolver.resolve();
+		// canvas gradients and patterns depend on chart area
+		// then they are not stored
+		if (!(result instanceof CanvasGradient) && !(result instanceof CanvasPattern)) {
+			results.put(key, result);
+		}
+		return result;
+	}
+
+}
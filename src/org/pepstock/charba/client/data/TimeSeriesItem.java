@@ -102,4 +102,13 @@ public final class TimeSeriesItem extends NativeObjectContainer {
 		return getValue(DataPoint.Property.T, (Date) null);
 	}
 
+	/**
+	 * Returns the time of time series item, as epoch milliseconds, to use it as sort key.
+	 * 
+	 * @return the time of time series item, as epoch milliseconds
+	 */
+	long getTimeInMillis() {
+		return getTime().getTime();
+	}
+
 }
@@ -0,0 +1,113 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.data;
+
+/**
+ * Utility to sort time series items by their time, using the epoch milliseconds as primitive sort keys.<br>
+ * It does not allocate any date during the comparisons and returns the order of the items, as array of indexes, which can be
+ * applied to any column of values.<br>
+ * The sort is stable, therefore items with the same time keep their original order.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class TimeSeriesItemsSorter {
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private TimeSeriesItemsSorter() {
+		// do nothing
+	}
+
+	/**
+	 * Returns the order of the time series items, as array of indexes, sorting them by the times passed as argument.<br>
+	 * If the times are already sorted, returns <code>null</code> without allocating anything.
+	 * 
+	 * @param times array of times, as epoch milliseconds
+	 * @return the order of the items, as array of indexes, or <code>null</code> if the times are already sorted
+	 */
+	static int[] order(long[] times) {
+		// checks if the times are already sorted
+		// which is the common case for time series
+		if (isSorted(times)) {
+			return null;
+		}
+		// creates the indexes
+		int[] indexes = new int[times.length];
+		for (int i = 0; i < indexes.length; i++) {
+			indexes[i] = i;
+		}
+		// sorts the indexes by a merge sort, comparing the primitive keys
+		mergeSort(times, indexes, new int[indexes.length], 0, indexes.length);
+		return indexes;
+	}
+
+	/**
+	 * Returns <code>true</code> if the times passed as argument are already sorted.
+	 * 
+	 * @param times array of times, as epoch milliseconds
+	 * @return <code>true</code> if the times passed as argument are already sorted
+	 */
+	private static boolean isSorted(long[] times) {
+		// scans all times
+		for (int i = 1; i < times.length; i++) {
+			// checks if the previous is after the current
+			if (times[i - 1] > times[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Sorts the indexes in the range passed as argument, by a stable merge sort.
+	 * 
+	 * @param times array of times, used as sort keys
+	 * @param indexes array of indexes to sort
+	 * @param buffer temporary array used for merging
+	 * @param from first index (inclusive) of the range to sort
+	 * @param to last index (exclusive) of the range to sort
+	 */
+	private static void mergeSort(long[] times, int[] indexes, int[] buffer, int from, int to) {
+		// checks if the range has got at least 2 items
+		if (to - from < 2) {
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		// sorts both halves
+		mergeSort(times, indexes, buffer, from, middle);
+		mergeSort(times, indexes, buffer, middle, to);
+		// checks if the halves are already in order
+		if (times[indexes[middle - 1]] <= times[indexes[middle]]) {
+			return;
+		}
+		// merges the halves into the buffer
+		int left = from;
+		int right = middle;
+		for (int i = from; i < to; i++) {
+			// takes the left item when equals, to keep the sort stable
+			if (right >= to || (left < middle && times[indexes[left]] <= times[indexes[right]])) {
+				buffer[i] = indexes[left++];
+			} else {
+				buffer[i] = indexes[right++];
+			}
+		}
+		// copies the merged range back
+		System.arraycopy(buffer, from, indexes, from, to - from);
+	}
+
+}
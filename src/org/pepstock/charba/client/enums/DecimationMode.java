@@ -0,0 +1,62 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.enums;
+
+import org.pepstock.charba.client.commons.Key;
+import org.pepstock.charba.client.data.LineDataset;
+
+/**
+ * Enumeration with all possible algorithms to decimate (downsample) the data of a dataset, in order to draw an amount of
+ * points related to the width of the chart.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see LineDataset
+ */
+public enum DecimationMode implements Key
+{
+	/**
+	 * Uses the Largest-Triangle-Three-Buckets algorithm, which selects one point for each pixel, preserving the visual shape of
+	 * the line.
+	 */
+	LTTB("lttb"),
+	/**
+	 * Selects for each pixel the first, the minimum, the maximum and the last points, preserving all peaks of the line.
+	 */
+	MIN_MAX("minMax");
+
+	// name value of property
+	private final String value;
+
+	/**
+	 * Creates with the property value to use into native object.
+	 * 
+	 * @param value value of property name
+	 */
+	private DecimationMode(String value) {
+		this.value = value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.commons.Key#value()
+	 */
+	@Override
+	public String value() {
+		return value;
+	}
+
+}
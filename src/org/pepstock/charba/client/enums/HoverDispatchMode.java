@@ -0,0 +1,67 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.enums;
+
+import org.pepstock.charba.client.commons.Key;
+import org.pepstock.charba.client.events.ChartHoverEvent;
+import org.pepstock.charba.client.events.LegendHoverEvent;
+
+/**
+ * Enumeration with all possible modes to dispatch the hover events ({@link ChartHoverEvent} and {@link LegendHoverEvent})
+ * to the handlers.<br>
+ * The mode can be set to the chart, as default, and can be declared by every handler.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public enum HoverDispatchMode implements Key
+{
+	/**
+	 * The event is dispatched every time CHART.JS invokes the hover callback, at mouse move rate.
+	 */
+	IMMEDIATE("immediate"),
+	/**
+	 * The event is dispatched at most once per animation frame, with the last hover of CHART.JS.
+	 */
+	ANIMATION_FRAME("animationFrame"),
+	/**
+	 * The event is dispatched at most once per animation frame, with the last hover of CHART.JS, and only if the hovered
+	 * elements are changed since the last dispatched event.
+	 */
+	CHANGES("changes");
+
+	// name value of property
+	private final String value;
+
+	/**
+	 * Creates with the property value to use into native object.
+	 * 
+	 * @param value value of property name
+	 */
+	private HoverDispatchMode(String value) {
+		this.value = value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.commons.Key#value()
+	 */
+	@Override
+	public String value() {
+		return value;
+	}
+
+}
@@ -0,0 +1,175 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.enums;
+
+import org.pepstock.charba.client.Plugin;
+import org.pepstock.charba.client.commons.Key;
+
+/**
+ * Enumeration with all hooks which can be invoked by CHART.JS on a plugin.<br>
+ * A plugin can subscribe only the hooks that it implements (see {@link Plugin#getHooks()}), in order that CHART.JS does not
+ * invoke the other ones.<br>
+ * The {@link Plugin#onConfigure(org.pepstock.charba.client.IsChart)} is not listed because it is invoked by CHARBA and it
+ * is always called.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public enum PluginHook implements Key
+{
+	/**
+	 * Called before initializing 'chart'.<br>
+	 * It enables the invocation of {@link Plugin#onBeforeInit}.
+	 */
+	BEFORE_INIT("beforeInit"),
+	/**
+	 * Called after 'chart' has been initialized and before the first update.<br>
+	 * It enables the invocation of {@link Plugin#onAfterInit}.
+	 */
+	AFTER_INIT("afterInit"),
+	/**
+	 * Called before updating 'chart'.<br>
+	 * It enables the invocation of {@link Plugin#onBeforeUpdate}.
+	 */
+	BEFORE_UPDATE("beforeUpdate"),
+	/**
+	 * Called after 'chart' has been updated and before rendering.<br>
+	 * It enables the invocation of {@link Plugin#onAfterUpdate}.
+	 */
+	AFTER_UPDATE("afterUpdate"),
+	/**
+	 * Called before laying out 'chart'.<br>
+	 * It enables the invocation of {@link Plugin#onBeforeLayout}.
+	 */
+	BEFORE_LAYOUT("beforeLayout"),
+	/**
+	 * Called after the 'chart' has been layed out.<br>
+	 * It enables the invocation of {@link Plugin#onAfterLayout}.
+	 */
+	AFTER_LAYOUT("afterLayout"),
+	/**
+	 * Called before updating the 'chart' datasets.<br>
+	 * It enables the invocation of {@link Plugin#onBeforeDatasetsUpdate}.
+	 */
+	BEFORE_DATASETS_UPDATE("beforeDatasetsUpdate"),
+	/**
+	 * Called after the 'chart' datasets have been updated.<br>
+	 * It enables the invocation of {@link Plugin#onAfterDatasetsUpdate}.
+	 */
+	AFTER_DATASETS_UPDATE("afterDatasetsUpdate"),
+	/**
+	 * Called before updating the 'chart' dataset at the given index.<br>
+	 * It enables the invocation of {@link Plugin#onBeforeDatasetUpdate}.
+	 */
+	BEFORE_DATASET_UPDATE("beforeDatasetUpdate"),
+	/**
+	 * Called after the 'chart' dataset at the given index has been updated.<br>
+	 * It enables the invocation of {@link Plugin#onAfterDatasetUpdate}.
+	 */
+	AFTER_DATASET_UPDATE("afterDatasetUpdate"),
+	/**
+	 * Called before rendering 'chart'.<br>
+	 * It enables the invocation of {@link Plugin#onBeforeRender}.
+	 */
+	BEFORE_RENDER("beforeRender"),
+	/**
+	 * Called after the 'chart' has been fully rendered (and animation completed).<br>
+	 * It enables the invocation of {@link Plugin#onAfterRender}.
+	 */
+	AFTER_RENDER("afterRender"),
+	/**
+	 * Called before drawing 'chart' at every animation frame.<br>
+	 * It enables the invocation of {@link Plugin#onBeforeDraw}.
+	 */
+	BEFORE_DRAW("beforeDraw"),
+	/**
+	 * Called after the 'chart' has been drawn.<br>
+	 * It enables the invocation of {@link Plugin#onAfterDraw}.
+	 */
+	AFTER_DRAW("afterDraw"),
+	/**
+	 * Called before drawing the 'chart' datasets.<br>
+	 * It enables the invocation of {@link Plugin#onBeforeDatasetsDraw}.
+	 */
+	BEFORE_DATASETS_DRAW("beforeDatasetsDraw"),
+	/**
+	 * Called after the 'chart' datasets have been drawn.<br>
+	 * It enables the invocation of {@link Plugin#onAfterDatasetsDraw}.
+	 */
+	AFTER_DATASETS_DRAW("afterDatasetsDraw"),
+	/**
+	 * Called before drawing the 'chart' dataset at the given index.<br>
+	 * It enables the invocation of {@link Plugin#onBeforeDatasetDraw}.
+	 */
+	BEFORE_DATASET_DRAW("beforeDatasetDraw"),
+	/**
+	 * Called after the 'chart' dataset at the given index has been drawn.<br>
+	 * It enables the invocation of {@link Plugin#onAfterDatasetDraw}.
+	 */
+	AFTER_DATASET_DRAW("afterDatasetDraw"),
+	/**
+	 * Called before drawing the 'tooltip'.<br>
+	 * It enables the invocation of {@link Plugin#onBeforeTooltipDraw}.
+	 */
+	BEFORE_TOOLTIP_DRAW("beforeTooltipDraw"),
+	/**
+	 * Called after drawing the 'tooltip'.<br>
+	 * It enables the invocation of {@link Plugin#onAfterTooltipDraw}.
+	 */
+	AFTER_TOOLTIP_DRAW("afterTooltipDraw"),
+	/**
+	 * Called before processing the specified 'event'.<br>
+	 * It enables the invocation of {@link Plugin#onBeforeEvent}.
+	 */
+	BEFORE_EVENT("beforeEvent"),
+	/**
+	 * Called after the 'event' has been consumed.<br>
+	 * It enables the invocation of {@link Plugin#onAfterEvent}.
+	 */
+	AFTER_EVENT("afterEvent"),
+	/**
+	 * Called after the chart as been resized.<br>
+	 * It enables the invocation of {@link Plugin#onResize}.
+	 */
+	RESIZE("resize"),
+	/**
+	 * Called after the chart as been destroyed.<br>
+	 * It enables the invocation of {@link Plugin#onDestroy}.
+	 */
+	DESTROY("destroy");
+
+	// name value of property
+	private final String value;
+
+	/**
+	 * Creates with the property value to use into native object.
+	 * 
+	 * @param value value of property name
+	 */
+	private PluginHook(String value) {
+		this.value = value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.commons.Key#value()
+	 */
+	@Override
+	public String value() {
+		return value;
+	}
+
+}
@@ -30,6 +30,8 @@ abstract class AbstractHandlerEvent<H extends EventHandler> extends GwtEvent<H>
 
 	// type of new handler added to the chart
 	private final Type<? extends EventHandler> handlerType;
+	// handler instance added or removed to/from the chart
+	private final EventHandler handler;
 
 	/**
 	 * Creates the event with the type of new handler.
@@ -37,11 +39,31 @@ abstract class AbstractHandlerEvent<H extends EventHandler> extends GwtEvent<H>
 	 * @param handlerType the type of new handler.
 	 */
 	public AbstractHandlerEvent(Type<? extends EventHandler> handlerType) {
+		this(handlerType, null);
+	}
+
+	/**
+	 * Creates the event with the type of new handler and the handler instance.
+	 * 
+	 * @param handlerType the type of new handler.
+	 * @param handler the handler instance, could be <code>null</code>
+	 */
+	public AbstractHandlerEvent(Type<? extends EventHandler> handlerType, EventHandler handler) {
 		// checks if argument is consistent
 		if (handlerType == null) {
 			throw new IllegalArgumentException("Handler type argument is null");
 		}
 		this.handlerType = handlerType;
+		this.handler = handler;
+	}
+
+	/**
+	 * Returns the handler instance added or removed to/from the chart.
+	 * 
+	 * @return the handler instance added or removed to/from the chart or <code>null</code> if not provided
+	 */
+	public final EventHandler getHandler() {
+		return handler;
 	}
 
 	/**
@@ -0,0 +1,79 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.events;
+
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.commons.Key;
+import org.pepstock.charba.client.enums.HoverDispatchMode;
+
+import com.google.gwt.dom.client.NativeEvent;
+import com.google.gwt.event.shared.EventHandler;
+
+/**
+ * Abstract hover event, which is dispatched only to the handlers which declared the same dispatch mode of the event.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ * @param <H> type of event handler
+ */
+abstract class AbstractHoverEvent<H extends EventHandler> extends AbstractChartEvent<H> {
+
+	// dispatch mode of the event
+	private final HoverDispatchMode dispatchMode;
+	// dispatch mode to apply to the handlers which did not declare any
+	private final HoverDispatchMode defaultDispatchMode;
+
+	/**
+	 * Creates the event with the dispatch modes.
+	 * 
+	 * @param nativeEvent native event of this custom event
+	 * @param functionContext function context provided by CHART.JS
+	 * @param key key of the options where the function is stored
+	 * @param dispatchMode dispatch mode of the event or <code>null</code> to dispatch the event to all handlers
+	 * @param defaultDispatchMode dispatch mode to apply to the handlers which did not declare any
+	 */
+	AbstractHoverEvent(NativeEvent nativeEvent, Chart functionContext, Key key, HoverDispatchMode dispatchMode, HoverDispatchMode defaultDispatchMode) {
+		super(nativeEvent, functionContext, key);
+		this.dispatchMode = dispatchMode;
+		this.defaultDispatchMode = defaultDispatchMode == null ? HoverDispatchMode.IMMEDIATE : defaultDispatchMode;
+	}
+
+	/**
+	 * Returns the dispatch mode of the event or <code>null</code> if the event is dispatched to all handlers.
+	 * 
+	 * @return the dispatch mode of the event or <code>null</code> if the event is dispatched to all handlers
+	 */
+	public final HoverDispatchMode getDispatchMode() {
+		return dispatchMode;
+	}
+
+	/**
+	 * Returns <code>true</code> if the event must be dispatched to the handler which declared the dispatch mode passed as
+	 * argument.
+	 * 
+	 * @param handlerDispatchMode dispatch mode declared by the handler or <code>null</code> if not declared
+	 * @return <code>true</code> if the event must be dispatched to the handler
+	 */
+	final boolean mustBeDispatched(HoverDispatchMode handlerDispatchMode) {
+		// checks if the event must be dispatched to all handlers
+		if (dispatchMode == null) {
+			return true;
+		}
+		// checks the dispatch mode of the handler
+		return dispatchMode.equals(handlerDispatchMode == null ? defaultDispatchMode : handlerDispatchMode);
+	}
+
+}
@@ -39,6 +39,16 @@ public final class AddHandlerEvent extends AbstractHandlerEvent<AddHandlerEventH
 		super(handlerType);
 	}
 
+	/**
+	 * Creates the event with the type and the instance of new handler.
+	 * 
+	 * @param handlerType the type of new handler.
+	 * @param handler the instance of new handler.
+	 */
+	public AddHandlerEvent(Type<? extends EventHandler> handlerType, EventHandler handler) {
+		super(handlerType, handler);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
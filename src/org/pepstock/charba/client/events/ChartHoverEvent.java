@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.pepstock.charba.client.Chart;
 import org.pepstock.charba.client.enums.ChartEventProperty;
+import org.pepstock.charba.client.enums.HoverDispatchMode;
 import org.pepstock.charba.client.items.DatasetItem;
 
 import com.google.gwt.dom.client.NativeEvent;
@@ -28,7 +29,7 @@ import com.google.gwt.dom.client.NativeEvent;
  * 
  * @author Andrea "Stock" Stocchero
  */
-public final class ChartHoverEvent extends AbstractChartEvent<ChartHoverEventHandler> implements IsChartEvent {
+public final class ChartHoverEvent extends AbstractHoverEvent<ChartHoverEventHandler> implements IsChartEvent {
 
 	/**
 	 * Event type
@@ -46,7 +47,20 @@ public final class ChartHoverEvent extends AbstractChartEvent<ChartHoverEventHan
 	 * @param items a list of items with dataset metadata related to the hover
 	 */
 	public ChartHoverEvent(NativeEvent nativeEvent, Chart functionContext, List<DatasetItem> items) {
-		super(nativeEvent, functionContext, ChartEventProperty.ON_HOVER);
+		this(nativeEvent, functionContext, items, null, null);
+	}
+
+	/**
+	 * Creates the event with a list of items with dataset metadata related to the hover
+	 * 
+	 * @param nativeEvent native event of this custom event
+	 * @param functionContext function context provided by CHART.JS
+	 * @param items a list of items with dataset metadata related to the hover
+	 * @param dispatchMode dispatch mode of the event or <code>null</code> to dispatch the event to all handlers
+	 * @param defaultDispatchMode dispatch mode to apply to the handlers which did not declare any
+	 */
+	public ChartHoverEvent(NativeEvent nativeEvent, Chart functionContext, List<DatasetItem> items, HoverDispatchMode dispatchMode, HoverDispatchMode defaultDispatchMode) {
+		super(nativeEvent, functionContext, ChartEventProperty.ON_HOVER, dispatchMode, defaultDispatchMode);
 		// checks if argument is consistent
 		if (items == null) {
 			throw new IllegalArgumentException("Dataset items list argument is null");
@@ -80,7 +94,10 @@ public final class ChartHoverEvent extends AbstractChartEvent<ChartHoverEventHan
 	 */
 	@Override
 	protected void dispatch(ChartHoverEventHandler handler) {
-		handler.onHover(this);
+		// checks if the event must be dispatched to the handler
+		if (mustBeDispatched(handler.getDispatchMode())) {
+			handler.onHover(this);
+		}
 	}
 
 }
\ No newline at end of file
@@ -15,6 +15,8 @@
 */
 package org.pepstock.charba.client.events;
 
+import org.pepstock.charba.client.enums.HoverDispatchMode;
+
 /**
  * Event handler for hovering on the chart.
  * 
@@ -29,4 +31,14 @@ public interface ChartHoverEventHandler extends ChartEventHandler {
 	 */
 	void onHover(ChartHoverEvent event);
 
+	/**
+	 * Returns the mode to dispatch the chart hover events to this handler.<br>
+	 * If <code>null</code>, the mode set to the chart is applied.
+	 * 
+	 * @return the mode to dispatch the chart hover events to this handler. Default is <code>null</code>
+	 */
+	default HoverDispatchMode getDispatchMode() {
+		return null;
+	}
+
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
 package org.pepstock.charba.client.events;
 
 import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.enums.HoverDispatchMode;
 import org.pepstock.charba.client.enums.LegendEventProperty;
 import org.pepstock.charba.client.items.LegendItem;
 
@@ -26,7 +27,7 @@ import com.google.gwt.dom.client.NativeEvent;
  * 
  * @author Andrea "Stock" Stocchero
  */
-public final class LegendHoverEvent extends AbstractChartEvent<LegendHoverEventHandler> implements IsLegendEvent {
+public final class LegendHoverEvent extends AbstractHoverEvent<LegendHoverEventHandler> implements IsLegendEvent {
 
 	/**
 	 * Event type
@@ -43,7 +44,20 @@ public final class LegendHoverEvent extends AbstractChartEvent<LegendHoverEventH
 	 * @param item legend item related to the hover
 	 */
 	public LegendHoverEvent(NativeEvent nativeEvent, Chart functionContext, LegendItem item) {
-		super(nativeEvent, functionContext, LegendEventProperty.ON_HOVER);
+		this(nativeEvent, functionContext, item, null, null);
+	}
+
+	/**
+	 * Creates the event with legend item related to the hover
+	 * 
+	 * @param nativeEvent native event of this custom event
+	 * @param functionContext function context provided by CHART.JS
+	 * @param item legend item related to the hover
+	 * @param dispatchMode dispatch mode of the event or <code>null</code> to dispatch the event to all handlers
+	 * @param defaultDispatchMode dispatch mode to apply to the handlers which did not declare any
+	 */
+	public LegendHoverEvent(NativeEvent nativeEvent, Chart functionContext, LegendItem item, HoverDispatchMode dispatchMode, HoverDispatchMode defaultDispatchMode) {
+		super(nativeEvent, functionContext, LegendEventProperty.ON_HOVER, dispatchMode, defaultDispatchMode);
 		// checks if argument is consistent
 		if (item == null) {
 			throw new IllegalArgumentException("Legend item argument is null");
@@ -77,7 +91,10 @@ public final class LegendHoverEvent extends AbstractChartEvent<LegendHoverEventH
 	 */
 	@Override
 	protected void dispatch(LegendHoverEventHandler handler) {
-		handler.onHover(this);
+		// checks if the event must be dispatched to the handler
+		if (mustBeDispatched(handler.getDispatchMode())) {
+			handler.onHover(this);
+		}
 	}
 
 }
\ No newline at end of file
@@ -39,6 +39,16 @@ public final class RemoveHandlerEvent extends AbstractHandlerEvent<RemoveHandler
 		super(handlerType);
 	}
 
+	/**
+	 * Creates the event with the type and the instance of removed handler.
+	 * 
+	 * @param handlerType the type of removed handler.
+	 * @param handler the instance of removed handler.
+	 */
+	public RemoveHandlerEvent(Type<? extends EventHandler> handlerType, EventHandler handler) {
+		super(handlerType, handler);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
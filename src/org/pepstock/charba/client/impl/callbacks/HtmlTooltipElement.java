@@ -0,0 +1,271 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.impl.callbacks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pepstock.charba.client.commons.Constants;
+import org.pepstock.charba.client.enums.FontStyle;
+import org.pepstock.charba.client.items.TooltipBodyItem;
+import org.pepstock.charba.client.items.TooltipLabelColor;
+import org.pepstock.charba.client.items.TooltipModel;
+
+import com.google.gwt.dom.client.DivElement;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
+import com.google.gwt.dom.client.Style.Position;
+import com.google.gwt.dom.client.Style.Unit;
+
+/**
+ * Pooled DOM structure of the HTML tooltip of a chart, created by {@link HtmlTooltipRenderer}.<br>
+ * The lines are reused between the tooltip updates and only the changed values are applied to the DOM. The content is not
+ * patched at all when the content of the tooltip model is not changed. The element is added to the chart element and
+ * positioned by CSS transform in order to avoid any reflow.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class HtmlTooltipElement {
+
+	// tooltip element
+	private final DivElement element;
+	// pool of lines
+	private final List<HtmlTooltipLine> lines = new ArrayList<>();
+	// amount of lines used by the current update
+	private int linesCount = 0;
+	// last applied values
+	private String lastBackgroundColor = null;
+	private double lastCornerRadius = Double.NaN;
+	private int lastXPadding = Integer.MIN_VALUE;
+	private int lastYPadding = Integer.MIN_VALUE;
+	private String lastTransform = null;
+	private TooltipModel lastModel = null;
+	private String lastStyleKey = null;
+	private boolean visible = false;
+
+	/**
+	 * Creates the tooltip element and adds it to the chart element, hidden.
+	 * 
+	 * @param parent chart element, with relative position, where the tooltip element is added
+	 */
+	HtmlTooltipElement(Element parent) {
+		// creates the element
+		element = Document.get().createDivElement();
+		// sets the static style
+		element.getStyle().setPosition(Position.ABSOLUTE);
+		element.getStyle().setLeft(0, Unit.PX);
+		element.getStyle().setTop(0, Unit.PX);
+		element.getStyle().setProperty(HtmlTooltipRenderer.POINTER_EVENTS_PROPERTY, HtmlTooltipRenderer.POINTER_EVENTS_NONE);
+		element.getStyle().setProperty(HtmlTooltipRenderer.WHITE_SPACE_PROPERTY, HtmlTooltipRenderer.WHITE_SPACE_NOWRAP);
+		element.getStyle().setOpacity(0);
+		// adds to the chart element
+		parent.appendChild(element);
+	}
+
+	/**
+	 * Updates the content and the style of the tooltip by the tooltip model, changing only the values which are different from
+	 * the last applied ones.<br>
+	 * If the content and the fonts are not changed, the lines are not updated and the lists of the tooltip model are not
+	 * created.
+	 * 
+	 * @param model tooltip model passed by CHART.JS
+	 */
+	void update(TooltipModel model) {
+		// updates the box style
+		updateBox(model);
+		// gets the fonts and colors of the sections
+		String titleFont = createFont(model.getTitleFontStyle(), model.getTitleFontSize(), model.getTitleFontFamily());
+		String titleColor = model.getTitleFontColorAsString();
+		String bodyFont = createFont(model.getBodyFontStyle(), model.getBodyFontSize(), model.getBodyFontFamily());
+		String bodyColor = model.getBodyFontColorAsString();
+		String footerFont = createFont(model.getFooterFontStyle(), model.getFooterFontSize(), model.getFooterFontFamily());
+		String footerColor = model.getFooterFontColorAsString();
+		// creates the key of fonts
+		StringBuilder sb = new StringBuilder();
+		sb.append(titleFont).append(titleColor).append(bodyFont).append(bodyColor).append(footerFont).append(footerColor);
+		String styleKey = sb.toString();
+		// checks if the content and the fonts are changed
+		if (styleKey.equals(lastStyleKey) && model.isSameContent(lastModel)) {
+			return;
+		}
+		// stores the model and the fonts key
+		lastModel = model;
+		lastStyleKey = styleKey;
+		// resets the lines counter
+		linesCount = 0;
+		// -----------------
+		// TITLE
+		// -----------------
+		for (String title : model.getTitle()) {
+			nextLine().update(title, titleFont, titleColor);
+		}
+		// -----------------
+		// BODY
+		// -----------------
+		for (String beforeBody : model.getBeforeBody()) {
+			nextLine().update(beforeBody, bodyFont, bodyColor);
+		}
+		// gets body items and colors
+		List<TooltipBodyItem> body = model.getBody();
+		List<TooltipLabelColor> labelColors = model.isDisplayColors() ? model.getLabelColors() : null;
+		// scans all body items
+		for (int i = 0; i < body.size(); i++) {
+			TooltipBodyItem item = body.get(i);
+			// gets the color of the item, if there is
+			TooltipLabelColor labelColor = labelColors != null && i < labelColors.size() ? labelColors.get(i) : null;
+			for (String before : item.getBefore()) {
+				nextLine().update(before, bodyFont, bodyColor);
+			}
+			for (String line : item.getLines()) {
+				// checks if the color box must be shown
+				if (labelColor != null) {
+					nextLine().update(line, bodyFont, bodyColor, labelColor.getBackgroundColorAsString(), labelColor.getBorderColorAsString(), model.getBodyFontSize());
+				} else {
+					nextLine().update(line, bodyFont, bodyColor);
+				}
+			}
+			for (String after : item.getAfter()) {
+				nextLine().update(after, bodyFont, bodyColor);
+			}
+		}
+		for (String afterBody : model.getAfterBody()) {
+			nextLine().update(afterBody, bodyFont, bodyColor);
+		}
+		// -----------------
+		// FOOTER
+		// -----------------
+		for (String footer : model.getFooter()) {
+			nextLine().update(footer, footerFont, footerColor);
+		}
+		// hides the lines of the pool which are not used
+		for (int i = linesCount; i < lines.size(); i++) {
+			lines.get(i).setVisible(false);
+		}
+	}
+
+	/**
+	 * Moves the tooltip to the passed position, by CSS transform.
+	 * 
+	 * @param x x coordinate, in pixels, into the chart element
+	 * @param y y coordinate, in pixels, into the chart element
+	 */
+	void moveTo(int x, int y) {
+		// creates the transform
+		String transform = HtmlTooltipRenderer.TRANSLATE_PREFIX + x + Unit.PX.getType() + Constants.COMMA + Constants.BLANK + y + Unit.PX.getType() + HtmlTooltipRenderer.TRANSLATE_SUFFIX;
+		// checks if the position is changed
+		if (!transform.equals(lastTransform)) {
+			element.getStyle().setProperty(HtmlTooltipRenderer.TRANSFORM_PROPERTY, transform);
+			lastTransform = transform;
+		}
+	}
+
+	/**
+	 * Shows or hides the tooltip.
+	 * 
+	 * @param visible <code>true</code> to show the tooltip
+	 */
+	void setVisible(boolean visible) {
+		// checks if the visibility is changed
+		if (this.visible != visible) {
+			element.getStyle().setOpacity(visible ? 1 : 0);
+			this.visible = visible;
+		}
+	}
+
+	/**
+	 * Removes the tooltip element from the document.
+	 */
+	void destroy() {
+		element.removeFromParent();
+		lines.clear();
+		lastModel = null;
+	}
+
+	/**
+	 * Updates the style of the tooltip box, changing only the values which are different from the last applied ones.
+	 * 
+	 * @param model tooltip model passed by CHART.JS
+	 */
+	private void updateBox(TooltipModel model) {
+		// checks if background color is changed
+		String backgroundColor = model.getBackgroundColorAsString();
+		if (backgroundColor != null && !backgroundColor.equals(lastBackgroundColor)) {
+			element.getStyle().setBackgroundColor(backgroundColor);
+			lastBackgroundColor = backgroundColor;
+		}
+		// checks if corner radius is changed
+		double cornerRadius = model.getCornerRadius();
+		if (Double.compare(cornerRadius, lastCornerRadius) != 0) {
+			element.getStyle().setProperty(HtmlTooltipRenderer.BORDER_RADIUS_PROPERTY, cornerRadius, Unit.PX);
+			lastCornerRadius = cornerRadius;
+		}
+		// checks if padding is changed
+		int xPadding = model.getXPadding();
+		if (xPadding != lastXPadding) {
+			element.getStyle().setPaddingLeft(xPadding, Unit.PX);
+			element.getStyle().setPaddingRight(xPadding, Unit.PX);
+			lastXPadding = xPadding;
+		}
+		int yPadding = model.getYPadding();
+		if (yPadding != lastYPadding) {
+			element.getStyle().setPaddingTop(yPadding, Unit.PX);
+			element.getStyle().setPaddingBottom(yPadding, Unit.PX);
+			lastYPadding = yPadding;
+		}
+	}
+
+	/**
+	 * Returns the next line of the pool, creating it if the pool has not got enough lines.
+	 * 
+	 * @return the next line of the pool
+	 */
+	private HtmlTooltipLine nextLine() {
+		HtmlTooltipLine line;
+		// checks if the pool has got a line to reuse
+		if (linesCount < lines.size()) {
+			line = lines.get(linesCount);
+		} else {
+			// creates new line and adds it to the pool
+			line = new HtmlTooltipLine();
+			lines.add(line);
+			element.appendChild(line.getElement());
+		}
+		// shows the line
+		line.setVisible(true);
+		linesCount++;
+		return line;
+	}
+
+	/**
+	 * Creates the CSS font value by its style, size and family.
+	 * 
+	 * @param style font style
+	 * @param size font size
+	 * @param family font family
+	 * @return the CSS font value
+	 */
+	private String createFont(FontStyle style, int size, String family) {
+		// creates the font
+		StringBuilder sb = new StringBuilder();
+		// checks if style is consistent
+		if (style != null) {
+			sb.append(style.value()).append(Constants.BLANK);
+		}
+		return sb.append(size).append(Unit.PX.getType()).append(Constants.BLANK).append(family).toString();
+	}
+
+}
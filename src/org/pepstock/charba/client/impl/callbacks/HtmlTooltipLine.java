@@ -0,0 +1,202 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.impl.callbacks;
+
+import com.google.gwt.dom.client.DivElement;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.SpanElement;
+import com.google.gwt.dom.client.Style.BorderStyle;
+import com.google.gwt.dom.client.Style.Display;
+import com.google.gwt.dom.client.Style.Unit;
+import com.google.gwt.dom.client.Style.VerticalAlign;
+
+/**
+ * Pooled DOM structure of a single line of the HTML tooltip, created by {@link HtmlTooltipRenderer}.<br>
+ * It stores the last applied values in order to patch the DOM only when a value is changed.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class HtmlTooltipLine {
+
+	// margin between the color box and the text
+	private static final int COLOR_BOX_MARGIN = 4;
+	// border width of the color box
+	private static final int COLOR_BOX_BORDER_WIDTH = 1;
+	// line element
+	private final DivElement element;
+	// color box element
+	private final SpanElement box;
+	// text element
+	private final SpanElement text;
+	// last applied values
+	private String lastText = null;
+	private String lastFont = null;
+	private String lastColor = null;
+	private String lastBoxBackgroundColor = null;
+	private String lastBoxBorderColor = null;
+	private int lastBoxSize = Integer.MIN_VALUE;
+	private boolean visible = true;
+	private boolean boxVisible = true;
+
+	/**
+	 * Creates the DOM structure of the line.
+	 */
+	HtmlTooltipLine() {
+		// creates elements
+		element = Document.get().createDivElement();
+		box = Document.get().createSpanElement();
+		text = Document.get().createSpanElement();
+		// sets the static style of color box
+		box.getStyle().setDisplay(Display.INLINE_BLOCK);
+		box.getStyle().setVerticalAlign(VerticalAlign.MIDDLE);
+		box.getStyle().setMarginRight(COLOR_BOX_MARGIN, Unit.PX);
+		box.getStyle().setBorderWidth(COLOR_BOX_BORDER_WIDTH, Unit.PX);
+		box.getStyle().setBorderStyle(BorderStyle.SOLID);
+		// builds the structure
+		element.appendChild(box);
+		element.appendChild(text);
+	}
+
+	/**
+	 * Returns the line element.
+	 * 
+	 * @return the line element
+	 */
+	DivElement getElement() {
+		return element;
+	}
+
+	/**
+	 * Updates the line, changing only the values which are different from the last applied ones.
+	 * 
+	 * @param value text of the line
+	 * @param font CSS font of the text
+	 * @param color CSS color of the text
+	 */
+	void update(String value, String font, String color) {
+		// hides the color box
+		setBoxVisible(false);
+		// updates the text
+		updateText(value, font, color);
+	}
+
+	/**
+	 * Updates the line with a color box, changing only the values which are different from the last applied ones.
+	 * 
+	 * @param value text of the line
+	 * @param font CSS font of the text
+	 * @param color CSS color of the text
+	 * @param boxBackgroundColor background color of the color box
+	 * @param boxBorderColor border color of the color box
+	 * @param boxSize size in pixels of the color box
+	 */
+	void update(String value, String font, String color, String boxBackgroundColor, String boxBorderColor, int boxSize) {
+		// shows the color box
+		setBoxVisible(true);
+		// checks if background color is changed
+		if (!equals(boxBackgroundColor, lastBoxBackgroundColor)) {
+			box.getStyle().setBackgroundColor(boxBackgroundColor);
+			lastBoxBackgroundColor = boxBackgroundColor;
+		}
+		// checks if border color is changed
+		if (!equals(boxBorderColor, lastBoxBorderColor)) {
+			box.getStyle().setBorderColor(boxBorderColor);
+			lastBoxBorderColor = boxBorderColor;
+		}
+		// checks if size is changed
+		if (boxSize != lastBoxSize) {
+			box.getStyle().setWidth(boxSize, Unit.PX);
+			box.getStyle().setHeight(boxSize, Unit.PX);
+			lastBoxSize = boxSize;
+		}
+		// updates the text
+		updateText(value, font, color);
+	}
+
+	/**
+	 * Shows or hides the line.
+	 * 
+	 * @param visible <code>true</code> to show the line
+	 */
+	void setVisible(boolean visible) {
+		// checks if the visibility is changed
+		if (this.visible != visible) {
+			// checks if must be shown
+			if (visible) {
+				element.getStyle().clearDisplay();
+			} else {
+				element.getStyle().setDisplay(Display.NONE);
+			}
+			this.visible = visible;
+		}
+	}
+
+	/**
+	 * Updates the text of the line, changing only the values which are different from the last applied ones.
+	 * 
+	 * @param value text of the line
+	 * @param font CSS font of the text
+	 * @param color CSS color of the text
+	 */
+	private void updateText(String value, String font, String color) {
+		// checks if text is changed
+		if (!equals(value, lastText)) {
+			text.setInnerText(value);
+			lastText = value;
+		}
+		// checks if font is changed
+		if (!equals(font, lastFont)) {
+			text.getStyle().setProperty(HtmlTooltipRenderer.FONT_PROPERTY, font);
+			lastFont = font;
+		}
+		// checks if color is changed
+		if (!equals(color, lastColor)) {
+			text.getStyle().setColor(color);
+			lastColor = color;
+		}
+	}
+
+	/**
+	 * Shows or hides the color box.
+	 * 
+	 * @param boxVisible <code>true</code> to show the color box
+	 */
+	private void setBoxVisible(boolean boxVisible) {
+		// checks if the visibility is changed
+		if (this.boxVisible != boxVisible) {
+			// checks if must be shown
+			if (boxVisible) {
+				box.getStyle().setDisplay(Display.INLINE_BLOCK);
+			} else {
+				box.getStyle().setDisplay(Display.NONE);
+			}
+			this.boxVisible = boxVisible;
+		}
+	}
+
+	/**
+	 * Checks if 2 strings, which can be <code>null</code>, are equals.
+	 * 
+	 * @param value first string
+	 * @param other second string
+	 * @return <code>true</code> if the strings are equals
+	 */
+	private static boolean equals(String value, String other) {
+		return value == null ? other == null : value.equals(other);
+	}
+
+}
@@ -0,0 +1,151 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.impl.callbacks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pepstock.charba.client.AbstractChartsLifecycleListener;
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.ChartsLifecycleListener;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.callbacks.TooltipCustomCallback;
+import org.pepstock.charba.client.items.TooltipModel;
+
+import com.google.gwt.dom.client.CanvasElement;
+
+/**
+ * Custom tooltip callback which renders the tooltip as HTML element, instead of drawing it into the canvas.<br>
+ * The renderer keeps a pooled DOM structure for every chart, added to the chart element, which is reused between the tooltip
+ * updates, and patches only the lines which are changed. The content is not patched at all when it is not changed. The HTML
+ * element is positioned by CSS transform, relative to the chart element, in order to avoid any reflow.<br>
+ * The DOM structure of a chart is removed when the chart is destroyed.
+ * 
+ * <pre>
+ * chart.getOptions().getTooltips().setEnabled(false);
+ * chart.getOptions().getTooltips().setCustomCallback(new HtmlTooltipRenderer());
+ * </pre>
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class HtmlTooltipRenderer implements TooltipCustomCallback {
+
+	// CSS property and values used by the tooltip elements
+	static final String FONT_PROPERTY = "font";
+
+	static final String TRANSFORM_PROPERTY = "transform";
+
+	static final String TRANSLATE_PREFIX = "translate(";
+
+	static final String TRANSLATE_SUFFIX = ")";
+
+	static final String BORDER_RADIUS_PROPERTY = "borderRadius";
+
+	static final String POINTER_EVENTS_PROPERTY = "pointerEvents";
+
+	static final String POINTER_EVENTS_NONE = "none";
+
+	static final String WHITE_SPACE_PROPERTY = "whiteSpace";
+
+	static final String WHITE_SPACE_NOWRAP = "nowrap";
+	// tooltip elements by chart id
+	private final Map<String, HtmlTooltipElement> elements = new HashMap<>();
+	// listener to remove the element when the chart is destroyed
+	// registered only when there is any tooltip element
+	private final ChartsLifecycleListener lifecycleListener;
+
+	/**
+	 * Creates the renderer.<br>
+	 * A charts life cycle listener, in order to remove the tooltip elements when the charts are destroyed, is registered only
+	 * when the renderer has got any tooltip element.
+	 */
+	public HtmlTooltipRenderer() {
+		// creates the listener to remove the element when the chart is destroyed
+		lifecycleListener = new AbstractChartsLifecycleListener() {
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see org.pepstock.charba.client.AbstractChartsLifecycleListener#onAfterDestroy(org.pepstock.charba.client.IsChart)
+			 */
+			@Override
+			public void onAfterDestroy(IsChart chart) {
+				// checks if chart is consistent
+				if (IsChart.isValid(chart)) {
+					// removes the element
+					HtmlTooltipElement element = elements.remove(chart.getId());
+					// checks if there was an element for the chart
+					if (element != null) {
+						element.destroy();
+						// checks if there is not any element
+						if (elements.isEmpty()) {
+							// removes the listener in order to be collected
+							Charts.removeLifecycleListener(this);
+						}
+					}
+				}
+			}
+
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.callbacks.TooltipCustomCallback#onCustom(org.pepstock.charba.client.IsChart,
+	 * org.pepstock.charba.client.items.TooltipModel)
+	 */
+	@Override
+	public void onCustom(IsChart chart, TooltipModel model) {
+		// checks if arguments are consistent
+		if (!IsChart.isConsistent(chart) || model == null) {
+			return;
+		}
+		// gets the element of the chart
+		HtmlTooltipElement element = elements.get(chart.getId());
+		// checks if the tooltip must be hidden
+		if (model.getOpacity() == 0) {
+			// checks if the element exists
+			if (element != null) {
+				element.setVisible(false);
+			}
+			return;
+		}
+		// reads the canvas position into the chart element before any style write
+		// in order to avoid a forced reflow
+		CanvasElement canvas = chart.getCanvas().getCanvasElement();
+		int x = canvas.getOffsetLeft() + model.getCaretX();
+		int y = canvas.getOffsetTop() + model.getCaretY();
+		// checks if the element must be created
+		if (element == null) {
+			// checks if it is the first element
+			if (elements.isEmpty()) {
+				// adds the listener to remove the element when the chart is destroyed
+				Charts.addLifecycleListener(lifecycleListener);
+			}
+			element = new HtmlTooltipElement(chart.getElement());
+			elements.put(chart.getId(), element);
+		}
+		// updates the content, only if changed and only the changed values
+		element.update(model);
+		// moves the element to the caret position, into the chart element
+		element.moveTo(x, y);
+		// shows the element
+		element.setVisible(true);
+	}
+
+}
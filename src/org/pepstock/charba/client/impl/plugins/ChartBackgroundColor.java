@@ -15,8 +15,11 @@
 */
 package org.pepstock.charba.client.impl.plugins;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.colors.ColorBuilder;
@@ -25,6 +28,7 @@ import org.pepstock.charba.client.colors.HtmlColor;
 import org.pepstock.charba.client.colors.IsColor;
 import org.pepstock.charba.client.colors.Pattern;
 import org.pepstock.charba.client.defaults.IsDefaultScaledOptions;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.impl.plugins.ChartBackgroundColorOptionsFactory.ChartBackgroundColorDefaultsOptionsFactory;
 import org.pepstock.charba.client.items.SizeItem;
 import org.pepstock.charba.client.items.UndefinedValues;
@@ -48,6 +52,9 @@ public final class ChartBackgroundColor extends AbstractPlugin {
 	 * Plugin ID <b>{@value ID}</b>.
 	 */
 	public static final String ID = "charbabackgroundcolor";
+	// set of hooks implemented by plugin
+	private static final Set<PluginHook> HOOKS = Collections.unmodifiableSet(
+			EnumSet.of(PluginHook.BEFORE_DRAW, PluginHook.AFTER_DRAW, PluginHook.RESIZE, PluginHook.DESTROY));
 	/**
 	 * The factory to create options
 	 */
@@ -188,6 +195,16 @@ public final class ChartBackgroundColor extends AbstractPlugin {
 		return ID;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return HOOKS;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
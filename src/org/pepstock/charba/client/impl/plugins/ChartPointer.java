@@ -15,18 +15,21 @@
 */
 package org.pepstock.charba.client.impl.plugins;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.ScaleType;
 import org.pepstock.charba.client.defaults.IsDefaultScaledOptions;
 import org.pepstock.charba.client.enums.DefaultPlugin;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.events.ChartNativeEvent;
 import org.pepstock.charba.client.impl.plugins.ChartPointerOptionsFactory.ChartPointerDefaultsOptionsFactory;
 import org.pepstock.charba.client.impl.plugins.enums.PointerElement;
-import org.pepstock.charba.client.items.LegendHitBoxItem;
 import org.pepstock.charba.client.plugins.AbstractPlugin;
 
 import com.google.gwt.dom.client.Style.Cursor;
@@ -44,6 +47,9 @@ public final class ChartPointer extends AbstractPlugin {
 	 * Plugin ID <b>{@value ID}</b>.
 	 */
 	public static final String ID = "charbacursorpointer";
+	// set of hooks implemented by plugin
+	private static final Set<PluginHook> HOOKS = Collections.unmodifiableSet(
+			EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.AFTER_LAYOUT, PluginHook.AFTER_DATASETS_UPDATE, PluginHook.AFTER_DRAW, PluginHook.AFTER_EVENT, PluginHook.DESTROY));
 	/**
 	 * The factory to create options for plugin.
 	 */
@@ -54,6 +60,8 @@ public final class ChartPointer extends AbstractPlugin {
 	static final ChartPointerDefaultsOptionsFactory DEFAULTS_FACTORY = new ChartPointerDefaultsOptionsFactory();
 	// cache to store options in order do not load every time the options
 	private final Map<String, ChartPointerOptions> pluginOptions = new HashMap<>();
+	// cache to store the index of chart elements, updated after every layout, datasets update and drawing
+	private final Map<String, HitTestIndex> pluginIndexes = new HashMap<>();
 
 	/**
 	 * To avoid any instantiation
@@ -81,6 +89,16 @@ public final class ChartPointer extends AbstractPlugin {
 		return ID;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return HOOKS;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -108,6 +126,55 @@ public final class ChartPointer extends AbstractPlugin {
 		return true;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onAfterLayout(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onAfterLayout(IsChart chart) {
+		// checks if chart is consistent and options of plugin has been stored
+		if (IsChart.isConsistent(chart) && pluginOptions.containsKey(chart.getId())) {
+			// indexes again title and scales
+			// because the layout is changed
+			getHitTestIndex(chart).indexBoxes();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onAfterDatasetsUpdate(org.pepstock.charba.client.IsChart)
+	 */
+	@Override
+	public void onAfterDatasetsUpdate(IsChart chart) {
+		// checks if chart is consistent and options of plugin has been stored
+		if (IsChart.isConsistent(chart) && pluginOptions.containsKey(chart.getId())) {
+			// indexes again the data elements
+			// because the datasets are updated
+			getHitTestIndex(chart).indexDatasets();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.plugins.AbstractPlugin#onAfterDraw(org.pepstock.charba.client.IsChart, double)
+	 */
+	@Override
+	public void onAfterDraw(IsChart chart, double easing) {
+		// checks if chart is consistent and options of plugin has been stored
+		if (IsChart.isConsistent(chart) && pluginOptions.containsKey(chart.getId())) {
+			// gets the index
+			HitTestIndex index = getHitTestIndex(chart);
+			// checks if the legend hit boxes must be indexed
+			// because CHART.JS sets them when the legend is drawn after a layout
+			if (!index.isLegendIndexed()) {
+				index.indexLegend();
+			}
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -122,16 +189,18 @@ public final class ChartPointer extends AbstractPlugin {
 			ChartPointerOptions pOptions = pluginOptions.get(chart.getId());
 			// gets the scope
 			List<PointerElement> scope = pOptions.getElements();
+			// gets the index of chart elements
+			HitTestIndex index = getHitTestIndex(chart);
 			// DATASET SELECTION
-			if (hasDatasetSelection(chart, event, scope)) {
+			if (hasDatasetSelection(chart, event, scope, index)) {
 				chart.getElement().getStyle().setCursor(pOptions.getCursorPointer());
-			} else if (hasTitleSelection(chart, event, scope)) {
+			} else if (hasTitleSelection(chart, event, scope, index)) {
 				// TITLE SELECTION
 				chart.getElement().getStyle().setCursor(pOptions.getCursorPointer());
-			} else if (hasScaleSelection(chart, event, scope)) {
+			} else if (hasScaleSelection(chart, event, scope, index)) {
 				// AXIS SELECTION
 				chart.getElement().getStyle().setCursor(pOptions.getCursorPointer());
-			} else if (hasLegendSelection(chart, event, scope)) {
+			} else if (hasLegendSelection(chart, event, scope, index)) {
 				// LEGEND SELECTION
 				chart.getElement().getStyle().setCursor(pOptions.getCursorPointer());
 			} else {
@@ -152,25 +221,47 @@ public final class ChartPointer extends AbstractPlugin {
 		if (IsChart.isValid(chart)) {
 			// removes the stored options for chart
 			pluginOptions.remove(chart.getId());
+			// removes the index of chart elements
+			pluginIndexes.remove(chart.getId());
 		}
 	}
 
+	/**
+	 * Returns the index of the elements (title, scales, legend and datasets) of the chart, in order to know which element is
+	 * under a point.<br>
+	 * The index is updated after every layout, datasets update and drawing of the chart. If not available yet, it is built at
+	 * the invocation.
+	 * 
+	 * @param chart chart instance
+	 * @return the index of the elements of the chart
+	 */
+	public HitTestIndex getHitTestIndex(IsChart chart) {
+		// checks if chart is consistent
+		IsChart.checkIfValid(chart);
+		// gets the stored index
+		HitTestIndex index = pluginIndexes.get(chart.getId());
+		// checks if the index is available
+		if (index == null) {
+			// builds and stores the index
+			index = HitTestIndex.build(chart);
+			pluginIndexes.put(chart.getId(), index);
+		}
+		return index;
+	}
+
 	/**
 	 * Returns <code>true</code> if the cursor is over to a dataset, otherwise <code>false</code>.
 	 * 
 	 * @param chart chart instance
 	 * @param event event form CHART.js
 	 * @param scope the scope with all activated scope of the plugin
+	 * @param index the index of the chart elements
 	 * @return <code>true</code> if the cursor is over to a dataset, otherwise <code>false</code>
 	 */
-	private boolean hasDatasetSelection(IsChart chart, ChartNativeEvent event, List<PointerElement> scope) {
-		// checks if the datasets is in scope
-		if (chart.getOptions().hasDatasetSelectionHandlers() && isElementInScope(scope, PointerElement.DATASET)) {
-			// if yes, asks the dataset item by event
-			// if consistent, is over a dataset
-			return chart.getElementAtEvent(event) != null;
-		}
-		return false;
+	private boolean hasDatasetSelection(IsChart chart, ChartNativeEvent event, List<PointerElement> scope, HitTestIndex index) {
+		// checks if there is any dataset selection handler and datasets is in scope
+		// and the cursor is over a data element, asking to CHART.JS only when it is inside the bounds of a data element
+		return chart.getOptions().hasDatasetSelectionHandlers() && isElementInScope(scope, PointerElement.DATASET) && index.isInside(PointerElement.DATASET, event);
 	}
 
 	/**
@@ -179,14 +270,15 @@ public final class ChartPointer extends AbstractPlugin {
 	 * @param chart chart instance
 	 * @param event event form CHART.js
 	 * @param scope the scope with all activated scope of the plugin
+	 * @param index the index of the chart elements
 	 * @return <code>true</code> if the cursor is over to the title, otherwise <code>false</code>
 	 */
-	private boolean hasTitleSelection(IsChart chart, ChartNativeEvent event, List<PointerElement> scope) {
+	private boolean hasTitleSelection(IsChart chart, ChartNativeEvent event, List<PointerElement> scope, HitTestIndex index) {
 		// checks if title display is activated or title plugin is activated
 		boolean isTitleEnabled = chart.getOptions().getTitle().isDisplay() && !chart.getOptions().getPlugins().isForcedlyDisabled(DefaultPlugin.TITLE);
 		// checks if there is any title click handler and title is in scope
 		// and the cursor is over the title element
-		return isTitleEnabled && chart.getOptions().hasTitleClickHandlers() && isElementInScope(scope, PointerElement.TITLE) && chart.getNode().getTitle().isInside(event);
+		return isTitleEnabled && chart.getOptions().hasTitleClickHandlers() && isElementInScope(scope, PointerElement.TITLE) && index.isInside(PointerElement.TITLE, event);
 	}
 
 	/**
@@ -195,12 +287,13 @@ public final class ChartPointer extends AbstractPlugin {
 	 * @param chart chart instance
 	 * @param event event form CHART.js
 	 * @param scope the scope with all activated scope of the plugin
+	 * @param index the index of the chart elements
 	 * @return <code>true</code> if the cursor is over to a scale, otherwise <code>false</code>
 	 */
-	private boolean hasScaleSelection(IsChart chart, ChartNativeEvent event, List<PointerElement> scope) {
+	private boolean hasScaleSelection(IsChart chart, ChartNativeEvent event, List<PointerElement> scope, HitTestIndex index) {
 		// checks if there is any axis click handler and axis is in scope
 		// and the cursor is over the axis element
-		return chart.getOptions().hasAxisClickHandlers() && isElementInScope(scope, PointerElement.AXES) && !ScaleType.NONE.equals(chart.getType().scaleType()) && chart.getNode().getScales().isInside(event);
+		return chart.getOptions().hasAxisClickHandlers() && isElementInScope(scope, PointerElement.AXES) && !ScaleType.NONE.equals(chart.getType().scaleType()) && index.isInside(PointerElement.AXES, event);
 	}
 
 	/**
@@ -209,27 +302,15 @@ public final class ChartPointer extends AbstractPlugin {
 	 * @param chart chart instance
 	 * @param event event form CHART.js
 	 * @param scope the scope with all activated scope of the plugin
+	 * @param index the index of the chart elements
 	 * @return <code>true</code> if the cursor is over to the legend, otherwise <code>false</code>
 	 */
-	private boolean hasLegendSelection(IsChart chart, ChartNativeEvent event, List<PointerElement> scope) {
+	private boolean hasLegendSelection(IsChart chart, ChartNativeEvent event, List<PointerElement> scope, HitTestIndex index) {
 		// checks if legend display is activated or legend plugin is activated
 		boolean isLegendEnabled = chart.getOptions().getLegend().isDisplay() && !chart.getOptions().getPlugins().isForcedlyDisabled(DefaultPlugin.LEGEND);
 		// checks if legend is in scope
-		// and the cursor is over the legend element
-		if (isLegendEnabled && isElementInScope(scope, PointerElement.LEGEND) && chart.getNode().getLegend().isInside(event)) {
-			// LEGEND SELECTION
-			// checks if cursor is over the hit box
-			List<LegendHitBoxItem> legendItems = chart.getNode().getLegend().getHitBoxes();
-			// scans all legend item box
-			for (LegendHitBoxItem legendItem : legendItems) {
-				// if cursor inside the legend item
-				if (legendItem.isInside(event)) {
-					// confirms is on legend
-					return true;
-				}
-			}
-		}
-		return false;
+		// and the cursor is over a legend hit box
+		return isLegendEnabled && isElementInScope(scope, PointerElement.LEGEND) && index.isInside(PointerElement.LEGEND, event);
 	}
 
 	/**
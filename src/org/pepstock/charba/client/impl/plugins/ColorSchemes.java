@@ -16,7 +16,10 @@
 package org.pepstock.charba.client.impl.plugins;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.pepstock.charba.client.ChartType;
 import org.pepstock.charba.client.IsChart;
@@ -32,6 +35,7 @@ import org.pepstock.charba.client.data.HovingFlexDataset;
 import org.pepstock.charba.client.data.LiningDataset;
 import org.pepstock.charba.client.defaults.IsDefaultScaledOptions;
 import org.pepstock.charba.client.enums.DataType;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.impl.charts.GaugeChart;
 import org.pepstock.charba.client.impl.charts.MeterChart;
 import org.pepstock.charba.client.impl.plugins.ColorSchemesOptionsFactory.ColorSchemesDefaultsOptionsFactory;
@@ -51,6 +55,9 @@ public final class ColorSchemes extends AbstractPlugin {
 	 * Plugin ID <b>{@value ID}</b>.
 	 */
 	public static final String ID = "charbacolorschemes";
+	// set of hooks implemented by plugin
+	private static final Set<PluginHook> HOOKS = Collections.unmodifiableSet(
+			EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.DESTROY));
 
 	/**
 	 * Data labels options factory
@@ -90,6 +97,16 @@ public final class ColorSchemes extends AbstractPlugin {
 		return ID;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return HOOKS;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -15,13 +15,17 @@
 */
 package org.pepstock.charba.client.impl.plugins;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.pepstock.charba.client.ChartType;
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.defaults.IsDefaultScaledOptions;
 import org.pepstock.charba.client.enums.Event;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.events.ChartNativeEvent;
 import org.pepstock.charba.client.events.DatasetRangeSelectionEvent;
 import org.pepstock.charba.client.events.LegendClickEvent;
@@ -30,7 +34,6 @@ import org.pepstock.charba.client.impl.plugins.DatasetsItemsSelectorOptionsFacto
 import org.pepstock.charba.client.items.DatasetItem;
 import org.pepstock.charba.client.items.DatasetMetaItem;
 import org.pepstock.charba.client.plugins.AbstractPlugin;
-import org.pepstock.charba.client.utils.Utilities;
 import org.pepstock.charba.client.zoom.ZoomPlugin;
 
 import com.google.gwt.dom.client.Document;
@@ -54,6 +57,9 @@ public final class DatasetsItemsSelector extends AbstractPlugin {
 	 * Plugin ID <b>{@value ID}</b>.
 	 */
 	public static final String ID = "charbadatasetsitemsselector";
+	// set of hooks implemented by plugin
+	private static final Set<PluginHook> HOOKS = Collections.unmodifiableSet(
+			EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.AFTER_DRAW, PluginHook.BEFORE_EVENT, PluginHook.DESTROY));
 	/**
 	 * The factory to read options for plugin
 	 */
@@ -199,6 +205,16 @@ public final class DatasetsItemsSelector extends AbstractPlugin {
 		return ID;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return HOOKS;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -265,6 +281,12 @@ public final class DatasetsItemsSelector extends AbstractPlugin {
 			// throw exception
 			throw new IllegalArgumentException("Unable to activate plugin because a dataset selection handler has been defined");
 		}
+		// checks if we have already an handler
+		if (pluginSelectionHandlers.containsKey(chart.getId())) {
+			// marks the chart as updated
+			// in order to refresh the snapshot of chart at the end of drawing
+			pluginSelectionHandlers.get(chart.getId()).setChartUpdated();
+		}
 		return true;
 	}
 
@@ -430,14 +452,12 @@ public final class DatasetsItemsSelector extends AbstractPlugin {
 		handler.setDatasetsItemsCount(itemsCount);
 		// checks if there is the amount of datasets for selection
 		if (handler.hasMinimumDatasetsItems()) {
-			// gets the image from canvas
-			String dataUrl = chart.getCanvas().toDataUrl();
 			// checks if chart is changed
-			if (handler.isChartChanged(dataUrl)) {
+			if (handler.isChartChanged()) {
 				// this is necessary to apply every time the handler
 				// will draw directly into canvas
-				// stores image setting size
-				handler.setSnapshot(Utilities.toImageElement(dataUrl, chart.getCanvas().getOffsetWidth(), chart.getCanvas().getOffsetHeight()));
+				// copies the canvas into the offscreen one
+				handler.updateSnapshot();
 			}
 			// if the selections is already present
 			// it refreshes all the calculation of existing selection
@@ -0,0 +1,193 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.impl.plugins;
+
+/**
+ * Uniform grid of cells where a set of boxes is registered, in order to check a point only against the boxes which overlap the
+ * cell of the point.<br>
+ * Every box has got a value, set by the creator of the grid, to know what the box represents.<br>
+ * The grid is immutable and it must be created again when the boxes are changed.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see HitTestIndex
+ */
+final class HitTestGrid {
+
+	/**
+	 * Value returned when no box contains the point, <b>{@value NOT_FOUND}</b>.
+	 */
+	static final int NOT_FOUND = -1;
+	/**
+	 * Value to pass to search a box, regardless of its value, <b>{@value ANY_VALUE}</b>.
+	 */
+	static final int ANY_VALUE = Integer.MIN_VALUE;
+	// empty grid
+	static final HitTestGrid EMPTY = new HitTestGrid(0, 0, new double[0], new int[0], 0);
+	// size in pixels of a cell of the grid
+	private static final int CELL_SIZE = 32;
+	// amount of values for each box
+	private static final int BOX_SIZE = 4;
+	// empty array of boxes indexes for empty cells
+	private static final int[] EMPTY_CELL = new int[0];
+	// amount of boxes
+	private final int count;
+	// coordinates of boxes, left, top, right and bottom for each box
+	private final double[] bounds;
+	// values of boxes
+	private final int[] values;
+	// amount of columns and rows of grid
+	private final int columns;
+	private final int rows;
+	// grid of cells, with the indexes of the boxes which overlap the cell
+	private final int[][] cells;
+
+	/**
+	 * Creates the grid by the boxes passed as arguments.<br>
+	 * The boxes without area are ignored.
+	 * 
+	 * @param width width in pixels of the area covered by the grid
+	 * @param height height in pixels of the area covered by the grid
+	 * @param bounds coordinates of boxes, left, top, right and bottom for each box
+	 * @param values values of boxes or <code>null</code> if the boxes have not got any value
+	 * @param count amount of boxes
+	 */
+	HitTestGrid(double width, double height, double[] bounds, int[] values, int count) {
+		this.bounds = bounds;
+		this.values = values;
+		this.count = count;
+		// calculates the grid
+		columns = Math.max(1, (int) Math.ceil(Math.max(0, width) / CELL_SIZE));
+		rows = Math.max(1, (int) Math.ceil(Math.max(0, height) / CELL_SIZE));
+		// creates the grid
+		cells = new int[columns * rows][];
+		fill();
+	}
+
+	/**
+	 * Returns <code>true</code> if the grid has not got any box.
+	 * 
+	 * @return <code>true</code> if the grid has not got any box
+	 */
+	boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * Returns the value of the box.
+	 * 
+	 * @param box position of the box
+	 * @return the value of the box
+	 */
+	int getValue(int box) {
+		return values != null ? values[box] : ANY_VALUE;
+	}
+
+	/**
+	 * Searches the first box, with the value if passed, which contains the point.
+	 * 
+	 * @param value value of the box to search or {@link HitTestGrid#ANY_VALUE} to search all boxes
+	 * @param x X coordinate, in pixels, relative to the canvas
+	 * @param y Y coordinate, in pixels, relative to the canvas
+	 * @return the position of the box or {@link HitTestGrid#NOT_FOUND} if not found
+	 */
+	int search(int value, double x, double y) {
+		// gets the cell of the point
+		int[] cell = cells[getRow(y) * columns + getColumn(x)];
+		// scans only the boxes of the cell
+		for (int box : cell) {
+			int index = box * BOX_SIZE;
+			// checks if the box has got the value and contains the point
+			if ((value == ANY_VALUE || value == getValue(box)) && x >= bounds[index] && y >= bounds[index + 1] && x <= bounds[index + 2] && y <= bounds[index + 3]) {
+				return box;
+			}
+		}
+		// if here, not found
+		return NOT_FOUND;
+	}
+
+	/**
+	 * Registers all boxes into the cells of the grid which they overlap.
+	 */
+	private void fill() {
+		// counts the boxes for each cell
+		int[] sizes = new int[cells.length];
+		for (int i = 0; i < count; i++) {
+			forEachCell(i, sizes, null);
+		}
+		// creates the cells
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = sizes[i] == 0 ? EMPTY_CELL : new int[sizes[i]];
+			sizes[i] = 0;
+		}
+		// stores the boxes into cells
+		// keeping the order of boxes (priority)
+		for (int i = 0; i < count; i++) {
+			forEachCell(i, sizes, cells);
+		}
+	}
+
+	/**
+	 * Scans all cells of the grid which the box overlaps, counting the box for each cell or storing it into the cell.
+	 * 
+	 * @param box position of the box
+	 * @param sizes amount of boxes for each cell
+	 * @param grid grid where to store the box or <code>null</code> if the boxes must be only counted
+	 */
+	private void forEachCell(int box, int[] sizes, int[][] grid) {
+		int index = box * BOX_SIZE;
+		// checks if the box has got an area
+		if (bounds[index + 2] < bounds[index] || bounds[index + 3] < bounds[index + 1]) {
+			return;
+		}
+		// calculates the range of cells, limited to the grid
+		int firstColumn = getColumn(bounds[index]);
+		int lastColumn = getColumn(bounds[index + 2]);
+		int firstRow = getRow(bounds[index + 1]);
+		int lastRow = getRow(bounds[index + 3]);
+		// scans the cells
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				int cell = row * columns + column;
+				// checks if must store the box
+				if (grid != null) {
+					grid[cell][sizes[cell]] = box;
+				}
+				sizes[cell]++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the column of the grid for the X coordinate, limited to the grid.
+	 * 
+	 * @param x X coordinate
+	 * @return the column of the grid
+	 */
+	private int getColumn(double x) {
+		return Math.min(columns - 1, Math.max(0, (int) Math.floor(x / CELL_SIZE)));
+	}
+
+	/**
+	 * Returns the row of the grid for the Y coordinate, limited to the grid.
+	 * 
+	 * @param y Y coordinate
+	 * @return the row of the grid
+	 */
+	private int getRow(double y) {
+		return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / CELL_SIZE)));
+	}
+
+}
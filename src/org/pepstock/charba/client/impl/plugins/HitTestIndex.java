@@ -0,0 +1,323 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.impl.plugins;
+
+import java.util.List;
+
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.ChartNode;
+import org.pepstock.charba.client.Charts;
+import org.pepstock.charba.client.IsChart;
+import org.pepstock.charba.client.events.ChartNativeEvent;
+import org.pepstock.charba.client.impl.plugins.enums.PointerElement;
+import org.pepstock.charba.client.items.BaseBoxItem;
+import org.pepstock.charba.client.items.LegendHitBoxItem;
+import org.pepstock.charba.client.items.ScaleItem;
+import org.pepstock.charba.client.items.UndefinedValues;
+
+/**
+ * Spatial index of the elements of a chart (title, scales, legend hit boxes and data elements of the datasets), to answer which
+ * element is under a point without reading the chart nodes and scanning all elements at every mouse event.<br>
+ * The boxes of the elements are registered into uniform grids of cells, therefore a point is checked only against the boxes
+ * which overlap the cell of the point.<br>
+ * The index is a snapshot of the chart and every kind of element must be indexed again when CHART.JS changes it:
+ * <ul>
+ * <li>the title and scales after every layout of the chart
+ * <li>the legend hit boxes after the drawing of the chart, because CHART.JS sets their positions when the legend is drawn
+ * <li>the data elements after every update of the datasets, by the bounds they have at the end of the animation
+ * </ul>
+ * The bounds of the data elements contain the area where CHART.JS hits them, therefore, when a point is inside the bounds of a
+ * data element, CHART.JS is asked to confirm it.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * @see ChartPointer#getHitTestIndex(IsChart)
+ */
+public final class HitTestIndex {
+
+	// amount of values for each box
+	private static final int BOX_SIZE = 4;
+	// all pointer elements, by their ordinal
+	private static final PointerElement[] ELEMENTS = PointerElement.values();
+	// chart instance
+	private final IsChart chart;
+	// grid of title and scales, with the ordinal of the element as value
+	private HitTestGrid boxes = HitTestGrid.EMPTY;
+	// grid of legend hit boxes, with the index of hit box as value
+	private HitTestGrid legend = HitTestGrid.EMPTY;
+	// flag if the legend hit boxes have been indexed after last layout
+	private boolean legendIndexed = false;
+	// grid of the data elements of the datasets
+	private HitTestGrid datasets = HitTestGrid.EMPTY;
+	// flag if the data elements have been indexed
+	private boolean datasetsIndexed = false;
+
+	/**
+	 * Creates the index for the chart.
+	 * 
+	 * @param chart chart instance
+	 */
+	private HitTestIndex(IsChart chart) {
+		this.chart = chart;
+	}
+
+	/**
+	 * Builds the index of the elements of the chart, as they are in the current layout and drawing of the chart.
+	 * 
+	 * @param chart chart instance
+	 * @return the index of the elements of the chart
+	 */
+	public static HitTestIndex build(IsChart chart) {
+		// checks if chart is consistent
+		IsChart.checkIfValid(chart);
+		// creates the index
+		HitTestIndex index = new HitTestIndex(chart);
+		// indexes all elements
+		index.indexBoxes();
+		index.indexLegend();
+		index.indexDatasets();
+		return index;
+	}
+
+	/**
+	 * Indexes the boxes of title and scales, as they are in the current layout of the chart.<br>
+	 * It must be invoked after every layout of the chart.
+	 */
+	void indexBoxes() {
+		// gets the chart node
+		ChartNode node = chart.getNode();
+		// calculates the maximum amount of boxes
+		// title + scales
+		int capacity = 1 + node.getScales().getItems().size();
+		double[] bounds = new double[capacity * BOX_SIZE];
+		int[] values = new int[capacity];
+		// adds title box
+		int count = add(bounds, values, 0, PointerElement.TITLE, node.getTitle());
+		// adds scales boxes
+		for (ScaleItem scale : node.getScales().getItems().values()) {
+			count = add(bounds, values, count, PointerElement.AXES, scale);
+		}
+		boxes = new HitTestGrid(node.getWidth(), node.getHeight(), bounds, values, count);
+		// the legend hit boxes will be set by next drawing
+		legendIndexed = false;
+	}
+
+	/**
+	 * Returns <code>true</code> if the legend hit boxes have been indexed after the last layout of the chart.
+	 * 
+	 * @return <code>true</code> if the legend hit boxes have been indexed after the last layout of the chart
+	 */
+	boolean isLegendIndexed() {
+		return legendIndexed;
+	}
+
+	/**
+	 * Indexes the legend hit boxes, as they are set by the last drawing of the legend.<br>
+	 * It must be invoked after the drawing of the chart, when the layout of the chart has been changed.
+	 */
+	void indexLegend() {
+		// gets the chart node
+		ChartNode node = chart.getNode();
+		// gets the legend hit boxes, as set by the last drawing
+		List<LegendHitBoxItem> hitBoxes = node.getLegend().getHitBoxes();
+		double[] bounds = new double[hitBoxes.size() * BOX_SIZE];
+		int[] values = new int[hitBoxes.size()];
+		int count = 0;
+		// scans all hit boxes
+		for (int i = 0; i < hitBoxes.size(); i++) {
+			LegendHitBoxItem hitBox = hitBoxes.get(i);
+			// checks if hit box is consistent
+			if (hitBox.getLeft() != UndefinedValues.INTEGER && hitBox.getTop() != UndefinedValues.INTEGER) {
+				count = add(bounds, values, count, i, hitBox.getLeft(), hitBox.getTop(), hitBox.getLeft() + hitBox.getWidth(), hitBox.getTop() + hitBox.getHeight());
+			}
+		}
+		legend = new HitTestGrid(node.getWidth(), node.getHeight(), bounds, values, count);
+		legendIndexed = true;
+	}
+
+	/**
+	 * Indexes the bounds of the data elements of the visible datasets, as they are at the end of the animation.<br>
+	 * It must be invoked after every update of the datasets.
+	 */
+	void indexDatasets() {
+		// gets the CHART.JS instance
+		Chart nativeChart = Charts.getNative(chart);
+		// checks if the chart is initialized
+		if (nativeChart != null) {
+			// gets the chart node
+			ChartNode node = chart.getNode();
+			// gets the bounds of data elements
+			double[] bounds = JsHitTestHelper.get().bounds(nativeChart);
+			datasets = new HitTestGrid(node.getWidth(), node.getHeight(), bounds, null, bounds.length / BOX_SIZE);
+			datasetsIndexed = true;
+		}
+	}
+
+	/**
+	 * Returns the element of the chart which is under the point or <code>null</code> if there is not any element.<br>
+	 * If more boxes overlap the point, the priority is: title, scales and legend.<br>
+	 * The data elements are not checked because CHART.JS must confirm them, therefore they can be checked only by an event.
+	 * 
+	 * @param x X coordinate, in pixels, relative to the canvas
+	 * @param y Y coordinate, in pixels, relative to the canvas
+	 * @return the element of the chart which is under the point or <code>null</code> if there is not any element
+	 */
+	public PointerElement getElementAt(double x, double y) {
+		// searches the box
+		int box = boxes.search(HitTestGrid.ANY_VALUE, x, y);
+		// checks if found
+		if (box != HitTestGrid.NOT_FOUND) {
+			return ELEMENTS[boxes.getValue(box)];
+		}
+		// checks the legend hit boxes
+		return getLegendHitBoxIndexAt(x, y) != UndefinedValues.INTEGER ? PointerElement.LEGEND : null;
+	}
+
+	/**
+	 * Returns the element of the chart which is under the event or <code>null</code> if there is not any element.<br>
+	 * If more boxes overlap the point, the priority is: title, scales, legend and datasets.
+	 * 
+	 * @param event event to check
+	 * @return the element of the chart which is under the event or <code>null</code> if there is not any element
+	 */
+	public PointerElement getElementAt(ChartNativeEvent event) {
+		// checks if event is consistent
+		if (event != null) {
+			// searches title, scales and legend
+			PointerElement element = getElementAt(event.getLayerX(), event.getLayerY());
+			// checks if found
+			if (element != null) {
+				return element;
+			}
+			// checks the data elements
+			return isInside(PointerElement.DATASET, event) ? PointerElement.DATASET : null;
+		}
+		// if here, event is not consistent
+		return null;
+	}
+
+	/**
+	 * Returns <code>true</code> if the point is inside of a box of the element of the chart, otherwise <code>false</code>.<br>
+	 * For the datasets, it returns <code>true</code> if the point is inside the bounds of a data element, without any
+	 * confirmation by CHART.JS.
+	 * 
+	 * @param element element of the chart to check
+	 * @param x X coordinate, in pixels, relative to the canvas
+	 * @param y Y coordinate, in pixels, relative to the canvas
+	 * @return <code>true</code> if the point is inside of a box of the element of the chart
+	 */
+	public boolean isInside(PointerElement element, double x, double y) {
+		// checks if the element is consistent
+		if (element == null) {
+			return false;
+		} else if (PointerElement.LEGEND.equals(element)) {
+			// checks the legend hit boxes
+			return getLegendHitBoxIndexAt(x, y) != UndefinedValues.INTEGER;
+		} else if (PointerElement.DATASET.equals(element)) {
+			// checks the bounds of data elements
+			return datasets.search(HitTestGrid.ANY_VALUE, x, y) != HitTestGrid.NOT_FOUND;
+		}
+		// checks title and scales
+		return boxes.search(element.ordinal(), x, y) != HitTestGrid.NOT_FOUND;
+	}
+
+	/**
+	 * Returns <code>true</code> if the event is inside of a box of the element of the chart, otherwise <code>false</code>.<br>
+	 * For the datasets, CHART.JS is asked to confirm it only when the event is inside the bounds of a data element or when the
+	 * data elements have not been indexed yet.
+	 * 
+	 * @param element element of the chart to check
+	 * @param event event to check
+	 * @return <code>true</code> if the event is inside of a box of the element of the chart
+	 */
+	public boolean isInside(PointerElement element, ChartNativeEvent event) {
+		// checks if event is consistent
+		if (event == null) {
+			return false;
+		} else if (PointerElement.DATASET.equals(element)) {
+			// checks the bounds of data elements, if indexed
+			// and then asks to CHART.JS
+			return (!datasetsIndexed || isInside(element, event.getLayerX(), event.getLayerY())) && chart.getElementAtEvent(event) != null;
+		}
+		return isInside(element, event.getLayerX(), event.getLayerY());
+	}
+
+	/**
+	 * Returns the index of the legend hit box (the same of the legend item) which is under the point or
+	 * {@link UndefinedValues#INTEGER} if there is not any legend hit box.<br>
+	 * The legend hit boxes are indexed as they are set by the last drawing of the legend.
+	 * 
+	 * @param x X coordinate, in pixels, relative to the canvas
+	 * @param y Y coordinate, in pixels, relative to the canvas
+	 * @return the index of the legend hit box which is under the point or {@link UndefinedValues#INTEGER}
+	 */
+	public int getLegendHitBoxIndexAt(double x, double y) {
+		// searches the hit box
+		int box = legend.search(HitTestGrid.ANY_VALUE, x, y);
+		// checks if found
+		if (box != HitTestGrid.NOT_FOUND) {
+			return legend.getValue(box);
+		}
+		// if here, not found
+		return UndefinedValues.INTEGER;
+	}
+
+	/**
+	 * Adds a box to the boxes to index, by a box item.
+	 * 
+	 * @param bounds coordinates of the boxes
+	 * @param values values of the boxes
+	 * @param index position where to store the box
+	 * @param element element of the chart of the box
+	 * @param item box item
+	 * @return the position where to store the next box
+	 */
+	private static int add(double[] bounds, int[] values, int index, PointerElement element, BaseBoxItem item) {
+		// checks if box is consistent
+		if (item.getLeft() != UndefinedValues.INTEGER && item.getTop() != UndefinedValues.INTEGER && item.getRight() != UndefinedValues.INTEGER && item.getBottom() != UndefinedValues.INTEGER) {
+			return add(bounds, values, index, element.ordinal(), item.getLeft(), item.getTop(), item.getRight(), item.getBottom());
+		}
+		// if here, the box is not consistent
+		return index;
+	}
+
+	/**
+	 * Adds a box to the boxes to index.
+	 * 
+	 * @param bounds coordinates of the boxes
+	 * @param values values of the boxes
+	 * @param index position where to store the box
+	 * @param value value of the box
+	 * @param left left coordinate of the box
+	 * @param top top coordinate of the box
+	 * @param right right coordinate of the box
+	 * @param bottom bottom coordinate of the box
+	 * @return the position where to store the next box
+	 */
+	private static int add(double[] bounds, int[] values, int index, int value, double left, double top, double right, double bottom) {
+		// checks if the box has got an area
+		if (right < left || bottom < top) {
+			return index;
+		}
+		int position = index * BOX_SIZE;
+		bounds[position] = left;
+		bounds[position + 1] = top;
+		bounds[position + 2] = right;
+		bounds[position + 3] = bottom;
+		values[index] = value;
+		return index + 1;
+	}
+
+}
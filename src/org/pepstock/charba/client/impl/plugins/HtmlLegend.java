@@ -15,6 +15,8 @@
 */
 package org.pepstock.charba.client.impl.plugins;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -26,6 +28,7 @@ import org.pepstock.charba.client.colors.tiles.TilesFactory;
 import org.pepstock.charba.client.configuration.Legend;
 import org.pepstock.charba.client.defaults.IsDefaultScaledOptions;
 import org.pepstock.charba.client.enums.DefaultPlugin;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.enums.Position;
 import org.pepstock.charba.client.impl.plugins.HtmlLegendOptionsFactory.HtmlLegendBuilderDefaultsOptionsFactory;
 import org.pepstock.charba.client.items.LegendLabelItem;
@@ -36,10 +39,7 @@ import com.google.gwt.dom.client.DivElement;
 import com.google.gwt.dom.client.Document;
 import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.Node;
-import com.google.gwt.dom.client.NodeList;
 import com.google.gwt.dom.client.Style.Unit;
-import com.google.gwt.dom.client.TableCellElement;
-import com.google.gwt.safehtml.shared.SafeHtml;
 
 /**
  * This plugin implements a HTML legend in order to give more flexibility to who needs to customize the legend.<br>
@@ -53,6 +53,9 @@ public final class HtmlLegend extends AbstractPlugin {
 	 * Plugin ID <b>{@value ID}</b>.
 	 */
 	public static final String ID = "charbahtmllegend";
+	// set of hooks implemented by plugin
+	private static final Set<PluginHook> HOOKS = Collections.unmodifiableSet(
+			EnumSet.of(PluginHook.BEFORE_UPDATE, PluginHook.BEFORE_DRAW, PluginHook.AFTER_DRAW, PluginHook.DESTROY));
 	/**
 	 * The factory to create options for plugin.
 	 */
@@ -73,6 +76,8 @@ public final class HtmlLegend extends AbstractPlugin {
 	private final Set<String> pluginAddedLegendStatus = new HashSet<>();
 	// cache to store DIV element which contains legend for each chart
 	private final Map<String, DivElement> pluginDivElements = new HashMap<>();
+	// cache to store the elements of legend items rendered for each chart
+	private final Map<String, Map<String, HtmlLegendItemElement>> pluginLegendItemElements = new HashMap<>();
 	// cache to store easing during drawing for each chart
 	// this cache is needed in order to recreate the legend when a chart update
 	// is invoked during a previous update
@@ -109,6 +114,16 @@ public final class HtmlLegend extends AbstractPlugin {
 		return ID;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.pepstock.charba.client.Plugin#getHooks()
+	 */
+	@Override
+	public Set<PluginHook> getHooks() {
+		return HOOKS;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -173,6 +188,10 @@ public final class HtmlLegend extends AbstractPlugin {
 				legendElement.setId(formatLegendElementId(chart));
 				// stores into map
 				pluginDivElements.put(chart.getId(), legendElement);
+				// adds the event listeners to element
+				// only once, because the events of legend items
+				// are delegated to the legend element
+				addListeners(chart, legendElement);
 			} else {
 				// if here, DIV element already exists then it retrieves it
 				legendElement = pluginDivElements.get(chart.getId());
@@ -233,16 +252,15 @@ public final class HtmlLegend extends AbstractPlugin {
 			if (pluginDivElements.containsKey(chart.getId()) && !pluginAddedLegendStatus.contains(chart.getId())) {
 				// gets div element
 				DivElement legendElement = pluginDivElements.get(chart.getId());
-				// invokes the legend callback to have the HTML of legend
-				SafeHtml html = CALLBACK.generateLegend(chart);
-				// removes all children of div element
-				legendElement.removeAllChildren();
-				// sets as inner HTML
-				legendElement.setInnerHTML(html.asString());
-				// removes all listeners
-				removeListeners(chart, legendElement);
-				// adds the event listeners to element
-				addListeners(chart, legendElement);
+				// checks if the elements of legend items are already stored
+				if (!pluginLegendItemElements.containsKey(chart.getId())) {
+					pluginLegendItemElements.put(chart.getId(), new HashMap<>());
+				}
+				// gets the elements of legend items already rendered
+				Map<String, HtmlLegendItemElement> elements = pluginLegendItemElements.get(chart.getId());
+				// invokes the legend callback to render the legend
+				// patching the legend already rendered
+				CALLBACK.renderLegend(chart, legendElement, elements);
 				// adds into set
 				// in order do not add the inner html every easing
 				pluginAddedLegendStatus.add(chart.getId());
@@ -373,6 +391,8 @@ public final class HtmlLegend extends AbstractPlugin {
 			// removes from parent
 			legendElement.removeFromParent();
 		}
+		// removes the elements of legend items
+		pluginLegendItemElements.remove(chart.getId());
 		// removes the chart status
 		pluginAddedLegendStatus.remove(chart.getId());
 		// removes the chart legend labels items
@@ -398,58 +418,33 @@ public final class HtmlLegend extends AbstractPlugin {
 	}
 
 	/**
-	 * Adds the event listeners to all elements created by legend callback.
+	 * Adds the event listeners to the legend element.<br>
+	 * The events of all elements created by legend callback are delegated to the legend element.
 	 * 
 	 * @param chart chart instance
 	 * @param legendElement DIV legend element which contains the custom HTML legend.
 	 */
 	private void addListeners(IsChart chart, DivElement legendElement) {
-		// gets all nodes with TAG TD
-		NodeList<Element> tds = legendElement.getElementsByTagName(TableCellElement.TAG_TD);
-		// scans all nodes
-		for (int i = 0; i < tds.getLength(); i++) {
-			// gets node
-			Node node = tds.getItem(i);
-			// checks if its an element
-			if (node instanceof Element) {
-				// casts to element
-				Element td = (Element) node;
-				// checks if the element has got a correct ID
-				// starting with chart id
-				if (td.getId().startsWith(chart.getId()) && pluginCallbackProxies.containsKey(chart.getId())) {
-					HtmlLegendCallbackProxy callbackProxy = pluginCallbackProxies.get(chart.getId());
-					// adds to the element all event listeners
-					callbackProxy.addListeners(td);
-				}
-			}
+		// checks if there is a callback proxy for the chart
+		if (pluginCallbackProxies.containsKey(chart.getId())) {
+			HtmlLegendCallbackProxy callbackProxy = pluginCallbackProxies.get(chart.getId());
+			// adds to the element all event listeners
+			callbackProxy.addListeners(legendElement);
 		}
 	}
 
 	/**
-	 * Removes the event listeners from all elements created by legend callback.
+	 * Removes the event listeners from the legend element.
 	 * 
 	 * @param chart chart instance
 	 * @param legendElement DIV legend element which contains the custom HTML legend.
 	 */
 	private void removeListeners(IsChart chart, DivElement legendElement) {
-		// gets all nodes with TAG TD
-		NodeList<Element> tds = legendElement.getElementsByTagName(TableCellElement.TAG_TD);
-		// scans all nodes
-		for (int i = 0; i < tds.getLength(); i++) {
-			// gets node
-			Node node = tds.getItem(i);
-			// checks if its an element
-			if (node instanceof Element) {
-				// casts to element
-				Element td = (Element) node;
-				// checks if the element has got a correct ID
-				// starting with chart id
-				if (td.getId().startsWith(chart.getId()) && pluginCallbackProxies.containsKey(chart.getId())) {
-					HtmlLegendCallbackProxy callbackProxy = pluginCallbackProxies.get(chart.getId());
-					// removes to the element all event listeners
-					callbackProxy.removeListeners(td);
-				}
-			}
+		// checks if there is a callback proxy for the chart
+		if (pluginCallbackProxies.containsKey(chart.getId())) {
+			HtmlLegendCallbackProxy callbackProxy = pluginCallbackProxies.get(chart.getId());
+			// removes to the element all event listeners
+			callbackProxy.removeListeners(legendElement);
 		}
 	}
 
@@ -96,7 +96,8 @@ final class HtmlLegendCallbackProxy {
 	}
 
 	/**
-	 * Adds {@link Event#CLICK}, {@link Event#MOUSEMOVE} and {@link Event#MOUSEOUT} events to HTML legend element.
+	 * Adds {@link Event#CLICK}, {@link Event#MOUSEMOVE} and {@link Event#MOUSEOUT} events to HTML legend element.<br>
+	 * The events of all legend items are delegated to the HTML legend element.
 	 * 
 	 * @param element HTML legend element on which to add events listeners
 	 */
@@ -129,6 +130,8 @@ final class HtmlLegendCallbackProxy {
 		EventTarget eventTarget = event.getEventTarget();
 		// gets by element
 		Element element = Element.as(eventTarget);
+		// gets the legend element where the listeners have been added
+		Element legendElement = Element.as(event.getCurrentEventTarget());
 		// gets reference of table column
 		Element legendColumnElement = null;
 		// checks if the element is TD
@@ -137,7 +140,7 @@ final class HtmlLegendCallbackProxy {
 			legendColumnElement = element;
 		} else {
 			// if not TD but the parent has got TD, the parent element itself contains the correct ID.
-			legendColumnElement = checkParent(element);
+			legendColumnElement = checkParent(element, legendElement);
 		}
 		// checks if legend column is consistent
 		if (legendColumnElement != null) {
@@ -162,14 +165,16 @@ final class HtmlLegendCallbackProxy {
 	}
 
 	/**
-	 * Scans recursively the element to get a parent DOM element which has got TD as tag name.
+	 * Scans recursively the element to get a parent DOM element which has got TD as tag name, until the legend element.
 	 * 
 	 * @param child child element to check
+	 * @param legendElement the legend element where the listeners have been added
 	 * @return the parent element with TD tag name or <code>null</code> if not found.
 	 */
-	private Element checkParent(Element child) {
+	private Element checkParent(Element child, Element legendElement) {
 		// checks if has got a parent
-		if (child.hasParentElement()) {
+		// and the legend element is not reached
+		if (child.hasParentElement() && child != legendElement) {
 			// checks if parent has got the TD element
 			if (child.getParentElement().getNodeName().equalsIgnoreCase(TableCellElement.TAG_TD)) {
 				// returns parent element
@@ -177,7 +182,7 @@ final class HtmlLegendCallbackProxy {
 			} else {
 				// calls this method recursively
 				// scanning the parent
-				return checkParent(child.getParentElement());
+				return checkParent(child.getParentElement(), legendElement);
 			}
 		}
 		// if here if scanning the elements tree
@@ -0,0 +1,178 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.impl.plugins;
+
+import com.google.gwt.dom.client.DivElement;
+import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Style.TextDecoration;
+import com.google.gwt.dom.client.TableCellElement;
+import com.google.gwt.user.client.ui.HasVerticalAlignment;
+
+/**
+ * Wraps the HTML elements which are rendering a legend item into the HTML legend, the color and the label cells.<br>
+ * The elements are reused by {@link HtmlLegend} plugin between the updates of the chart, keyed by the dataset and data index
+ * of the legend item, storing the last applied color, label and hidden status in order to patch only the changed ones.
+ * 
+ * @author Andrea "Stock" Stocchero
+ * 
+ */
+final class HtmlLegendItemElement {
+
+	// attribute name of style
+	private static final String ATTRIBUTE_STYLE = "style";
+	// cell with the color of legend item
+	private final TableCellElement colorCell;
+	// element where the color is applied
+	private final DivElement color;
+	// cell with the label of legend item
+	private final TableCellElement labelCell;
+	// element where the label is applied
+	private final DivElement label;
+	// key of the last applied color
+	private String colorKey = null;
+	// key of the last applied label
+	private String labelKey = null;
+	// last applied hidden status
+	private boolean hidden = false;
+
+	/**
+	 * Creates the HTML elements of the legend item.
+	 * 
+	 * @param legendId element id of legend item
+	 */
+	HtmlLegendItemElement(HtmlLegendId legendId) {
+		// creates the color cell
+		colorCell = Document.get().createTDElement();
+		colorCell.setId(legendId.getIdForColor());
+		colorCell.setVAlign(HasVerticalAlignment.ALIGN_TOP.getVerticalAlignString());
+		color = Document.get().createDivElement();
+		colorCell.appendChild(color);
+		// creates the label cell
+		labelCell = Document.get().createTDElement();
+		labelCell.setId(legendId.getIdForLabel());
+		labelCell.setVAlign(HasVerticalAlignment.ALIGN_MIDDLE.getVerticalAlignString());
+		label = Document.get().createDivElement();
+		labelCell.appendChild(label);
+	}
+
+	/**
+	 * Returns the cell with the color of legend item.
+	 * 
+	 * @return the cell with the color of legend item
+	 */
+	TableCellElement getColorCell() {
+		return colorCell;
+	}
+
+	/**
+	 * Returns the element where the color is applied.
+	 * 
+	 * @return the element where the color is applied
+	 */
+	DivElement getColor() {
+		return color;
+	}
+
+	/**
+	 * Returns the cell with the label of legend item.
+	 * 
+	 * @return the cell with the label of legend item
+	 */
+	TableCellElement getLabelCell() {
+		return labelCell;
+	}
+
+	/**
+	 * Returns the element where the label is applied.
+	 * 
+	 * @return the element where the label is applied
+	 */
+	DivElement getLabel() {
+		return label;
+	}
+
+	/**
+	 * Checks if the color is changed, comparing the key with the last applied one.<br>
+	 * If changed, the key is stored and the styles of color elements are removed in order to apply the new color.
+	 * 
+	 * @param key key of the color to apply
+	 * @return <code>true</code> if the color must be applied
+	 */
+	boolean checkColor(String key) {
+		// checks if the color is changed
+		if (key.equals(colorKey)) {
+			return false;
+		}
+		// stores the key
+		colorKey = key;
+		// removes the styles previously applied
+		colorCell.removeAttribute(ATTRIBUTE_STYLE);
+		color.removeAttribute(ATTRIBUTE_STYLE);
+		return true;
+	}
+
+	/**
+	 * Checks if the label is changed, comparing the key with the last applied one.<br>
+	 * If changed, the key is stored and the content and styles of label elements are removed in order to apply the new label.
+	 * 
+	 * @param key key of the label to apply
+	 * @return <code>true</code> if the label must be applied
+	 */
+	boolean checkLabel(String key) {
+		// checks if the label is changed
+		if (key.equals(labelKey)) {
+			return false;
+		}
+		// stores the key
+		labelKey = key;
+		// removes the content and styles previously applied
+		labelCell.removeAttribute(ATTRIBUTE_STYLE);
+		label.removeAttribute(ATTRIBUTE_STYLE);
+		label.removeAllChildren();
+		// the text decoration for hidden item has been removed as well
+		hidden = false;
+		return true;
+	}
+
+	/**
+	 * Applies the hidden status to the label, only if changed.
+	 * 
+	 * @param hidden <code>true</code> if the legend item is hidden
+	 */
+	void setHidden(boolean hidden) {
+		// checks if the status is changed
+		if (this.hidden != hidden) {
+			// stores the status
+			this.hidden = hidden;
+			// checks if item is hidden
+			if (hidden) {
+				// if hidden, apply a specific text decoration
+				label.getStyle().setTextDecoration(TextDecoration.LINE_THROUGH);
+			} else {
+				label.getStyle().clearTextDecoration();
+			}
+		}
+	}
+
+	/**
+	 * Removes the cells of legend item from the legend.
+	 */
+	void removeFromParent() {
+		colorCell.removeFromParent();
+		labelCell.removeFromParent();
+	}
+
+}
@@ -17,8 +17,10 @@ package org.pepstock.charba.client.impl.plugins;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.pepstock.charba.client.Defaults;
 import org.pepstock.charba.client.IsChart;
@@ -43,11 +45,11 @@ import com.google.gwt.canvas.dom.client.Context2d.Repetition;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.dom.client.DivElement;
 import com.google.gwt.dom.client.Document;
+import com.google.gwt.dom.client.Element;
 import com.google.gwt.dom.client.ImageElement;
 import com.google.gwt.dom.client.SpanElement;
 import com.google.gwt.dom.client.Style.BorderStyle;
 import com.google.gwt.dom.client.Style.Display;
-import com.google.gwt.dom.client.Style.TextDecoration;
 import com.google.gwt.dom.client.Style.Unit;
 import com.google.gwt.dom.client.TableCellElement;
 import com.google.gwt.dom.client.TableElement;
@@ -55,7 +57,6 @@ import com.google.gwt.dom.client.TableRowElement;
 import com.google.gwt.safehtml.client.SafeHtmlTemplates;
 import com.google.gwt.safehtml.shared.SafeHtml;
 import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
-import com.google.gwt.user.client.ui.HasVerticalAlignment;
 
 /**
  * Legend callback implementation to override the standard HTML format of CHART.JS legend.<br>
@@ -114,8 +115,14 @@ final class HtmlLegendLabelsCallback implements LegendCallback {
 	private static final double DEFAULT_RADIUS = Defaults.get().getGlobal().getElements().getPoint().getRadius();
 	// CSS style property for horizontal alignment
 	private static final String STYLE_ALIGN = "align";
-	// CSS style property for horizontal alignment
+	// CSS style property for text direction
 	private static final String STYLE_DIRECTION = "direction";
+	// separator of the values into the keys of color and label
+	private static final char KEY_SEPARATOR = '|';
+	// type of label content when it is HTML
+	private static final char HTML_CONTENT = 'H';
+	// type of label content when it is text
+	private static final char TEXT_CONTENT = 'T';
 
 	/*
 	 * (non-Javadoc)
@@ -142,12 +149,13 @@ final class HtmlLegendLabelsCallback implements LegendCallback {
 	}
 
 	/**
-	 * Builds the legend for the passed chart using {@link TableElement} as model.
+	 * Builds the legend for the passed chart using {@link TableElement} as model.<br>
+	 * The table element is not attached to the document and it is used to generate the HTML legend.
 	 * 
 	 * @param chart chart instance related to legend to build
 	 * @return the table element instance with the complete legend
 	 */
-	private TableElement buildLegend(IsChart chart) {
+	TableElement buildLegend(IsChart chart) {
 		HtmlLegendOptions options = HtmlLegend.get().getPluginOptions().get(chart.getId());
 		// gets max columns for legend
 		int maxColumns = Math.max(1, options.getMaximumLegendColumns());
@@ -156,15 +164,9 @@ final class HtmlLegendLabelsCallback implements LegendCallback {
 		// creates table as result
 		final TableElement table = Document.get().createTableElement();
 		// retrieves the list of legend items
-		final List<LegendLabelItem> legendItems = extractLegendItems(chart);
+		final List<LegendLabelItem> legendItems = getLegendItems(chart);
 		// checks if there is any items
 		if (!legendItems.isEmpty()) {
-			// checks if legend must be created in reverse mode
-			if (legend.isReverse()) {
-				Collections.sort(legendItems, REVERSE_COMPARATOR);
-			} else {
-				Collections.sort(legendItems, COMPARATOR);
-			}
 			// resets padding and spacing
 			table.setCellPadding(0);
 			table.setCellSpacing(0);
@@ -189,16 +191,16 @@ final class HtmlLegendLabelsCallback implements LegendCallback {
 					// sets the current one
 					current = newRow;
 				}
-				// creates the element id for legend item
-				HtmlLegendId legendId = HtmlLegendId.get(chart, item);
+				// creates the elements for legend item
+				HtmlLegendItemElement element = new HtmlLegendItemElement(HtmlLegendId.get(chart, item));
 				// set legend item to html legend id
 				htmlLegendItem.setLegendItem(item);
-				// creates and adds the cell part
-				// related to color/box to design into legend
-				current.appendChild(buildColorCell(chart, legendId, htmlLegendItem));
-				// creates and adds the cell part
-				// related to label with legend item text
-				current.appendChild(buildLabelCell(chart, legendId, item, options.getLegendTextCallback()));
+				// applies color and label to the elements
+				applyColor(chart, element, htmlLegendItem);
+				applyLabel(chart, element, item, options.getLegendTextCallback());
+				// adds the cells related to color and label
+				current.appendChild(element.getColorCell());
+				current.appendChild(element.getLabelCell());
 				// increments the amount of legend item index
 				index++;
 			}
@@ -207,6 +209,150 @@ final class HtmlLegendLabelsCallback implements LegendCallback {
 		return table;
 	}
 
+	/**
+	 * Renders the legend for the passed chart into the legend element, reusing the legend already rendered.<br>
+	 * The elements of legend items are reused by dataset and data index of the legend item, patching only the changed text,
+	 * colors and hidden status, and moving them in the right row and column only if needed.
+	 * 
+	 * @param chart chart instance related to legend to render
+	 * @param legendElement DIV legend element which contains the custom HTML legend
+	 * @param elements elements of legend items already rendered, by the color cell id
+	 */
+	void renderLegend(IsChart chart, DivElement legendElement, Map<String, HtmlLegendItemElement> elements) {
+		HtmlLegendOptions options = HtmlLegend.get().getPluginOptions().get(chart.getId());
+		// gets max columns for legend
+		int maxColumns = Math.max(1, options.getMaximumLegendColumns());
+		// gets legend
+		Legend legend = chart.getOptions().getLegend();
+		// gets the legend already rendered
+		Element firstChild = legendElement.getFirstChildElement();
+		TableElement table;
+		// checks if the legend has been already rendered
+		if (firstChild == null || !TableElement.TAG.equalsIgnoreCase(firstChild.getTagName())) {
+			// removes all children of div element
+			legendElement.removeAllChildren();
+			// creates the table
+			table = Document.get().createTableElement();
+			// resets padding and spacing
+			table.setCellPadding(0);
+			table.setCellSpacing(0);
+			// adds the new legend
+			legendElement.appendChild(table);
+		} else {
+			table = firstChild.cast();
+		}
+		// patches the horizontal alignment
+		String align = legend.getAlign().getHorizontalAlignmentValue();
+		// checks if the alignment is changed
+		if (!align.equals(table.getAttribute(STYLE_ALIGN))) {
+			table.setAttribute(STYLE_ALIGN, align);
+		}
+		// retrieves the list of legend items
+		final List<LegendLabelItem> legendItems = getLegendItems(chart);
+		// elements of the rendered legend items
+		final Map<String, HtmlLegendItemElement> renderedElements = new HashMap<>();
+		// gets html legend item wrapper
+		final HtmlLegendItem htmlLegendItem = new HtmlLegendItem(chart);
+		// sets index to check the row and column of the legend item
+		int index = 0;
+		// instance of current row
+		TableRowElement current = null;
+		// scans all legend items
+		for (LegendLabelItem item : legendItems) {
+			// checks if new row must be used
+			// checking max legend items per row
+			if (index % maxColumns == 0) {
+				// gets the row to reuse by position
+				int rowIndex = index / maxColumns;
+				if (rowIndex < table.getRows().getLength()) {
+					current = table.getRows().getItem(rowIndex);
+				} else {
+					// new row
+					current = Document.get().createTRElement();
+					// appends to table
+					table.appendChild(current);
+				}
+			}
+			// creates the element id for legend item
+			HtmlLegendId legendId = HtmlLegendId.get(chart, item);
+			String key = legendId.getIdForColor();
+			// gets the elements already rendered for the legend item
+			HtmlLegendItemElement element = elements.get(key);
+			// checks if new legend item
+			if (element == null) {
+				element = new HtmlLegendItemElement(legendId);
+			}
+			renderedElements.put(key, element);
+			// set legend item to html legend id
+			htmlLegendItem.setLegendItem(item);
+			// applies color and label to the elements, only if changed
+			applyColor(chart, element, htmlLegendItem);
+			applyLabel(chart, element, item, options.getLegendTextCallback());
+			// moves the cells to the right column, only if needed
+			int cellIndex = (index % maxColumns) * 2;
+			placeCell(current, element.getColorCell(), cellIndex);
+			placeCell(current, element.getLabelCell(), cellIndex + 1);
+			// increments the amount of legend item index
+			index++;
+		}
+		// removes the elements of the legend items which are not rendered anymore
+		for (Map.Entry<String, HtmlLegendItemElement> entry : elements.entrySet()) {
+			if (!renderedElements.containsKey(entry.getKey())) {
+				entry.getValue().removeFromParent();
+			}
+		}
+		// stores the rendered elements
+		elements.clear();
+		elements.putAll(renderedElements);
+		// removes the exceeding cells of last row
+		if (current != null) {
+			int cells = ((index - 1) % maxColumns + 1) * 2;
+			while (current.getCells().getLength() > cells) {
+				current.getCells().getItem(cells).removeFromParent();
+			}
+		}
+		// removes the exceeding rows
+		int rows = (index + maxColumns - 1) / maxColumns;
+		while (table.getRows().getLength() > rows) {
+			table.getRows().getItem(rows).removeFromParent();
+		}
+	}
+
+	/**
+	 * Places the cell in the row at the passed position, only if it is not already there.
+	 * 
+	 * @param row row where the cell must be placed
+	 * @param cell cell to place
+	 * @param cellIndex position of the cell into row
+	 */
+	private void placeCell(TableRowElement row, TableCellElement cell, int cellIndex) {
+		// gets the cell currently in the position
+		TableCellElement currentCell = cellIndex < row.getCells().getLength() ? row.getCells().getItem(cellIndex) : null;
+		// checks if the cell is already in the position
+		if (currentCell != cell) {
+			// moves the cell, before the current one or at the end
+			row.insertBefore(cell, currentCell);
+		}
+	}
+
+	/**
+	 * Extracts all legend items which must be rendered into legend, sorted by dataset and data index.
+	 * 
+	 * @param chart chart instance related to legend to build
+	 * @return sorted list of legend items to render
+	 */
+	private List<LegendLabelItem> getLegendItems(IsChart chart) {
+		// retrieves the list of legend items
+		final List<LegendLabelItem> legendItems = extractLegendItems(chart);
+		// checks if legend must be created in reverse mode
+		if (chart.getOptions().getLegend().isReverse()) {
+			Collections.sort(legendItems, REVERSE_COMPARATOR);
+		} else {
+			Collections.sort(legendItems, COMPARATOR);
+		}
+		return legendItems;
+	}
+
 	/**
 	 * Extracts all legend items which must be rendered into legend.
 	 * 
@@ -253,32 +399,31 @@ final class HtmlLegendLabelsCallback implements LegendCallback {
 		return result;
 	}
 
+
 	/**
-	 * Builds a {@link TableCellElement} which should contains and represents the color of dataset.
+	 * Applies the color of legend item to the color cell, only if the color is changed.
 	 * 
 	 * @param chart chart instance related to legend to build
-	 * @param legendId element id for {@link TableCellElement}
-	 * @param item legend item to show into color cell element
-	 * @return a {@link TableCellElement} which should contains and represents the color of dataset
+	 * @param element elements of legend item where the color must be applied
+	 * @param htmlLegendItem legend item to show into color cell element
 	 */
-	private TableCellElement buildColorCell(IsChart chart, HtmlLegendId legendId, HtmlLegendItem htmlLegendItem) {
+	private void applyColor(IsChart chart, HtmlLegendItemElement element, HtmlLegendItem htmlLegendItem) {
 		// gets legend label item
 		LegendLabelItem item = htmlLegendItem.getLegendItem();
-		// result color cell
-		final TableCellElement colorCell = Document.get().createTDElement();
 		// gets legend and legend labels instances
 		Legend legend = chart.getOptions().getLegend();
 		LegendLabels legendLabels = legend.getLabels();
+		// checks if the color is changed
+		if (!element.checkColor(createColorKey(chart, item, legendLabels))) {
+			return;
+		}
+		// gets the color elements
+		final TableCellElement colorCell = element.getColorCell();
+		final DivElement color = element.getColor();
 		// styling the cell
-		colorCell.setId(legendId.getIdForColor());
-		colorCell.setVAlign(HasVerticalAlignment.ALIGN_TOP.getVerticalAlignString());
 		colorCell.getStyle().setMarginRight(legendLabels.getPadding() / 2D, Unit.PX);
 		colorCell.getStyle().setMarginBottom(legendLabels.getPadding(), Unit.PX);
 		colorCell.getStyle().setDisplay(Display.BLOCK);
-		// creates inner HTML element
-		// where to apply the color
-		DivElement color = Document.get().createDivElement();
-		colorCell.appendChild(color);
 		// calculates the border width to remove to size of color
 		// because the size of border will be added to element
 		// applying the border afterwards
@@ -304,96 +449,165 @@ final class HtmlLegendLabelsCallback implements LegendCallback {
 			// if here, it must show the legend point styles
 			applyPointStyle(chart, htmlLegendItem, color, width, height);
 		}
-		return colorCell;
 	}
 
 	/**
-	 * Builds a {@link TableCellElement} which should contains and represents the label of dataset.
+	 * Creates the key of all values which are applied to the color cell, to check if the color of legend item is changed.
 	 * 
 	 * @param chart chart instance related to legend to build
-	 * @param legendId element id for {@link TableCellElement}
 	 * @param item legend item to show into color cell element
+	 * @param legendLabels legend labels configuration
+	 * @return the key of all values which are applied to the color cell
+	 */
+	private String createColorKey(IsChart chart, LegendLabelItem item, LegendLabels legendLabels) {
+		StringBuilder builder = new StringBuilder();
+		// adds legend labels configuration
+		builder.append(legendLabels.getPadding()).append(KEY_SEPARATOR);
+		builder.append(legendLabels.getBoxWidth()).append(KEY_SEPARATOR);
+		builder.append(legendLabels.getFontSize()).append(KEY_SEPARATOR);
+		// adds border configuration
+		builder.append(item.getLineWidth()).append(KEY_SEPARATOR);
+		builder.append(item.getLineDash().isEmpty()).append(KEY_SEPARATOR);
+		// adds fill and stroke styles
+		if (item.isFillStyleAsColor()) {
+			builder.append(item.getFillStyle().toRGBA());
+		} else if (item.isFillStyleAsCanvasPattern()) {
+			// gets the pattern by legend item or by dataset
+			Pattern pattern = item.getFillStyleAsPattern();
+			pattern = pattern != null ? pattern : chart.getData().retrieveFillStyleAsPattern(item);
+			builder.append(pattern != null ? pattern.getId() : UndefinedValues.INTEGER);
+		} else if (item.isFillStyleAsCanvasGradient()) {
+			// gets the gradient by legend item or by dataset
+			Gradient gradient = item.getFillStyleAsGradient();
+			gradient = gradient != null ? gradient : chart.getData().retrieveFillStyleAsGradient(item);
+			builder.append(gradient != null ? gradient.getId() : UndefinedValues.INTEGER);
+		}
+		builder.append(KEY_SEPARATOR);
+		if (item.isStrokeStyleAsColor()) {
+			builder.append(item.getStrokeStyle().toRGBA());
+		} else if (item.isStrokeStyleAsCanvasPattern()) {
+			// gets the pattern by legend item or by dataset
+			Pattern pattern = item.getStrokeStyleAsPattern();
+			pattern = pattern != null ? pattern : chart.getData().retrieveStrokeStyleAsPattern(item);
+			builder.append(pattern != null ? pattern.getId() : UndefinedValues.INTEGER);
+		} else if (item.isStrokeStyleAsCanvasGradient()) {
+			// gets the gradient by legend item or by dataset
+			Gradient gradient = item.getStrokeStyleAsGradient();
+			gradient = gradient != null ? gradient : chart.getData().retrieveStrokeStyleAsGradient(item);
+			builder.append(gradient != null ? gradient.getId() : UndefinedValues.INTEGER);
+		}
+		builder.append(KEY_SEPARATOR);
+		// checks if must apply point style
+		if (legendLabels.isUsePointStyle()) {
+			builder.append(item.getRotation()).append(KEY_SEPARATOR);
+			// checks if point style is an image
+			if (item.isPointStyleAsImage()) {
+				builder.append(item.getPointStyleAsImage().getSrc());
+			} else {
+				builder.append(item.getPointStyle().value()).append(KEY_SEPARATOR);
+				// the radius can be set to dataset level
+				DatasetViewItem datasetViewItem = lookForDatasetMetaItem(chart, item);
+				builder.append(datasetViewItem != null ? datasetViewItem.getRadius() : DEFAULT_RADIUS);
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Applies the label of legend item to the label cell, only if the label or its hidden status are changed.
+	 * 
+	 * @param chart chart instance related to legend to build
+	 * @param element elements of legend item where the label must be applied
+	 * @param item legend item to show into label cell element
 	 * @param callback callback instance which can be implemented to change the text of legend for a specific item, as HTML
-	 * @return a {@link TableCellElement} which should contains and represents the label of dataset
 	 */
-	private TableCellElement buildLabelCell(IsChart chart, HtmlLegendId legendId, LegendLabelItem item, HtmlLegendTextCallback callback) {
-		// result label cell
-		final TableCellElement labelCell = Document.get().createTDElement();
+	private void applyLabel(IsChart chart, HtmlLegendItemElement element, LegendLabelItem item, HtmlLegendTextCallback callback) {
 		// gets legend and legend labels instances
 		Legend legend = chart.getOptions().getLegend();
 		LegendLabels legendLabels = legend.getLabels();
-		// styling the cell
-		labelCell.setId(legendId.getIdForLabel());
-		labelCell.setVAlign(HasVerticalAlignment.ALIGN_MIDDLE.getVerticalAlignString());
-		labelCell.getStyle().setPaddingRight(legendLabels.getPadding(), Unit.PX);
-		labelCell.getStyle().setPaddingBottom(legendLabels.getPadding(), Unit.PX);
-		// creates inner HTML element
-		// where to apply the label
-		DivElement label = createLabelText(chart, item, callback);
-		labelCell.appendChild(label);
-		// styling the cell with mandatory values
-		label.getStyle().setProperty(Utilities.CSS_FONT_PROPERTY, Utilities.toCSSFontProperty(legendLabels.getFontStyle(), legendLabels.getFontSize(), legendLabels.getFontFamily()));
-		label.getStyle().setColor(legendLabels.getFontColor().toRGBA());
+		// gets the values to apply
+		String font = Utilities.toCSSFontProperty(legendLabels.getFontStyle(), legendLabels.getFontSize(), legendLabels.getFontFamily());
+		String fontColor = legendLabels.getFontColor().toRGBA();
 		// checks text direction
+		String direction;
 		if (legend.isRtl() || TextDirection.RIGHT_TO_LEFT.equals(legend.getTextDirection())) {
-			label.getStyle().setProperty(STYLE_DIRECTION, TextDirection.RIGHT_TO_LEFT.value());
+			direction = TextDirection.RIGHT_TO_LEFT.value();
 		} else {
-			label.getStyle().setProperty(STYLE_DIRECTION, TextDirection.LEFT_TO_RIGHT.value());
+			direction = TextDirection.LEFT_TO_RIGHT.value();
 		}
-		// checks if item is hidden
-		if (item.isHidden()) {
-			// if hidden, apply a specific text decoration
-			label.getStyle().setTextDecoration(TextDecoration.LINE_THROUGH);
+		String content = createLabelContent(chart, item, callback);
+		// creates the key of all values
+		StringBuilder builder = new StringBuilder();
+		builder.append(legendLabels.getPadding()).append(KEY_SEPARATOR);
+		builder.append(font).append(KEY_SEPARATOR);
+		builder.append(fontColor).append(KEY_SEPARATOR);
+		builder.append(direction).append(KEY_SEPARATOR);
+		builder.append(content);
+		// checks if the label is changed
+		if (element.checkLabel(builder.toString())) {
+			// styling the cell
+			element.getLabelCell().getStyle().setPaddingRight(legendLabels.getPadding(), Unit.PX);
+			element.getLabelCell().getStyle().setPaddingBottom(legendLabels.getPadding(), Unit.PX);
+			// gets the element where to apply the label
+			DivElement label = element.getLabel();
+			applyLabelContent(label, content);
+			// styling the cell with mandatory values
+			label.getStyle().setProperty(Utilities.CSS_FONT_PROPERTY, font);
+			label.getStyle().setColor(fontColor);
+			label.getStyle().setProperty(STYLE_DIRECTION, direction);
 		}
-		return labelCell;
+		// applies the hidden status, only if changed
+		element.setHidden(item.isHidden());
 	}
 
 	/**
-	 * Builds a {@link TableCellElement} which should contains and represents the label of dataset, setting the text of the
-	 * label to apply.
+	 * Returns the content of the label, as HTML or as text, prefixed by the type of the content.
 	 * 
 	 * @param chart chart instance related to legend to build
-	 * @param item legend item to show into color cell element
+	 * @param item legend item to show into label cell element
 	 * @param callback callback instance which can be implemented to change the text of legend for a specific item, as HTML
-	 * @return a {@link TableCellElement} which should contains and represents the label of dataset, setting the text of the
-	 *         label to apply
+	 * @return the content of the label, as HTML or as text, prefixed by the type of the content
 	 */
-	private DivElement createLabelText(IsChart chart, LegendLabelItem item, HtmlLegendTextCallback callback) {
-		// result text label cell
-		final DivElement element = Document.get().createDivElement();
+	private String createLabelContent(IsChart chart, LegendLabelItem item, HtmlLegendTextCallback callback) {
 		// gets text of legend item
 		String text = item.getText();
 		// checks if the text of legend item is consistent
-		if (text != null && text.length() > 0) {
-			// checks if the text has stored as HTML
-			if (item.isHtmlText()) {
-				// gets HTML
-				SafeHtml html = item.getTextAsHtml();
-				// sets HTML into label cell
-				element.setInnerHTML(html.asString());
-			} else {
-				// invokes the method to manage the text
-				// passed as plain text
-				managePlainText(chart, item, element, text, callback);
+		if (text == null || text.length() == 0) {
+			return String.valueOf(TEXT_CONTENT);
+		}
+		// checks if the text has stored as HTML
+		if (item.isHtmlText()) {
+			return HTML_CONTENT + item.getTextAsHtml().asString();
+		}
+		// checks if the text is not breakable and there is a callback to invoke
+		if (!text.contains(Constants.LINE_SEPARATOR) && callback != null) {
+			// invokes the callback
+			SafeHtml textFromCallback = callback.generateLegendText(chart, item, text);
+			// checks result
+			if (textFromCallback != null) {
+				return HTML_CONTENT + textFromCallback.asString();
 			}
 		}
-		return element;
+		// if here, the text is set as text of HTML element
+		return TEXT_CONTENT + text;
 	}
 
 	/**
-	 * Manages the plain text of legend item, checking if to invoke a callback or split by a break point.
+	 * Applies the content of the label to the element, as HTML or as text, split by a break point.
 	 * 
-	 * @param chart chart instance related to legend to build
-	 * @param item legend item instance to represent the label
 	 * @param element HTML element where the legend text must be stored
-	 * @param text normalized text to apply
-	 * @param callback callback instance which can be implemented to change the text of legend for a specific item, as HTML
+	 * @param content content of the label, prefixed by the type of the content
 	 */
-	private void managePlainText(IsChart chart, LegendLabelItem item, DivElement element, String text, HtmlLegendTextCallback callback) {
-		// checks if the text contains a carriage return
-		if (text.contains(Constants.LINE_SEPARATOR)) {
+	private void applyLabelContent(DivElement element, String content) {
+		// gets the content without the type
+		String value = content.substring(1);
+		// checks if the content is HTML
+		if (content.charAt(0) == HTML_CONTENT) {
+			// sets HTML into label cell
+			element.setInnerHTML(value);
+		} else if (value.contains(Constants.LINE_SEPARATOR)) {
 			// splits the text
-			String[] splitText = text.split(Constants.LINE_SEPARATOR);
+			String[] splitText = value.split(Constants.LINE_SEPARATOR);
 			// scans all split text
 			for (String singleText : splitText) {
 				// if elements has got more than 0 children
@@ -405,25 +619,11 @@ final class HtmlLegendLabelsCallback implements LegendCallback {
 				// adds the split text as text element
 				element.appendChild(Document.get().createTextNode(singleText));
 			}
-		} else if (callback != null) {
-			// if here there is a callback to invoke
-			SafeHtml textFromCallback = callback.generateLegendText(chart, item, text);
-			// checks result
-			if (textFromCallback != null) {
-				// if here, it sets the result of callback
-				// as HTML
-				element.setInnerHTML(textFromCallback.asString());
-			} else {
-				// if here, the text from callback is not consistent
-				// and is not breakable
-				// then the text is set as text of HTML element
-				element.setInnerText(text);
-			}
-		} else {
+		} else if (value.length() > 0) {
 			// if here, the text has not any HTML element
 			// and is not breakable
 			// then the text is set as text of HTML element
-			element.setInnerText(text);
+			element.setInnerText(value);
 		}
 	}
 
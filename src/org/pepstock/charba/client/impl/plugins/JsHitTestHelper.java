@@ -0,0 +1,79 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.impl.plugins;
+
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.Injector;
+import org.pepstock.charba.client.resources.ResourcesType;
+
+/**
+ * This is a singleton wrapper for Java native object which is wrapping a CHARBA java script object implementation with some
+ * utilities to read the bounds of the data elements of a chart, in order to index them.<br>
+ * This wrapper is necessary to ensure that script is injected with CHART.JS.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class JsHitTestHelper {
+	// static instance for singleton
+	private static final JsHitTestHelper INSTANCE = new JsHitTestHelper();
+	// empty bounds
+	private static final double[] EMPTY_BOUNDS = new double[0];
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private JsHitTestHelper() {
+		// to be sure that CHARBA java script object is injected
+		Injector.ensureInjected(ResourcesType.getClientBundle().charbaHelper());
+	}
+
+	/**
+	 * Singleton object to get the helper instance
+	 * 
+	 * @return helper instance.
+	 */
+	static JsHitTestHelper get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the bounds (left, top, right and bottom) of the data elements of the visible datasets of the chart, as they are
+	 * at the end of the animation. The array contains 4 values for each element.
+	 * 
+	 * @param chart chart instance
+	 * @return the bounds of the data elements of the visible datasets of the chart
+	 */
+	double[] bounds(Chart chart) {
+		// checks if argument is consistent
+		if (chart != null) {
+			// creates the array by the amount of elements
+			double[] bounds = new double[NativeJsHitTestHelper.count(chart) * 4];
+			// fills the array
+			int count = NativeJsHitTestHelper.bounds(chart, bounds);
+			// checks if some elements have been skipped
+			if (count * 4 < bounds.length) {
+				double[] result = new double[count * 4];
+				System.arraycopy(bounds, 0, result, 0, result.length);
+				return result;
+			}
+			return bounds;
+		}
+		// if here, argument not consistent
+		return EMPTY_BOUNDS;
+	}
+
+}
@@ -0,0 +1,59 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.impl.plugins;
+
+import org.pepstock.charba.client.Chart;
+import org.pepstock.charba.client.commons.NativeName;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * This is a wrapper for Java native object which is wrapping a CHARBA java script object implementation with some utilities to
+ * read the bounds of the data elements of a chart, in order to index them.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+@JsType(isNative = true, name = NativeName.JS_HIT_TEST_HELPER, namespace = JsPackage.GLOBAL)
+final class NativeJsHitTestHelper {
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private NativeJsHitTestHelper() {
+		// do nothing
+	}
+
+	/**
+	 * Returns the amount of data elements of the visible datasets of the chart.
+	 * 
+	 * @param chart chart instance
+	 * @return the amount of data elements of the visible datasets of the chart
+	 */
+	static native int count(Chart chart);
+
+	/**
+	 * Copies the bounds (left, top, right and bottom) of the data elements of the visible datasets of the chart into the array
+	 * passed as argument, as they are at the end of the animation.
+	 * 
+	 * @param chart chart instance
+	 * @param bounds array to fill with 4 values for each element
+	 * @return the amount of elements stored into the array
+	 */
+	static native int bounds(Chart chart, double[] bounds);
+
+}
@@ -28,6 +28,7 @@ import org.pepstock.charba.client.events.DatasetRangeSelectionEvent;
 import org.pepstock.charba.client.impl.plugins.enums.Align;
 import org.pepstock.charba.client.impl.plugins.enums.Render;
 import org.pepstock.charba.client.items.ChartAreaNode;
+import org.pepstock.charba.client.items.ChartAreaSnapshot;
 import org.pepstock.charba.client.items.ScaleItem;
 import org.pepstock.charba.client.options.Scale;
 import org.pepstock.charba.client.utils.Utilities;
@@ -35,8 +36,8 @@ import org.pepstock.charba.client.utils.Utilities;
 import com.google.gwt.canvas.dom.client.Context2d;
 import com.google.gwt.canvas.dom.client.Context2d.TextBaseline;
 import com.google.gwt.canvas.dom.client.TextMetrics;
+import com.google.gwt.dom.client.CanvasElement;
 import com.google.gwt.dom.client.Document;
-import com.google.gwt.dom.client.ImageElement;
 import com.google.gwt.dom.client.NativeEvent;
 import com.google.gwt.dom.client.Style.Cursor;
 import com.google.gwt.event.dom.client.MouseDownEvent;
@@ -68,8 +69,8 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 	private SelectionTrack track = null;
 	// status if selected
 	private SelectionStatus status = SelectionStatus.READY;
-	// copy of chart canvas as image to apply when is drwaing into canvas
-	private ImageElement snapshot = null;
+	// offscreen copy of chart canvas to apply when is drwaing into canvas
+	private CanvasElement snapshot = null;
 	// amount of datasets items
 	private int datasetsItemsCount = 0;
 	// event handler registration
@@ -78,10 +79,15 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 	private HandlerRegistration mouseUp = null;
 	// event handler registration
 	private HandlerRegistration mouseMove = null;
+	// flag if the chart has been updated after the last snapshot
+	private boolean chartUpdated = true;
 	// previous chart area
-	private String previousChartAreaAsString = null;
-	// previous data URL chart as png
-	private String previousDataURL = null;
+	private ChartAreaSnapshot previousChartArea = null;
+	// previous generation of chart layout
+	private int previousLayoutGeneration = Integer.MIN_VALUE;
+	// previous size of canvas
+	private int previousCanvasWidth = Integer.MIN_VALUE;
+	private int previousCanvasHeight = Integer.MIN_VALUE;
 	// flag if do not send any event after refresh
 	private boolean skipNextFireEvent = false;
 	// cursor before hover the clear selection
@@ -275,19 +281,39 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 	}
 
 	/**
-	 * Returns the image which is snapshot of chart.
+	 * Returns the offscreen canvas which is snapshot of chart.
 	 * 
 	 * @return the snapshot
 	 */
-	ImageElement getSnapshot() {
+	CanvasElement getSnapshot() {
 		return snapshot;
 	}
 
 	/**
-	 * @param snapshot the snapshot to set
+	 * Copies the current content of chart canvas into the offscreen canvas which is the snapshot of chart.<br>
+	 * The offscreen canvas is created at first invocation and then reused.
 	 */
-	void setSnapshot(ImageElement snapshot) {
-		this.snapshot = snapshot;
+	void updateSnapshot() {
+		// gets the canvas of chart
+		CanvasElement canvas = chart.getCanvas().getCanvasElement();
+		// checks if the offscreen canvas is already created
+		if (snapshot == null) {
+			// creates the offscreen canvas
+			snapshot = Document.get().createCanvasElement();
+		}
+		// sets the size of offscreen canvas, same of chart canvas
+		// changing the size, the offscreen canvas is cleared as well
+		snapshot.setWidth(canvas.getWidth());
+		snapshot.setHeight(canvas.getHeight());
+		// copies the chart canvas
+		snapshot.getContext2d().drawImage(canvas, 0, 0);
+	}
+
+	/**
+	 * Marks the chart as updated in order to refresh the snapshot of chart at next drawing.
+	 */
+	void setChartUpdated() {
+		this.chartUpdated = true;
 	}
 
 	/**
@@ -635,39 +661,38 @@ final class SelectionHandler implements MouseDownHandler, MouseUpHandler, MouseM
 	 * Checks if the chart is changed.<br>
 	 * It checks:<br>
 	 * <ul>
-	 * <li>the dimension of chart
-	 * <li>data image of chart
+	 * <li>if the chart has been updated (data or options changed)
+	 * <li>the dimension of chart area
+	 * <li>the dimension of canvas
 	 * </ul>
 	 * 
-	 * @param dataUrl data image for chart
 	 * @return <code>true</code> if chart is changed, otherwise <code>false</code>.
 	 */
-	boolean isChartChanged(String dataUrl) {
-		// gets the chart area in json format
-		String chartAreaAsString = chart.getNode().getChartArea().toString();
-		// checks if previous values are null (first round)
-		if (previousDataURL == null && previousChartAreaAsString == null) {
-			// saves the current data image and dimensions of chart
-			previousDataURL = dataUrl;
-			previousChartAreaAsString = chartAreaAsString;
-			return true;
-		}
-		// checks if dimension of chart is changed
-		if (!chartAreaAsString.equalsIgnoreCase(previousChartAreaAsString)) {
-			// saves the current data image and dimensions of chart
-			previousDataURL = dataUrl;
-			previousChartAreaAsString = chartAreaAsString;
-			return true;
-		}
-		// checks if data image of chart is changed
-		if (!dataUrl.equalsIgnoreCase(previousDataURL)) {
-			// saves the current data image and dimensions of chart
-			previousDataURL = dataUrl;
-			previousChartAreaAsString = chartAreaAsString;
-			return true;
+	boolean isChartChanged() {
+		// gets the generation of chart layout
+		int layoutGeneration = chart.getLayoutGeneration();
+		// gets the chart area only if a new layout has been computed
+		// or if the chart is not tracking the layout updates
+		// otherwise the chart area can not be changed
+		boolean layoutChanged = layoutGeneration == IsChart.UNKNOWN_LAYOUT_GENERATION || layoutGeneration != previousLayoutGeneration;
+		ChartAreaSnapshot chartArea = previousChartArea == null || layoutChanged ? chart.getNode().getChartArea().snapshot() : previousChartArea;
+		// stores the generation of chart layout
+		previousLayoutGeneration = layoutGeneration;
+		// gets the canvas of chart
+		CanvasElement canvas = chart.getCanvas().getCanvasElement();
+		// checks if chart has been updated
+		// or if dimension of chart area or canvas is changed
+		boolean changed = chartUpdated || !chartArea.equals(previousChartArea) || canvas.getWidth() != previousCanvasWidth || canvas.getHeight() != previousCanvasHeight;
+		// checks if changed
+		if (changed) {
+			// saves the current dimensions of chart
+			previousChartArea = chartArea;
+			previousCanvasWidth = canvas.getWidth();
+			previousCanvasHeight = canvas.getHeight();
+			// resets the flag
+			chartUpdated = false;
 		}
-		// if here the chart is NOT changed
-		return false;
+		return changed;
 	}
 
 	// -----------------------------------------
@@ -45,6 +45,20 @@ public final class ChartAreaNode extends BaseBoxItem {
 		return has(BaseBoxItem.Property.TOP, BaseBoxItem.Property.RIGHT, BaseBoxItem.Property.BOTTOM, BaseBoxItem.Property.LEFT);
 	}
 
+	/**
+	 * Returns an immutable copy of the current values of chart area, to use to check if the chart area has been changed.
+	 * 
+	 * @return an immutable copy of the current values of chart area
+	 */
+	public ChartAreaSnapshot snapshot() {
+		// reads the values as double, without any rounding
+		double top = getValue(BaseBoxItem.Property.TOP, UndefinedValues.DOUBLE);
+		double right = getValue(BaseBoxItem.Property.RIGHT, UndefinedValues.DOUBLE);
+		double bottom = getValue(BaseBoxItem.Property.BOTTOM, UndefinedValues.DOUBLE);
+		double left = getValue(BaseBoxItem.Property.LEFT, UndefinedValues.DOUBLE);
+		return new ChartAreaSnapshot(top, right, bottom, left);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -0,0 +1,122 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.items;
+
+/**
+ * Immutable copy of the values of a {@link ChartAreaNode}, taken at a specific moment.<br>
+ * It can be stored and compared with another snapshot in order to check if the chart area has been changed, without accessing
+ * to the native object.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public final class ChartAreaSnapshot {
+
+	private final double top;
+
+	private final double right;
+
+	private final double bottom;
+
+	private final double left;
+
+	/**
+	 * Creates the snapshot with the values of chart area.
+	 * 
+	 * @param top the top of chart area
+	 * @param right the right of chart area
+	 * @param bottom the bottom of chart area
+	 * @param left the left of chart area
+	 */
+	ChartAreaSnapshot(double top, double right, double bottom, double left) {
+		this.top = top;
+		this.right = right;
+		this.bottom = bottom;
+		this.left = left;
+	}
+
+	/**
+	 * Returns the top of chart area.
+	 * 
+	 * @return the top of chart area. Default is {@link UndefinedValues#DOUBLE}.
+	 */
+	public double getTop() {
+		return top;
+	}
+
+	/**
+	 * Returns the right of chart area.
+	 * 
+	 * @return the right of chart area. Default is {@link UndefinedValues#DOUBLE}.
+	 */
+	public double getRight() {
+		return right;
+	}
+
+	/**
+	 * Returns the bottom of chart area.
+	 * 
+	 * @return the bottom of chart area. Default is {@link UndefinedValues#DOUBLE}.
+	 */
+	public double getBottom() {
+		return bottom;
+	}
+
+	/**
+	 * Returns the left of chart area.
+	 * 
+	 * @return the left of chart area. Default is {@link UndefinedValues#DOUBLE}.
+	 */
+	public double getLeft() {
+		return left;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + Double.hashCode(top);
+		result = prime * result + Double.hashCode(right);
+		result = prime * result + Double.hashCode(bottom);
+		result = prime * result + Double.hashCode(left);
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		// checks if the same instance
+		if (this == obj) {
+			return true;
+		}
+		// checks if the same class
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		ChartAreaSnapshot other = (ChartAreaSnapshot) obj;
+		// compares all values
+		return Double.compare(top, other.top) == 0 && Double.compare(right, other.right) == 0 && Double.compare(bottom, other.bottom) == 0 && Double.compare(left, other.left) == 0;
+	}
+
+}
@@ -21,7 +21,9 @@ import org.pepstock.charba.client.commons.NativeObjectContainer;
 
 /**
  * This is a wrapper of java script object which represents a dataset.<br>
- * This object is used in the plugins methods of CHART.JS.
+ * This object is used in the plugins methods of CHART.JS.<br>
+ * The instance passed to the plugins hooks is reused for every invocation and it is valid only during the hook invocation. Use
+ * {@link #copy()} to retain it.
  * 
  * @author Andrea "Stock" Stocchero
  */
@@ -60,8 +62,8 @@ public final class DatasetPluginItem extends NativeObjectContainer {
 
 	}
 
-	// meta data reference
-	private final DatasetMetaItem meta;
+	// meta data reference, created lazily
+	private DatasetMetaItem meta = null;
 
 	/**
 	 * Creates the item using a native java script object which contains all properties.
@@ -70,9 +72,26 @@ public final class DatasetPluginItem extends NativeObjectContainer {
 	 */
 	public DatasetPluginItem(NativeObject nativeObject) {
 		super(nativeObject);
-		// checks if meta data are present
-		// creating it or setting an empty object
-		meta = has(Property.META) ? new DatasetMetaItem(getValue(Property.META)) : new DatasetMetaItem();
+	}
+
+	/**
+	 * Wraps another native object, reusing this instance.
+	 * 
+	 * @param nativeObject native object to be wrapped
+	 */
+	void reuse(NativeObject nativeObject) {
+		replaceNativeObject(nativeObject);
+		// resets the meta data of previous object
+		meta = null;
+	}
+
+	/**
+	 * Returns a new item wrapping the same native object, which can be retained after the plugin hook invocation.
+	 * 
+	 * @return a new item wrapping the same native object
+	 */
+	public DatasetPluginItem copy() {
+		return new DatasetPluginItem(getNativeObject());
 	}
 
 	/**
@@ -99,6 +118,12 @@ public final class DatasetPluginItem extends NativeObjectContainer {
 	 * @return the dataset meta data item.
 	 */
 	public DatasetMetaItem getMeta() {
+		// checks if meta data are already created
+		if (meta == null) {
+			// checks if meta data are present
+			// creating it or setting an empty object
+			meta = has(Property.META) ? new DatasetMetaItem(getValue(Property.META)) : new DatasetMetaItem();
+		}
 		return meta;
 	}
 }
\ No newline at end of file
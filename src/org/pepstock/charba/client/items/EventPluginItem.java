@@ -22,7 +22,9 @@ import org.pepstock.charba.client.events.ChartNativeEvent;
 
 /**
  * This is a wrapper of java script object which represents a event.<br>
- * This object is used in the plugins methods of CHART.JS.
+ * This object is used in the plugins methods of CHART.JS.<br>
+ * The instance passed to the plugins hooks is reused for every invocation and it is valid only during the hook invocation. Use
+ * {@link #copy()} to retain it.
  * 
  * @author Andrea "Stock" Stocchero
  */
@@ -74,6 +76,24 @@ public final class EventPluginItem extends NativeObjectContainer {
 		super(nativeObject);
 	}
 
+	/**
+	 * Wraps another native object, reusing this instance.
+	 * 
+	 * @param nativeObject native object to be wrapped
+	 */
+	void reuse(NativeObject nativeObject) {
+		replaceNativeObject(nativeObject);
+	}
+
+	/**
+	 * Returns a new item wrapping the same native object, which can be retained after the plugin hook invocation.
+	 * 
+	 * @return a new item wrapping the same native object
+	 */
+	public EventPluginItem copy() {
+		return new EventPluginItem(getNativeObject());
+	}
+
 	/**
 	 * Returns the native event into the CHART.JS event.
 	 * 
@@ -99,4 +99,22 @@ final class JsItemsHelper {
 		return null;
 	}
 
+	/**
+	 * Returns <code>true</code> if the content of the tooltip models, the text of title, body and footer, the label colors and
+	 * the display of colors, is the same.<br>
+	 * The colors are compared by value when they are strings and by instance when they are gradients or patterns.
+	 * 
+	 * @param model tooltip model to check
+	 * @param previous tooltip model of the previous update
+	 * @return <code>true</code> if the content of the tooltip models is the same
+	 */
+	boolean sameTooltipContent(NativeObject model, NativeObject previous) {
+		// checks consistency of arguments
+		if (model != null && previous != null) {
+			return NativeJsItemsHelper.sameTooltipContent(model, previous);
+		}
+		// if here, arguments not consistent
+		return false;
+	}
+
 }
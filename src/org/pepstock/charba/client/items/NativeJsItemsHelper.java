@@ -68,4 +68,16 @@ final class NativeJsItemsHelper {
 	 */
 	static native ChartNativeEvent nativeEvent(NativeObject event, String key);
 
+	/**
+	 * Returns <code>true</code> if the content of the tooltip models, the text of title, body and footer, the label colors and
+	 * the display of colors, is the same.<br>
+	 * The colors are compared by value when they are strings and by instance when they are {@link CanvasGradient} or
+	 * {@link CanvasPattern}.
+	 * 
+	 * @param model tooltip model to check
+	 * @param previous tooltip model of the previous update
+	 * @return <code>true</code> if the content of the tooltip models is the same
+	 */
+	static native boolean sameTooltipContent(NativeObject model, NativeObject previous);
+
 }
@@ -0,0 +1,85 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.items;
+
+import org.pepstock.charba.client.commons.NativeObject;
+
+/**
+ * Container of the items passed to the plugins hooks, which are reused for every invocation, wrapping the native object passed
+ * by CHART.JS, in order to avoid to create a new wrapper for every invocation.<br>
+ * The items are valid only during the hook invocation. To retain them, the <code>copy</code> method of the items must be used.
+ * <br>
+ * The dataset items passed to the update hooks and to the draw hooks are different instances, because a chart update can be
+ * requested during the drawing.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public final class ReusablePluginItems {
+
+	// dataset item for update hooks
+	private final DatasetPluginItem datasetUpdateItem = new DatasetPluginItem(null);
+	// dataset item for draw hooks
+	private final DatasetPluginItem datasetDrawItem = new DatasetPluginItem(null);
+	// tooltip item for draw hooks
+	private final TooltipPluginItem tooltipItem = new TooltipPluginItem(null);
+	// event item for event hooks
+	private final EventPluginItem eventItem = new EventPluginItem(null);
+
+	/**
+	 * Returns the dataset item to pass to the dataset update hooks, wrapping the passed native object.
+	 * 
+	 * @param nativeObject native object passed by CHART.JS
+	 * @return the dataset item, wrapping the passed native object
+	 */
+	public DatasetPluginItem getDatasetUpdateItem(NativeObject nativeObject) {
+		datasetUpdateItem.reuse(nativeObject);
+		return datasetUpdateItem;
+	}
+
+	/**
+	 * Returns the dataset item to pass to the dataset draw hooks, wrapping the passed native object.
+	 * 
+	 * @param nativeObject native object passed by CHART.JS
+	 * @return the dataset item, wrapping the passed native object
+	 */
+	public DatasetPluginItem getDatasetDrawItem(NativeObject nativeObject) {
+		datasetDrawItem.reuse(nativeObject);
+		return datasetDrawItem;
+	}
+
+	/**
+	 * Returns the tooltip item to pass to the tooltip draw hooks, wrapping the passed native object.
+	 * 
+	 * @param nativeObject native object passed by CHART.JS
+	 * @return the tooltip item, wrapping the passed native object
+	 */
+	public TooltipPluginItem getTooltipItem(NativeObject nativeObject) {
+		tooltipItem.reuse(nativeObject);
+		return tooltipItem;
+	}
+
+	/**
+	 * Returns the event item to pass to the event hooks, wrapping the passed native object.
+	 * 
+	 * @param nativeObject native object passed by CHART.JS
+	 * @return the event item, wrapping the passed native object
+	 */
+	public EventPluginItem getEventItem(NativeObject nativeObject) {
+		eventItem.reuse(nativeObject);
+		return eventItem;
+	}
+
+}
@@ -634,4 +634,22 @@ public final class TooltipModel extends NativeObjectContainer {
 		return getValue(Property.DISPLAY_COLORS, Defaults.get().getGlobal().getTooltips().isDisplayColors());
 	}
 
+	/**
+	 * Returns <code>true</code> if the content of the tooltip, the text of title, body and footer, the label colors and the
+	 * display of colors, is the same of the passed tooltip model, in order to check if the content is changed between 2 tooltip
+	 * updates without creating the lists of every section.<br>
+	 * The label colors are compared by value when they are strings and by instance when they are gradients or patterns.
+	 * 
+	 * @param model tooltip model of the previous update
+	 * @return <code>true</code> if the content of the tooltip is the same of the passed tooltip model
+	 */
+	public boolean isSameContent(TooltipModel model) {
+		// checks if the model is consistent
+		if (model == null) {
+			return false;
+		}
+		// compares the native objects
+		return JsItemsHelper.get().sameTooltipContent(getNativeObject(), model.getNativeObject());
+	}
+
 }
\ No newline at end of file
@@ -28,7 +28,10 @@ import org.pepstock.charba.client.commons.NativeObjectContainer;
  */
 public final class TooltipNode extends NativeObjectContainer {
 
-	private final TooltipModel model;
+	// native object of the model, replaced by CHART.JS at every tooltip update
+	private NativeObject modelObject = null;
+	// model wrapping the current native object
+	private TooltipModel model = null;
 
 	/**
 	 * Name of properties of native object.
@@ -68,16 +71,24 @@ public final class TooltipNode extends NativeObjectContainer {
 	 */
 	public TooltipNode(NativeObject nativeObject) {
 		super(nativeObject);
-		// creates sub element
-		model = new TooltipModel(getValue(Property.MODEL));
 	}
 
 	/**
-	 * Returns the tooltip model
+	 * Returns the tooltip model.<br>
+	 * The model is read every time from the tooltip node because CHART.JS replaces it at every tooltip update, without any
+	 * update of the chart.
 	 * 
 	 * @return the model
 	 */
 	public TooltipModel getModel() {
+		// gets the current native model
+		NativeObject current = getValue(Property.MODEL);
+		// checks if the model has been replaced
+		if (model == null || current != modelObject) {
+			// creates sub element
+			modelObject = current;
+			model = new TooltipModel(current);
+		}
 		return model;
 	}
 
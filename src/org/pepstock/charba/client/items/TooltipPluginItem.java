@@ -22,7 +22,9 @@ import org.pepstock.charba.client.commons.NativeObjectContainer;
 /**
  * Contains all info for every item of tooltip.<br>
  * Created and passed by CHART.JS.<br>
- * It uses into the PLUGINS.
+ * It uses into the PLUGINS.<br>
+ * The instance passed to the plugins hooks is reused for every invocation and it is valid only during the hook invocation. Use
+ * {@link #copy()} to retain it.
  * 
  * @author Andrea "Stock" Stocchero
  */
@@ -60,7 +62,8 @@ public final class TooltipPluginItem extends NativeObjectContainer {
 
 	}
 
-	private final TooltipNode node;
+	// tooltip node, created lazily
+	private TooltipNode node = null;
 
 	/**
 	 * Creates the item using a native java script object which contains all properties.
@@ -69,8 +72,26 @@ public final class TooltipPluginItem extends NativeObjectContainer {
 	 */
 	public TooltipPluginItem(NativeObject nativeObject) {
 		super(nativeObject);
-		// creates sub element
-		node = new TooltipNode(getValue(Property.TOOLTIP));
+	}
+
+	/**
+	 * Wraps another native object, reusing this instance.
+	 * 
+	 * @param nativeObject native object to be wrapped
+	 */
+	void reuse(NativeObject nativeObject) {
+		replaceNativeObject(nativeObject);
+		// resets the sub element of previous object
+		node = null;
+	}
+
+	/**
+	 * Returns a new item wrapping the same native object, which can be retained after the plugin hook invocation.
+	 * 
+	 * @return a new item wrapping the same native object
+	 */
+	public TooltipPluginItem copy() {
+		return new TooltipPluginItem(getNativeObject());
 	}
 
 	/**
@@ -88,6 +109,11 @@ public final class TooltipPluginItem extends NativeObjectContainer {
 	 * @return the tooltip model.
 	 */
 	public TooltipNode getTooltip() {
+		// checks if sub element is already created
+		if (node == null) {
+			// creates sub element
+			node = new TooltipNode(getValue(Property.TOOLTIP));
+		}
 		return node;
 	}
 }
\ No newline at end of file
@@ -18,9 +18,15 @@ package org.pepstock.charba.client.labels;
 import org.pepstock.charba.client.Defaults;
 import org.pepstock.charba.client.Injector;
 import org.pepstock.charba.client.labels.LabelsOptionsFactory.LabelsDefaultsOptionsFactory;
+import org.pepstock.charba.client.resources.DeferredExtensions;
+import org.pepstock.charba.client.resources.DeferredExtensionsLoader;
 import org.pepstock.charba.client.resources.Extensions;
+import org.pepstock.charba.client.resources.ResourceLoadException;
 import org.pepstock.charba.client.resources.ResourcesType;
 
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
+
 /**
  * Entry point of <a href="https://github.com/emn178/chartjs-plugin-labels">LABELS plugin</a> with some static utilities to
  * enable it and to get and set options.
@@ -70,4 +76,72 @@ public final class LabelsPlugin {
 		Defaults.get().getPlugins().setEnabledAllCharts(ID, enableToAllCharts);
 
 	}
+
+	/**
+	 * Inject the plugin in async mode but disables into all charts waiting for the specific statement for each chart.<br>
+	 * The plugin code is loaded on demand, inside a GWT split point, and the callback is invoked when the plugin is ready to be
+	 * used.
+	 * 
+	 * @param callback the callback to invoke when the plugin has been injected
+	 */
+	public static void enable(Runnable callback) {
+		enable(false, callback);
+	}
+
+	/**
+	 * Inject the plugin in async mode and by the argument decides to enable the plugin to all charts or not.<br>
+	 * The plugin code is loaded on demand, inside a GWT split point, and the callback is invoked when the plugin is ready to be
+	 * used.
+	 * 
+	 * @param enableToAllCharts by <code>true</code> the plugin will be enabled to all charts, otherwise <code>false</code>.
+	 * @param callback the callback to invoke when the plugin has been injected
+	 */
+	public static void enable(final boolean enableToAllCharts, final Runnable callback) {
+		// checks if the callback is consistent
+		if (callback == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Callback argument is null");
+		}
+		// Inject Chart.js if not already loaded
+		Injector.ensureInjected(ResourcesType.getClientBundle().chartJs());
+		// split point to load the plugin on demand
+		GWT.runAsync(LabelsPlugin.class, new RunAsyncCallback() {
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see com.google.gwt.core.client.RunAsyncCallback#onFailure(java.lang.Throwable)
+			 */
+			@Override
+			public void onFailure(Throwable reason) {
+				throw new ResourceLoadException("Unable to load LABELS plugin code", reason);
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see com.google.gwt.core.client.RunAsyncCallback#onSuccess()
+			 */
+			@Override
+			public void onSuccess() {
+				// injects LABELS plugin in async
+				DeferredExtensionsLoader.load(new Runnable() {
+
+					/*
+					 * (non-Javadoc)
+					 * 
+					 * @see java.lang.Runnable#run()
+					 */
+					@Override
+					public void run() {
+						// set the enabling to all charts at global level
+						Defaults.get().getPlugins().setEnabledAllCharts(ID, enableToAllCharts);
+						// executes the callback
+						callback.run();
+					}
+				}, DeferredExtensions.Labels.INSTANCE.labelsPlugin());
+			}
+		});
+	}
+
 }
@@ -119,6 +119,19 @@ abstract class AbstractModel<P extends AbstractModel<?, ?>, D> extends NativeObj
 		return defaultValues;
 	}
 
+	/**
+	 * Propagates the change to the parent element, in order that the version of the root element is incremented every time
+	 * any element of the tree is changed.
+	 */
+	@Override
+	protected final void onChange() {
+		// checks if we are at root element
+		if (parent != null) {
+			// increments the version of parent
+			parent.incrementVersion();
+		}
+	}
+
 	/**
 	 * Adds a proxy function (for events) to a model at the specific key.
 	 * 
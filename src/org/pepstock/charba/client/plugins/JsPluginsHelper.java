@@ -0,0 +1,63 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.plugins;
+
+import org.pepstock.charba.client.Injector;
+import org.pepstock.charba.client.commons.Key;
+import org.pepstock.charba.client.resources.ResourcesType;
+
+/**
+ * This is a singleton wrapper for Java native object which is wrapping a CHARBA java script object implementation with some
+ * utilities to act on java script objects for CHARBA plugins.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+final class JsPluginsHelper {
+	// static instance for singleton
+	private static final JsPluginsHelper INSTANCE = new JsPluginsHelper();
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private JsPluginsHelper() {
+		// to be sure that CHARBA java script object is injected
+		Injector.ensureInjected(ResourcesType.getClientBundle().charbaHelper());
+	}
+
+	/**
+	 * Singleton object to get the helper instance
+	 * 
+	 * @return helper instance.
+	 */
+	static JsPluginsHelper get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Unsubscribes a plugin from a hook, in order that CHART.JS will not invoke it.
+	 * 
+	 * @param plugin native plugin instance
+	 * @param hook the hook to unsubscribe
+	 */
+	void unsubscribe(NativePlugin plugin, Key hook) {
+		// checks consistency of arguments
+		if (plugin != null && Key.isValid(hook)) {
+			NativeJsPluginsHelper.unsubscribe(plugin, hook.value());
+		}
+	}
+
+}
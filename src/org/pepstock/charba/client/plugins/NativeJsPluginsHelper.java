@@ -0,0 +1,48 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.plugins;
+
+import org.pepstock.charba.client.commons.NativeName;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * Java native object which is wrapping a CHARBA java script object implementation with some utilities to act on java script
+ * objects for CHARBA plugins.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+@JsType(isNative = true, name = NativeName.JS_PLUGINS_HELPER, namespace = JsPackage.GLOBAL)
+final class NativeJsPluginsHelper {
+
+	/**
+	 * To avoid any instantiation
+	 */
+	NativeJsPluginsHelper() {
+		// do nothing
+	}
+
+	/**
+	 * Unsubscribes a plugin from a hook, setting the hook property of the plugin instance to <code>undefined</code>.<br>
+	 * In this way the method of the plugin prototype is hidden and CHART.JS will not invoke it.
+	 * 
+	 * @param plugin native plugin instance
+	 * @param hook name of the hook to unsubscribe
+	 */
+	static native void unsubscribe(NativePlugin plugin, String hook);
+
+}
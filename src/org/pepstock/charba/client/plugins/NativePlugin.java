@@ -15,12 +15,13 @@
 */
 package org.pepstock.charba.client.plugins;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.pepstock.charba.client.Chart;
 import org.pepstock.charba.client.commons.NativeObject;
-import org.pepstock.charba.client.items.DatasetPluginItem;
-import org.pepstock.charba.client.items.EventPluginItem;
+import org.pepstock.charba.client.items.ReusablePluginItems;
 import org.pepstock.charba.client.items.SizeItem;
-import org.pepstock.charba.client.items.TooltipPluginItem;
 
 import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsProperty;
@@ -38,6 +39,9 @@ final class NativePlugin {
 	// this property is not mapped like the exported object
 	// of JSINTEROP but it maintains the GWT standard
 	private final WrapperPlugin wrapper;
+	// items passed to the plugin hooks, reused for every invocation on the same chart
+	// K = charba chart id, V = items of the chart
+	private final Map<String, ReusablePluginItems> itemsMap = new HashMap<>();
 
 	/**
 	 * Creates the object by the plugin wrapper.
@@ -186,7 +190,7 @@ final class NativePlugin {
 	 */
 	@JsMethod
 	public boolean beforeDatasetUpdate(Chart chart, NativeObject item, Object options) {
-		return wrapper.onBeforeDatasetUpdate(chart.getChart(), new DatasetPluginItem(item));
+		return wrapper.onBeforeDatasetUpdate(chart.getChart(), getItems(chart).getDatasetUpdateItem(item));
 	}
 
 	/**
@@ -199,7 +203,7 @@ final class NativePlugin {
 	 */
 	@JsMethod
 	public void afterDatasetUpdate(Chart chart, NativeObject item, Object options) {
-		wrapper.onAfterDatasetUpdate(chart.getChart(), new DatasetPluginItem(item));
+		wrapper.onAfterDatasetUpdate(chart.getChart(), getItems(chart).getDatasetUpdateItem(item));
 	}
 
 	/**
@@ -293,7 +297,7 @@ final class NativePlugin {
 	 */
 	@JsMethod
 	public boolean beforeDatasetDraw(Chart chart, NativeObject item, Object options) {
-		return wrapper.onBeforeDatasetDraw(chart.getChart(), new DatasetPluginItem(item));
+		return wrapper.onBeforeDatasetDraw(chart.getChart(), getItems(chart).getDatasetDrawItem(item));
 	}
 
 	/**
@@ -307,7 +311,7 @@ final class NativePlugin {
 	 */
 	@JsMethod
 	public void afterDatasetDraw(Chart chart, NativeObject item, Object options) {
-		wrapper.onAfterDatasetDraw(chart.getChart(), new DatasetPluginItem(item));
+		wrapper.onAfterDatasetDraw(chart.getChart(), getItems(chart).getDatasetDrawItem(item));
 	}
 
 	/**
@@ -322,7 +326,7 @@ final class NativePlugin {
 	 */
 	@JsMethod
 	public boolean beforeTooltipDraw(Chart chart, NativeObject item, Object options) {
-		return wrapper.onBeforeTooltipDraw(chart.getChart(), new TooltipPluginItem(item));
+		return wrapper.onBeforeTooltipDraw(chart.getChart(), getItems(chart).getTooltipItem(item));
 	}
 
 	/**
@@ -336,7 +340,7 @@ final class NativePlugin {
 	 */
 	@JsMethod
 	public void afterTooltipDraw(Chart chart, NativeObject item, Object options) {
-		wrapper.onAfterTooltipDraw(chart.getChart(), new TooltipPluginItem(item));
+		wrapper.onAfterTooltipDraw(chart.getChart(), getItems(chart).getTooltipItem(item));
 	}
 
 	/**
@@ -349,7 +353,7 @@ final class NativePlugin {
 	 */
 	@JsMethod
 	public boolean beforeEvent(Chart chart, NativeObject item, Object options) {
-		return wrapper.onBeforeEvent(chart.getChart(), new EventPluginItem(item));
+		return wrapper.onBeforeEvent(chart.getChart(), getItems(chart).getEventItem(item));
 	}
 
 	/**
@@ -362,7 +366,7 @@ final class NativePlugin {
 	 */
 	@JsMethod
 	public void afterEvent(Chart chart, NativeObject item, Object options) {
-		wrapper.onAfterEvent(chart.getChart(), new EventPluginItem(item));
+		wrapper.onAfterEvent(chart.getChart(), getItems(chart).getEventItem(item));
 	}
 
 	/**
@@ -386,6 +390,32 @@ final class NativePlugin {
 	@JsMethod
 	public void destroy(Chart chart, Object options) {
 		wrapper.onDestroy(chart.getChart());
+		// removes the items of the chart
+		itemsMap.remove(chart.getCharbaId());
+	}
+
+	/**
+	 * Returns the items passed to the plugin hooks, reused for every invocation on the passed chart.<br>
+	 * The items are stored by chart because the same plugin instance can be invoked by different charts during the
+	 * invocation of a hook.
+	 * 
+	 * @param chart The chart instance.
+	 * @return the items passed to the plugin hooks for the passed chart
+	 */
+	private ReusablePluginItems getItems(Chart chart) {
+		// gets the charba id
+		String charbaId = chart.getCharbaId();
+		// checks if the chart id is consistent
+		if (charbaId == null) {
+			// if not, returns new items, not reused
+			return new ReusablePluginItems();
+		}
+		// checks if the items are already stored
+		if (!itemsMap.containsKey(charbaId)) {
+			// if not, creates and stores the items
+			itemsMap.put(charbaId, new ReusablePluginItems());
+		}
+		return itemsMap.get(charbaId);
 	}
 
 }
@@ -15,9 +15,12 @@
 */
 package org.pepstock.charba.client.plugins;
 
+import java.util.Set;
+
 import org.pepstock.charba.client.Chart;
 import org.pepstock.charba.client.IsChart;
 import org.pepstock.charba.client.Plugin;
+import org.pepstock.charba.client.enums.PluginHook;
 import org.pepstock.charba.client.items.DatasetPluginItem;
 import org.pepstock.charba.client.items.EventPluginItem;
 import org.pepstock.charba.client.items.SizeItem;
@@ -25,7 +28,10 @@ import org.pepstock.charba.client.items.TooltipPluginItem;
 
 /**
  * Wraps a plugin, delegating the execution of all hooks to it.<br>
- * The wrapper is mandatory to able to catch all hooks of chart even if the plugin implements just a part of the hooks.
+ * The wrapper is mandatory to able to catch all hooks of chart even if the plugin implements just a part of the hooks.<br>
+ * The hooks which are not returned by {@link Plugin#getHooks()} are unsubscribed from the native object, in order that CHART.JS
+ * does not invoke them, except for the destroy hook which is always subscribed, in order to clean up the status maintained by
+ * the native object for the chart, and which is delegated to the plugin only if subscribed.
  * 
  * @author Andrea "Stock" Stocchero
  *
@@ -35,6 +41,8 @@ final class WrapperPlugin {
 	private final Plugin delegation;
 	// native object which will be added to chart.js
 	private final NativePlugin nativeObject;
+	// flag if the plugin has subscribed the destroy hook
+	private final boolean destroySubscribed;
 
 	/**
 	 * Builds the object with plugin instance
@@ -47,6 +55,23 @@ final class WrapperPlugin {
 		// sets the plugin ID
 		nativeObject = new NativePlugin(this);
 		nativeObject.setId(delegation.getId());
+		// gets the hooks implemented by plugin
+		Set<PluginHook> hooks = delegation.getHooks();
+		// checks if the plugin has subscribed the destroy hook
+		destroySubscribed = hooks == null || hooks.contains(PluginHook.DESTROY);
+		// checks if the plugin has subscribed a subset of hooks
+		if (hooks != null) {
+			// scans all hooks
+			for (PluginHook hook : PluginHook.values()) {
+				// checks if the hook has not been subscribed
+				// the destroy hook is always needed by native object
+				if (!hooks.contains(hook) && !PluginHook.DESTROY.equals(hook)) {
+					// removes the hook from native object
+					// in order that CHART.JS will not invoke it
+					JsPluginsHelper.get().unsubscribe(nativeObject, hook);
+				}
+			}
+		}
 	}
 
 	/**
@@ -419,8 +444,8 @@ final class WrapperPlugin {
 	 * @param chartId chart id.
 	 */
 	void onDestroy(IsChart chart) {
-		// if consistent, calls plugin
-		if (IsChart.isValid(chart)) {
+		// if consistent and subscribed, calls plugin
+		if (destroySubscribed && IsChart.isValid(chart)) {
 			delegation.onDestroy(chart);
 		}
 	}
@@ -0,0 +1,144 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.resources;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.resources.client.ClientBundle;
+import com.google.gwt.resources.client.ExternalTextResource;
+
+/**
+ * Client bundles to reference CHART.JS plugins or extensions, wrapped by Charba, in async mode.<br>
+ * Unlike {@link Extensions}, the code of the extensions is not embedded into the initial download of the GWT application but
+ * it is fetched only when an extension is enabled in async mode.<br>
+ * Every extension has got own client bundle because GWT packs all external text resources of a bundle into a single file,
+ * fetched at the first access to any of them, in order that enabling an extension downloads only the code of that extension.
+ * 
+ * @author Andrea "Stock" Stocchero
+ */
+public final class DeferredExtensions {
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private DeferredExtensions() {
+		// do nothing
+	}
+
+	/**
+	 * Client bundle to reference the <a href="https://github.com/emn178/chartjs-plugin-labels">labels plugin</a> in async mode.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 */
+	public interface Labels extends ClientBundle {
+
+		/**
+		 * Static reference to labels plugin java script source code, in async mode
+		 */
+		public static final Labels INSTANCE = GWT.create(Labels.class);
+
+		/**
+		 * Contains text representation of native chart <a href="https://github.com/emn178/chartjs-plugin-labels">labels
+		 * plugin</a> code.
+		 * 
+		 * @return chart <a href="https://github.com/emn178/chartjs-plugin-labels">labels plugin</a> code in async mode
+		 */
+		@Source("js/chartjs-plugin-labels.min.js")
+		ExternalTextResource labelsPlugin();
+
+	}
+
+	/**
+	 * Client bundle to reference the <a href="https://github.com/chartjs/chartjs-plugin-datalabels">datalabels plugin</a> in
+	 * async mode.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 */
+	public interface DataLabels extends ClientBundle {
+
+		/**
+		 * Static reference to datalabels plugin java script source code, in async mode
+		 */
+		public static final DataLabels INSTANCE = GWT.create(DataLabels.class);
+
+		/**
+		 * Contains text representation of native chart <a href="https://github.com/chartjs/chartjs-plugin-datalabels">datalabels
+		 * plugin</a> code.
+		 * 
+		 * @return chart <a href="https://github.com/chartjs/chartjs-plugin-datalabels">datalabels plugin</a> code in async mode
+		 */
+		@Source("js/chartjs-plugin-datalabels.min.js")
+		ExternalTextResource datalabelsPlugin();
+
+	}
+
+	/**
+	 * Client bundle to reference the <a href="https://github.com/chartjs/chartjs-plugin-zoom">zoom plugin</a> and the
+	 * <a href="https://github.com/hammerjs/hammer.js">hammer</a> library, needed by zoom plugin, in async mode.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 */
+	public interface Zoom extends ClientBundle {
+
+		/**
+		 * Static reference to zoom plugin and hammer library java script source code, in async mode
+		 */
+		public static final Zoom INSTANCE = GWT.create(Zoom.class);
+
+		/**
+		 * Contains text representation of native chart <a href="https://github.com/chartjs/chartjs-plugin-zoom">zoom plugin</a>
+		 * code.
+		 * 
+		 * @return chart <a href="https://github.com/chartjs/chartjs-plugin-zoom">zoom plugin</a> code in async mode
+		 */
+		@Source("js/chartjs-plugin-zoom.min.js")
+		ExternalTextResource zoomPlugin();
+
+		/**
+		 * Contains text representation of native javascript utility <a href="https://github.com/hammerjs/hammer.js">hammer</a>
+		 * code.
+		 * 
+		 * @return javascript utility <a href="https://github.com/hammerjs/hammer.js">hammer</a> code in async mode
+		 */
+		@Source("js/hammer.min.js")
+		ExternalTextResource hammerLibrary();
+
+	}
+
+	/**
+	 * Client bundle to reference the <a href="https://github.com/chartjs/chartjs-plugin-annotation">annotation plugin</a> in
+	 * async mode.
+	 * 
+	 * @author Andrea "Stock" Stocchero
+	 */
+	public interface Annotation extends ClientBundle {
+
+		/**
+		 * Static reference to annotation plugin java script source code, in async mode
+		 */
+		public static final Annotation INSTANCE = GWT.create(Annotation.class);
+
+		/**
+		 * Contains text representation of native chart <a href="https://github.com/chartjs/chartjs-plugin-annotation">annotation
+		 * plugin</a> code.
+		 * 
+		 * @return chart <a href="https://github.com/chartjs/chartjs-plugin-annotation">annotation plugin</a> code in async mode
+		 */
+		@Source("js/chartjs-plugin-annotation.min.js")
+		ExternalTextResource annotationPlugin();
+
+	}
+
+}
@@ -0,0 +1,122 @@
+/**
+    Copyright 2017 Andrea "Stock" Stocchero
+
+    Licensed under the Apache License, Version 2.0 (the "License");
+    you may not use this file except in compliance with the License.
+    You may obtain a copy of the License at
+
+	    http://www.apache.org/licenses/LICENSE-2.0
+
+    Unless required by applicable law or agreed to in writing, software
+    distributed under the License is distributed on an "AS IS" BASIS,
+    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+    See the License for the specific language governing permissions and
+    limitations under the License.
+*/
+package org.pepstock.charba.client.resources;
+
+import org.pepstock.charba.client.Injector;
+
+import com.google.gwt.resources.client.ExternalTextResource;
+import com.google.gwt.resources.client.ResourceCallback;
+import com.google.gwt.resources.client.ResourceException;
+import com.google.gwt.resources.client.TextResource;
+
+/**
+ * Utility to load and inject in async mode the extensions defined in the client bundles of {@link DeferredExtensions}.<br>
+ * The resources are loaded and injected sequentially, in the order they are passed, and only when all of them have been
+ * injected, the callback is invoked.<br>
+ * This is used by plugins to be enabled in async mode, within a GWT split point, in order that the code of the extensions is
+ * not part of the initial download of the GWT application.
+ * 
+ * @author Andrea "Stock" Stocchero
+ *
+ */
+public final class DeferredExtensionsLoader {
+
+	/**
+	 * To avoid any instantiation
+	 */
+	private DeferredExtensionsLoader() {
+		// do nothing
+	}
+
+	/**
+	 * Loads and injects the passed resources in async mode, sequentially, and invokes the callback when all resources have been
+	 * injected.
+	 * 
+	 * @param callback the callback to invoke when all resources have been injected
+	 * @param resources the list of resources to load and inject, in the order they must be injected
+	 */
+	public static void load(Runnable callback, ExternalTextResource... resources) {
+		// checks if the callback is consistent
+		if (callback == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Callback argument is null");
+		}
+		// checks if the resources are consistent
+		if (resources == null || resources.length == 0) {
+			// if not, exception
+			throw new IllegalArgumentException("Resources argument is null or empty");
+		}
+		// starts loading from the first resource
+		load(callback, resources, 0);
+	}
+
+	/**
+	 * Loads and injects the resource at the passed index and then continues with the next one, or invokes the callback if it
+	 * was the last one.
+	 * 
+	 * @param callback the callback to invoke when all resources have been injected
+	 * @param resources the list of resources to load and inject
+	 * @param index the index of the resource to load and inject
+	 */
+	private static void load(final Runnable callback, final ExternalTextResource[] resources, final int index) {
+		// checks if all resources have been injected
+		if (index >= resources.length) {
+			// executes the callback
+			callback.run();
+			return;
+		}
+		// gets the resource to load
+		final ExternalTextResource resource = resources[index];
+		// checks if resource is consistent
+		if (resource == null) {
+			// if not, exception
+			throw new IllegalArgumentException("Resource at index " + index + " is null");
+		}
+		try {
+			// loads the resource in async
+			resource.getText(new ResourceCallback<TextResource>() {
+
+				/*
+				 * (non-Javadoc)
+				 * 
+				 * @see
+				 * com.google.gwt.resources.client.ResourceCallback#onError(com.google.gwt.resources.client.ResourceException)
+				 */
+				@Override
+				public void onError(ResourceException e) {
+					throw new ResourceLoadException("Unable to load " + resource.getName() + " resource", e);
+				}
+
+				/*
+				 * (non-Javadoc)
+				 * 
+				 * @see
+				 * com.google.gwt.resources.client.ResourceCallback#onSuccess(com.google.gwt.resources.client.ResourcePrototype)
+				 */
+				@Override
+				public void onSuccess(TextResource loadedResource) {
+					// injects the resource
+					Injector.ensureInjected(loadedResource);
+					// continues with the next resource
+					load(callback, resources, index + 1);
+				}
+			});
+		} catch (ResourceException e) {
+			// if here, there is an error on resource callback
+			throw new ResourceLoadException("Unable to load " + resource.getName() + " resource", e);
+		}
+	}
+}
@@ -31,7 +31,7 @@ public final class ResourceLoadException extends RuntimeException {
 	 * @param message description of exception
 	 * @param cause cause of the exception
 	 */
-	ResourceLoadException(String message, Throwable cause) {
+	public ResourceLoadException(String message, Throwable cause) {
 		super(message, cause);
 	}
 }
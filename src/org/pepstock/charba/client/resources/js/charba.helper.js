@@ -94,6 +94,88 @@
     CharbaJsHelper.propertyAsInt = function(obj, key) {
     	return obj[key];
     }  
+    /*
+	 Returns a property of java script object as boolean.
+	  
+	 @param obj the object on which to define the property.
+	 @param key the string name of the property to be defined or modified..
+	 @return boolean value
+	*/
+    CharbaJsHelper.propertyAsBoolean = function(obj, key) {
+    	return obj[key];
+    }
+    /*
+	 Returns a property of java script object as object, without any conversion.
+	  
+	 @param obj the object on which to define the property.
+	 @param key the string name of the property to be defined or modified..
+	 @return object value
+	*/
+    CharbaJsHelper.propertyAsObject = function(obj, key) {
+    	return obj[key];
+    }
+    /*
+	 Sets a property of java script object by a plain assignment, without any property descriptor.
+	  
+	 @param obj the object on which to define the property.
+	 @param key the string name of the property to be defined or modified..
+	 @param value the value to be stored
+	*/
+    CharbaJsHelper.setProperty = function(obj, key, value) {
+    	obj[key] = value;
+    }
+    /*
+	 Returns the element of an array at a specific index.
+	  
+	 @param array the array on which to get the element.
+	 @param index the index of the element to be returned.
+	 @return the element at the given index
+    */
+    CharbaJsHelper.elementAt = function(array, index) {
+    	return array[index];
+    }
+    /*
+	 Sets the element of an array at a specific index.
+	  
+	 @param array the array on which to set the element.
+	 @param index the index of the element to be set.
+	 @param value the value to be stored
+    */
+    CharbaJsHelper.setElementAt = function(array, index, value) {
+    	array[index] = value;
+    }
+    /*
+	 Copies all elements of source array into the target one, setting the length of the target to the length of the source.
+	  
+	 @param source the array from which the elements are copied.
+	 @param target the array to which the elements are copied.
+    */
+    CharbaJsHelper.copy = function(source, target) {
+    	target.length = source.length;
+    	for (var i = 0; i < source.length; i++) {
+    		target[i] = source[i];
+    	}
+    }
+    /*
+	 Appends all elements of source array to the end of the target one and then removes the oldest elements 
+	 of the target, by a single splice, in order to have a length not greater than the window size.
+	  
+	 @param target the array to which the elements are appended.
+	 @param source the array from which the elements are appended.
+	 @param windowSize the maximum length of the target array. If 0 or negative, no element is removed.
+	 @return the amount of removed elements
+	*/
+    CharbaJsHelper.slide = function(target, source, windowSize) {
+    	for (var i = 0; i < source.length; i++) {
+    		target.push(source[i]);
+    	}
+    	var exceeding = target.length - windowSize;
+    	if (windowSize > 0 && exceeding > 0) {
+    		target.splice(0, exceeding);
+    		return exceeding;
+    	}
+    	return 0;
+    }
     /*
 	 Sets the line dash pattern used when stroking lines. It uses an array of values that specify alternating lengths of lines
 	 and gaps which describe the pattern.
@@ -404,6 +486,76 @@
     CharbaJsHtmlLegendBuilderHelper.removeEventListener = function(event, element, proxy) {
     	element.removeEventListener(event, proxy);
     }
+    /*
+		JsHitTestHelpers is an object with a set of static methods used as utility
+		and needed to index the elements of a chart by ChartPointer plugin.   
+	*/
+    function CharbaJsHitTestHelper() {}
+    /*
+	 Returns the amount of data elements of the visible datasets of the chart.
+	  
+	 @param chart chart instance
+	 @return the amount of data elements of the visible datasets of the chart
+    */
+    CharbaJsHitTestHelper.count = function(chart) {
+    	var count = 0;
+    	var datasets = chart.data != null && chart.data.datasets != null ? chart.data.datasets : [];
+    	for (var i = 0; i < datasets.length; i++) {
+    		if (chart.isDatasetVisible(i)) {
+    			count += chart.getDatasetMeta(i).data.length;
+    		}
+    	}
+    	return count;
+    }
+    /*
+	 Copies the bounds (left, top, right and bottom) of the data elements of the visible datasets of the chart 
+	 into the array passed as argument, as they are at the end of the animation.
+	 The bounds contain the area where the element is hit (point with hit radius, bar or arc).
+	  
+	 @param chart chart instance
+	 @param bounds array to fill with 4 values for each element
+	 @return the amount of elements stored into the array
+    */
+    CharbaJsHitTestHelper.bounds = function(chart, bounds) {
+    	var count = 0;
+    	var datasets = chart.data != null && chart.data.datasets != null ? chart.data.datasets : [];
+    	for (var i = 0; i < datasets.length; i++) {
+    		if (chart.isDatasetVisible(i)) {
+    			var elements = chart.getDatasetMeta(i).data;
+    			for (var j = 0; j < elements.length && count * 4 < bounds.length; j++) {
+    				var model = elements[j]._model;
+    				if (model == null || model.skip || isNaN(model.x) || isNaN(model.y)) {
+    					continue;
+    				}
+    				var index = count * 4;
+    				if (model.outerRadius !== undefined) {
+    					bounds[index] = model.x - model.outerRadius;
+    					bounds[index + 1] = model.y - model.outerRadius;
+    					bounds[index + 2] = model.x + model.outerRadius;
+    					bounds[index + 3] = model.y + model.outerRadius;
+    				} else if (model.width !== undefined) {
+    					bounds[index] = model.x - model.width / 2;
+    					bounds[index + 1] = Math.min(model.y, model.base);
+    					bounds[index + 2] = model.x + model.width / 2;
+    					bounds[index + 3] = Math.max(model.y, model.base);
+    				} else if (model.height !== undefined) {
+    					bounds[index] = Math.min(model.x, model.base);
+    					bounds[index + 1] = model.y - model.height / 2;
+    					bounds[index + 2] = Math.max(model.x, model.base);
+    					bounds[index + 3] = model.y + model.height / 2;
+    				} else {
+    					var radius = (model.radius || 0) + (model.hitRadius || 0);
+    					bounds[index] = model.x - radius;
+    					bounds[index + 1] = model.y - radius;
+    					bounds[index + 2] = model.x + radius;
+    					bounds[index + 3] = model.y + radius;
+    				}
+    				count++;
+    			}
+    		}
+    	}
+    	return count;
+    }
     /*
 		JsZoomHelpers is an object with a set of static methods used as utility
 		and needed when ZOOM plugin has been activated.   
@@ -453,5 +605,162 @@
     */
     CharbaJsItemsHelper.nativeEvent = function(obj, key) {
     	return obj[key];
+    }
+    /*
+	 Returns true if the content of the tooltip models, the text of title, body and footer, the label colors and the display
+	 of colors, is the same. The colors are compared by value when they are strings and by instance when they are
+	 CanvasGradient or CanvasPattern, because the content of those objects can not be read.
+	 The same model instance is never considered the same content because it could have been changed in place.
+	  
+	 @param model tooltip model to check
+	 @param previous tooltip model of the previous update
+	 @return true if the content of the tooltip models is the same
+    */
+    CharbaJsItemsHelper.sameTooltipContent = function(model, previous) {
+    	if (model === previous || model.displayColors !== previous.displayColors) {
+    		return false;
+    	}
+    	if (!CharbaJsItemsHelper.sameStrings(model.title, previous.title) || !CharbaJsItemsHelper.sameStrings(model.beforeBody, previous.beforeBody) || 
+    			!CharbaJsItemsHelper.sameStrings(model.afterBody, previous.afterBody) || !CharbaJsItemsHelper.sameStrings(model.footer, previous.footer)) {
+    		return false;
+    	}
+    	var body = model.body || [];
+    	var previousBody = previous.body || [];
+    	if (body.length !== previousBody.length) {
+    		return false;
+    	}
+    	for (var i = 0; i < body.length; i++) {
+    		if (!CharbaJsItemsHelper.sameStrings(body[i].before, previousBody[i].before) || !CharbaJsItemsHelper.sameStrings(body[i].lines, previousBody[i].lines) || 
+    				!CharbaJsItemsHelper.sameStrings(body[i].after, previousBody[i].after)) {
+    			return false;
+    		}
+    	}
+    	var colors = model.labelColors || [];
+    	var previousColors = previous.labelColors || [];
+    	if (colors.length !== previousColors.length) {
+    		return false;
+    	}
+    	for (var i = 0; i < colors.length; i++) {
+    		if (colors[i].backgroundColor !== previousColors[i].backgroundColor || colors[i].borderColor !== previousColors[i].borderColor) {
+    			return false;
+    		}
+    	}
+    	return true;
+    }
+    /*
+	 Returns true if the arrays of strings have got the same items, in the same order.
+	 Missing arrays are considered empty.
+	  
+	 @param items array of strings to check
+	 @param previous array of strings to compare
+	 @return true if the arrays of strings have got the same items
+    */
+    CharbaJsItemsHelper.sameStrings = function(items, previous) {
+    	var current = items || [];
+    	var other = previous || [];
+    	if (current.length !== other.length) {
+    		return false;
+    	}
+    	for (var i = 0; i < current.length; i++) {
+    		if (current[i] !== other[i]) {
+    			return false;
+    		}
+    	}
+    	return true;
+    }      
+    /*
+		JsDataHelpers is an object with a set of static methods used as utility
+		and needed to act with CHARBA data and datasets.   
+	*/
+    function CharbaJsDataHelper() {} 
+    /*
+	 Creates an array of data points, in one pass, by the arrays of values passed as arguments.
+	  
+	 @param x array of X values
+	 @param y array of Y values
+	 @param r array of radius values, can be null
+	 @return an array of data points
+    */
+    CharbaJsDataHelper.dataPoints = function(x, y, r) {
+    	var result = new Array(x.length);
+    	for (var i = 0; i < x.length; i++) {
+    		var point = {x: x[i], y: y[i]};
+    		if (r != null) {
+    			point.r = r[i];
+    		}
+    		result[i] = point;
+    	}
+    	return result;
+    } 
+    /*
+	 Creates an array of time series items, in one pass, by the arrays of values passed as arguments.
+	  
+	 @param times array of times, as epoch milliseconds
+	 @param values array of values
+	 @return an array of time series items
+    */
+    CharbaJsDataHelper.timeSeriesItems = function(times, values) {
+    	var result = new Array(times.length);
+    	for (var i = 0; i < times.length; i++) {
+    		result[i] = {t: new Date(times[i]), y: values[i]};
+    	}
+    	return result;
+    }
+    /*
+	 Copies X (or time, as epoch milliseconds) and Y values of an array of data points into the arrays passed as arguments.
+	  
+	 @param data array of data points or time series items
+	 @param x array to fill with X values or times, as epoch milliseconds
+	 @param y array to fill with Y values
+	 @return true if the data are time series items
+    */
+    CharbaJsDataHelper.columns = function(data, x, y) {
+    	var timeSeries = data.length > 0 && data[0].t != null;
+    	for (var i = 0; i < data.length; i++) {
+    		var point = data[i];
+    		x[i] = timeSeries ? new Date(point.t).getTime() : point.x;
+    		y[i] = point.y;
+    	}
+    	return timeSeries;
+    }
+    /*
+	 Copies the minimum and maximum values, explicitly set by configuration or by zoom plugin, of a scale into the array 
+	 passed as argument. If not set, NaN is stored.
+	  
+	 @param chart chart instance
+	 @param scaleId id of the scale
+	 @param range array of 2 elements to fill with minimum and maximum values
+    */
+    CharbaJsDataHelper.range = function(chart, scaleId, range) {
+    	range[0] = NaN;
+    	range[1] = NaN;
+    	var scale = chart.scales != null ? chart.scales[scaleId] : null;
+    	if (scale != null && scale.options != null) {
+    		var ticks = scale.options.ticks || {};
+    		var time = scale.options.time || {};
+    		var min = ticks.min != null ? ticks.min : time.min;
+    		var max = ticks.max != null ? ticks.max : time.max;
+    		if (min != null) {
+    			range[0] = typeof min === 'number' ? min : new Date(min).getTime();
+    		}
+    		if (max != null) {
+    			range[1] = typeof max === 'number' ? max : new Date(max).getTime();
+    		}
+    	}
+    }      
+    /*
+		JsPluginsHelpers is an object with a set of static methods used as utility
+		and needed to act with CHARBA plugins.   
+	*/
+    function CharbaJsPluginsHelper() {} 
+    /*
+	 Unsubscribes a plugin from a hook, setting the hook property of the plugin instance to undefined.
+	 In this way the method of the plugin prototype is hidden and CHART.JS will not invoke it.
+	  
+	 @param plugin native plugin instance
+	 @param hook name of the hook to unsubscribe
+    */
+    CharbaJsPluginsHelper.unsubscribe = function(plugin, hook) {
+    	plugin[hook] = undefined;
     }      
     
\ No newline at end of file